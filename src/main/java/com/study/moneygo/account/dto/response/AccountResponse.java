@@ -20,10 +20,14 @@ public class AccountResponse {
     private LocalDateTime createdAt;
 
     public static AccountResponse of(Account account) {
+        return of(account, account.getBalance());
+    }
+
+    public static AccountResponse of(Account account, BigDecimal balance) {
         return AccountResponse.builder()
                 .accountId(account.getId())
                 .accountNumber(account.getAccountNumber())
-                .balance(account.getBalance())
+                .balance(balance)
                 .status(account.getStatus().name())
                 .createdAt(account.getCreatedAt())
                 .build();
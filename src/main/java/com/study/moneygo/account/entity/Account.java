@@ -35,6 +35,9 @@ public class Account extends BaseEntity {
     @Column(nullable = false, length = 20)
     private AccountStatus status = AccountStatus.ACTIVE;
 
+    @Column(name = "hot_account", nullable = false, columnDefinition = "boolean default false")
+    private boolean hotAccount; // 핫 계좌 여부 (입금을 입금 저널에 적립)
+
     @Version
     private Long version; // 낙관적 락
 
@@ -83,6 +86,14 @@ public class Account extends BaseEntity {
         return this.status == AccountStatus.ACTIVE;
     }
 
+    public void enableHotAccount() {
+        this.hotAccount = true;
+    }
+
+    public void disableHotAccount() {
+        this.hotAccount = false;
+    }
+
     public enum AccountStatus {
         ACTIVE,
         FROZEN,
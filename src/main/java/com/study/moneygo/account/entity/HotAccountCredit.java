@@ -0,0 +1,36 @@
+package com.study.moneygo.account.entity;
+
+import com.study.moneygo.util.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 핫 계좌 입금 기록 (INSERT 전용 저널)
+ * 입금마다 행을 하나 추가하고, 합산 작업이 합계를 Account.balance로 옮긴 뒤 삭제한다.
+ *
+ * account_id에 FK를 두지 않는다. FK 검사는 계좌 행에 KEY SHARE 잠금을 걸어
+ * 해당 계좌를 FOR UPDATE로 잠근 트랜잭션과 대기 관계가 생기기 때문이다.
+ */
+@Entity
+@Table(name = "hot_account_credits",
+        indexes = @Index(name = "idx_hot_account_credit_account", columnList = "account_id"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HotAccountCredit extends BaseEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal amount;
+}
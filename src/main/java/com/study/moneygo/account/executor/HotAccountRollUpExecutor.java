@@ -0,0 +1,37 @@
+package com.study.moneygo.account.executor;
+
+import com.study.moneygo.account.repository.HotAccountCreditRepository;
+import com.study.moneygo.account.service.HotAccountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotAccountRollUpExecutor {
+
+    private final HotAccountCreditRepository creditRepository;
+    private final HotAccountService hotAccountService;
+
+    // 핫 계좌 입금 저널을 주기적으로 계좌 잔액에 합산 (기본 5초)
+    @Scheduled(fixedDelayString = "${moneygo.hot-account.roll-up-interval-ms:5000}")
+    public void rollUpHotAccounts() {
+        try {
+            List<Long> accountIds = creditRepository.findAccountIdsWithPending();
+
+            for (Long accountId : accountIds) {
+                try {
+                    hotAccountService.rollUp(accountId);
+                } catch (Exception e) {
+                    log.error("핫 계좌 합산 중 오류 발생: accountId={}, error={}", accountId, e.getMessage(), e);
+                }
+            }
+        } catch (Exception e) {
+            log.error("핫 계좌 합산 스케줄러 실행 중 오류 발생", e);
+        }
+    }
+}
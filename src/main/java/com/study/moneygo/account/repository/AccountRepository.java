@@ -4,10 +4,14 @@ import com.study.moneygo.account.entity.Account;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -19,6 +23,23 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
 
     boolean existsByAccountNumber(String accountNumber);
 
+    // 로그인용: 계좌 + 사용자를 한 번의 쿼리로 조회
+    @Query("SELECT a FROM Account a JOIN FETCH a.user u WHERE u.email = :email")
+    Optional<Account> findWithUserByEmail(@Param("email") String email);
+
+    @Query("SELECT a.id FROM Account a WHERE a.user.id = :userId")
+    Optional<Long> findIdByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT a.id FROM Account a WHERE a.accountNumber = :accountNumber")
+    Optional<Long> findIdByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    @Query("SELECT a.accountNumber FROM Account a WHERE a.id = :accountId")
+    Optional<String> findAccountNumberById(@Param("accountId") Long accountId);
+
+    // 계좌번호 → 계좌 ID 일괄 조회 (Lock 없음) [accountNumber, id]
+    @Query("SELECT a.accountNumber, a.id FROM Account a WHERE a.accountNumber IN :accountNumbers")
+    List<Object[]> findIdsByAccountNumberIn(@Param("accountNumbers") Collection<String> accountNumbers);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT a FROM Account a WHERE a.id = :id")
     Optional<Account> findByIdForUpdate(@Param("id") Long id);
@@ -30,4 +51,35 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT a FROM Account a WHERE a.user.id = :userId")
     Optional<Account> findByUserIdForUpdate(@Param("userId") Long userId);
+
+    // 여러 계좌를 id 오름차순으로 한 번에 잠금 (교차 송금 데드락 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.id IN :ids ORDER BY a.id")
+    List<Account> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    // 여러 계좌 조회 (Lock 없음, OPTIMISTIC_RETRY 모드)
+    List<Account> findAllByIdInOrderByIdAsc(Collection<Long> ids);
+
+    @Query("SELECT a.balance FROM Account a WHERE a.id = :id")
+    Optional<BigDecimal> findBalanceById(@Param("id") Long id);
+
+    @Query("SELECT a.hotAccount FROM Account a WHERE a.id = :id")
+    Optional<Boolean> findHotAccountById(@Param("id") Long id);
+
+    @Query("SELECT a.status FROM Account a WHERE a.id = :id")
+    Optional<Account.AccountStatus> findStatusById(@Param("id") Long id);
+
+    // 조건부 출금 (활성 계좌 + 잔액 충분할 때만 차감, 한 문장으로 처리)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Account a SET a.balance = a.balance - :amount, a.version = a.version + 1, " +
+            "a.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE a.id = :id AND a.status = 'ACTIVE' AND a.balance >= :amount")
+    int debitIfSufficient(@Param("id") Long id, @Param("amount") BigDecimal amount);
+
+    // 입금 (활성 계좌에만 증가)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Account a SET a.balance = a.balance + :amount, a.version = a.version + 1, " +
+            "a.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE a.id = :id AND a.status = 'ACTIVE'")
+    int creditIfActive(@Param("id") Long id, @Param("amount") BigDecimal amount);
 }
@@ -0,0 +1,41 @@
+package com.study.moneygo.account.repository;
+
+import com.study.moneygo.account.entity.HotAccountCredit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface HotAccountCreditRepository extends JpaRepository<HotAccountCredit, Long> {
+
+    // 입금 기록 추가 (기존 행을 갱신하지 않으므로 어떤 행도 잠그지 않음)
+    @Modifying
+    @Query(value = "INSERT INTO hot_account_credits (account_id, amount, created_at, updated_at) " +
+            "VALUES (:accountId, :amount, now(), now())", nativeQuery = true)
+    int append(@Param("accountId") Long accountId, @Param("amount") BigDecimal amount);
+
+    // 아직 합산되지 않은 입금 총액
+    @Query("SELECT COALESCE(SUM(c.amount), 0) FROM HotAccountCredit c WHERE c.accountId = :accountId")
+    BigDecimal sumPendingByAccountId(@Param("accountId") Long accountId);
+
+    /**
+     * 지금 보이는 입금 기록을 삭제하고 그 합계를 반환 (한 문장으로 처리)
+     * 아직 커밋되지 않은 입금은 보이지 않으므로 삭제되지 않고 다음 합산에 포함된다.
+     */
+    @Query(value = """
+            WITH drained AS (
+                DELETE FROM hot_account_credits WHERE account_id = :accountId RETURNING amount
+            )
+            SELECT COALESCE(SUM(amount), 0) FROM drained
+            """, nativeQuery = true)
+    BigDecimal drain(@Param("accountId") Long accountId);
+
+    // 합산 대기 중인 입금이 있는 계좌 목록
+    @Query("SELECT DISTINCT c.accountId FROM HotAccountCredit c")
+    List<Long> findAccountIdsWithPending();
+}
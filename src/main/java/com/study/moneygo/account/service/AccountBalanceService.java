@@ -0,0 +1,102 @@
+package com.study.moneygo.account.service;
+
+import com.study.moneygo.account.entity.Account;
+import com.study.moneygo.account.repository.AccountRepository;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+/**
+ * 조건부 UPDATE 기반 잔액 변경 (CONDITIONAL_UPDATE 모드)
+ * SELECT ... FOR UPDATE 없이 UPDATE 한 문장으로 잔액 검증과 차감을 동시에 처리한다.
+ */
+@Slf4j
+@Service
+public class AccountBalanceService {
+
+    private final AccountRepository accountRepository;
+    private final HotAccountService hotAccountService;
+    @Getter
+    private final AccountConcurrencyStrategy strategy;
+
+    public AccountBalanceService(
+            AccountRepository accountRepository,
+            HotAccountService hotAccountService,
+            @Value("${moneygo.account.concurrency-strategy:PESSIMISTIC}") AccountConcurrencyStrategy strategy
+    ) {
+        this.accountRepository = accountRepository;
+        this.hotAccountService = hotAccountService;
+        this.strategy = strategy;
+        log.info("계좌 동시성 제어 방식: {}", strategy);
+    }
+
+    public boolean isConditionalUpdate() {
+        return strategy == AccountConcurrencyStrategy.CONDITIONAL_UPDATE;
+    }
+
+    public boolean isOptimisticRetry() {
+        return strategy == AccountConcurrencyStrategy.OPTIMISTIC_RETRY;
+    }
+
+    /**
+     * 계좌 간 이체 (조건부 UPDATE)
+     * 행 잠금 순서를 id 오름차순으로 맞춰 교차 이체 시 데드락을 방지한다.
+     * 어느 한쪽이라도 실패하면 예외가 발생하고 트랜잭션 전체가 롤백된다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void transfer(Long fromAccountId, Long toAccountId, BigDecimal amount) {
+        if (fromAccountId < toAccountId) {
+            debit(fromAccountId, amount);
+            credit(toAccountId, amount);
+        } else {
+            credit(toAccountId, amount);
+            debit(fromAccountId, amount);
+        }
+    }
+
+    /**
+     * 출금: 활성 계좌이고 잔액이 충분할 때만 차감
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void debit(Long accountId, BigDecimal amount) {
+        if (accountRepository.debitIfSufficient(accountId, amount) == 1) {
+            return;
+        }
+        // 실패 원인 구분 (실패 시에만 조회)
+        Account.AccountStatus status = accountRepository.findStatusById(accountId)
+                .orElseThrow(() -> new IllegalStateException("계좌 정보를 찾을 수 없습니다."));
+        if (status != Account.AccountStatus.ACTIVE) {
+            throw new IllegalStateException("송금 가능한 계좌 상태가 아닙니다.");
+        }
+        // 핫 계좌면 합산 대기 금액을 반영한 뒤 한 번 더 시도
+        if (hotAccountService.isHotAccount(accountId)
+                && hotAccountService.rollUp(accountId).compareTo(BigDecimal.ZERO) > 0
+                && accountRepository.debitIfSufficient(accountId, amount) == 1) {
+            return;
+        }
+        throw new IllegalArgumentException("잔액이 부족합니다.");
+    }
+
+    /**
+     * 입금: 활성 계좌에만 증가
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void credit(Long accountId, BigDecimal amount) {
+        if (accountRepository.creditIfActive(accountId, amount) != 1) {
+            throw new IllegalArgumentException("받는 계좌가 활성 상태가 아닙니다.");
+        }
+    }
+
+    /**
+     * 현재 잔액 조회 (영속성 컨텍스트를 거치지 않는 스칼라 조회)
+     */
+    public BigDecimal getBalance(Long accountId) {
+        return accountRepository.findBalanceById(accountId)
+                .orElseThrow(() -> new IllegalStateException("계좌 정보를 찾을 수 없습니다."));
+    }
+}
@@ -0,0 +1,11 @@
+package com.study.moneygo.account.service;
+
+/**
+ * 계좌 잔액 변경 시 동시성 제어 방식
+ * 설정 키: moneygo.account.concurrency-strategy
+ */
+public enum AccountConcurrencyStrategy {
+    PESSIMISTIC,        // SELECT ... FOR UPDATE 후 엔티티 변경 (기본값)
+    CONDITIONAL_UPDATE, // 조건부 UPDATE 한 문장으로 출금/입금 (행 잠금 시간 최소화)
+    OPTIMISTIC_RETRY    // Lock 없이 조회 후 @Version 충돌 시 트랜잭션 전체 재시도
+}
@@ -0,0 +1,95 @@
+package com.study.moneygo.account.service;
+
+import com.study.moneygo.account.entity.Account;
+import com.study.moneygo.account.repository.AccountRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 두 개 이상의 계좌를 움직이는 작업의 계좌 잠금을 담당
+ * 계좌 id를 먼저 확인한 뒤 항상 id 오름차순으로 한 번에 잠가서
+ * A→B, B→A 송금이 동시에 들어와도 데드락이 나지 않도록 한다.
+ *
+ * OPTIMISTIC_RETRY 모드에서는 잠그지 않고 조회만 하며,
+ * 충돌은 커밋 시 @Version 검사로 감지해 AccountTransactionExecutor가 재시도한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountLockService {
+
+    private final AccountRepository accountRepository;
+    private final AccountBalanceService accountBalanceService;
+
+    /**
+     * 단일 계좌 잠금 (비관적 Lock)
+     * @param accountId 계좌 ID
+     * @return 잠긴 계좌
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Account lock(Long accountId) {
+        if (accountBalanceService.isOptimisticRetry()) {
+            return accountRepository.findById(accountId)
+                    .orElseThrow(() -> new IllegalStateException("계좌 정보를 찾을 수 없습니다."));
+        }
+        return accountRepository.findByIdForUpdate(accountId)
+                .orElseThrow(() -> new IllegalStateException("계좌 정보를 찾을 수 없습니다."));
+    }
+
+    /**
+     * 보내는 계좌와 받는 계좌를 id 순서대로 잠금 (비관적 Lock)
+     * @param fromAccountId 출금 계좌 ID
+     * @param toAccountId 입금 계좌 ID
+     * @return 잠긴 계좌 쌍
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public AccountPair lockPair(Long fromAccountId, Long toAccountId) {
+        Map<Long, Account> lockedAccounts = lockAll(List.of(fromAccountId, toAccountId));
+
+        Account fromAccount = lockedAccounts.get(fromAccountId);
+        if (fromAccount == null) {
+            throw new IllegalStateException("계좌 정보를 찾을 수 없습니다.");
+        }
+        Account toAccount = lockedAccounts.get(toAccountId);
+        if (toAccount == null) {
+            throw new IllegalArgumentException("받는 계좌를 찾을 수 없습니다.");
+        }
+        return new AccountPair(fromAccount, toAccount);
+    }
+
+    /**
+     * 여러 계좌를 id 오름차순으로 한 번의 쿼리로 잠금 (비관적 Lock)
+     * @param accountIds 잠글 계좌 ID 목록 (순서 무관, 중복 허용)
+     * @return 계좌 ID → 잠긴 계좌
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Map<Long, Account> lockAll(Collection<Long> accountIds) {
+        List<Long> sortedIds = accountIds.stream()
+                .distinct()
+                .sorted()
+                .toList();
+
+        List<Account> accounts = accountBalanceService.isOptimisticRetry()
+                ? accountRepository.findAllByIdInOrderByIdAsc(sortedIds)
+                : accountRepository.findAllByIdInForUpdate(sortedIds);
+
+        return accounts.stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class AccountPair {
+        private final Account from;
+        private final Account to;
+    }
+}
@@ -0,0 +1,108 @@
+package com.study.moneygo.account.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 같은 계좌에 대한 요청을 JVM 안에서 먼저 줄 세움 (계좌 ID 기준 분할 Lock)
+ * DB 커넥션을 빌리기 전에 대기시켜, 같은 계좌 요청들이 커넥션을 잡은 채
+ * FOR UPDATE 대기열에 쌓이면서 다른 요청이 커넥션을 못 얻는 상황을 막는다.
+ *
+ * 서버가 여러 대면 서버 간 직렬화는 여전히 DB 행 잠금이 담당한다.
+ * 여러 계좌를 잡을 때는 분할 번호 오름차순으로 잠가 데드락을 방지한다.
+ */
+@Slf4j
+@Component
+public class AccountRequestSerializer {
+
+    private final boolean enabled;
+    private final ReentrantLock[] stripes;
+    private final long waitTimeoutMillis;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Counter timeoutCounter;
+
+    public AccountRequestSerializer(
+            MeterRegistry meterRegistry,
+            @Value("${moneygo.account.serializer.enabled:true}") boolean enabled,
+            @Value("${moneygo.account.serializer.stripes:1024}") int stripeCount,
+            @Value("${moneygo.account.serializer.wait-timeout-ms:3000}") long waitTimeoutMillis
+    ) {
+        this.enabled = enabled;
+        this.stripes = new ReentrantLock[Math.max(1, stripeCount)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.waitTimeoutMillis = waitTimeoutMillis;
+
+        Gauge.builder("moneygo.account.serializer.queue.depth", waiting, AtomicInteger::get)
+                .description("계좌 Lock을 기다리는 요청 수")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("moneygo.account.serializer.timeouts")
+                .description("대기 시간 초과로 거절된 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 계좌별 Lock을 잡은 상태에서 작업 실행
+     * @param accountIds 작업이 변경하는 계좌 ID 목록 (순서 무관)
+     */
+    public <T> T execute(Collection<Long> accountIds, Supplier<T> action) {
+        if (!enabled) {
+            return action.get();
+        }
+
+        List<ReentrantLock> acquired = new ArrayList<>();
+        try {
+            acquireAll(accountIds, acquired);
+            return action.get();
+        } finally {
+            for (int i = acquired.size() - 1; i >= 0; i--) {
+                acquired.get(i).unlock();
+            }
+        }
+    }
+
+    private void acquireAll(Collection<Long> accountIds, List<ReentrantLock> acquired) {
+        int[] stripeIndexes = accountIds.stream()
+                .mapToInt(this::stripeIndex)
+                .distinct()
+                .sorted()
+                .toArray();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMillis);
+
+        waiting.incrementAndGet();
+        try {
+            for (int stripeIndex : stripeIndexes) {
+                ReentrantLock lock = stripes[stripeIndex];
+                long remaining = deadline - System.nanoTime();
+                if (!lock.tryLock(Math.max(0, remaining), TimeUnit.NANOSECONDS)) {
+                    timeoutCounter.increment();
+                    log.warn("계좌 Lock 대기 시간 초과: accountIds={}, timeoutMs={}", accountIds, waitTimeoutMillis);
+                    throw new IllegalStateException("요청이 많아 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
+                }
+                acquired.add(lock);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("요청 처리가 중단되었습니다.");
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    private int stripeIndex(Long accountId) {
+        return (int) Math.floorMod(Long.hashCode(accountId) * 0x9E3779B9L, (long) stripes.length);
+    }
+}
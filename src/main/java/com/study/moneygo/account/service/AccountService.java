@@ -7,20 +7,24 @@ import com.study.moneygo.account.entity.Account;
 import com.study.moneygo.transaction.entity.Transaction;
 import com.study.moneygo.account.repository.AccountRepository;
 import com.study.moneygo.transaction.repository.TransactionRepository;
+import com.study.moneygo.transaction.service.AccountEntryService;
 import com.study.moneygo.deposit.dto.request.SelfDepositRequest;
 import com.study.moneygo.deposit.dto.response.SelfDepositResponse;
 import com.study.moneygo.notification.service.NotificationService;
-import com.study.moneygo.simplepassword.service.SimplePasswordService;
+import com.study.moneygo.simplepassword.service.PaymentAuthorizationService;
 import com.study.moneygo.user.entity.User;
 import com.study.moneygo.user.repository.UserRepository;
+import com.study.moneygo.util.security.CurrentUserContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -31,20 +35,25 @@ public class AccountService {
 
     private final AccountRepository accountRepository;
     private final UserRepository userRepository;
+    private final CurrentUserContext currentUserContext;
     private final TransactionRepository transactionRepository;
-    private final SimplePasswordService simplePasswordService;
+    private final AccountEntryService accountEntryService;
+    private final PaymentAuthorizationService paymentAuthorizationService;
     private final NotificationService notificationService;
     private final PasswordEncoder passwordEncoder;
+    private final HotAccountService hotAccountService;
+    private final AccountLockService accountLockService;
+    private final AccountTransactionExecutor accountTransactionExecutor;
+    private final AccountRequestSerializer accountRequestSerializer;
 
     public AccountResponse getMyAccount() {
         String email = getCurrentUserEmail();
         System.out.println("======현재 인증된 이메일 : " + email + " =======");
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        Account account = accountRepository.findByUserId(user.getId())
+        Account account = accountRepository.findById(currentUserContext.getAccountId())
                 .orElseThrow(() -> new IllegalStateException("계좌 정보를 찾을 수 없습니다."));
 
-        return AccountResponse.of(account);
+        // 핫 계좌면 아직 합산되지 않은 입금 저널까지 포함
+        return AccountResponse.of(account, hotAccountService.getAvailableBalance(account));
     }
 
     public AccountOwnerResponse getAccountOwner(String accountNumber) {
@@ -53,15 +62,27 @@ public class AccountService {
         return AccountOwnerResponse.of(account.getAccountNumber(), account.getUser().getName());
     }
 
-    @Transactional
+    // 트랜잭션은 AccountTransactionExecutor가 시작 (OPTIMISTIC_RETRY 모드 재시도)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SelfDepositResponse selfDeposit(SelfDepositRequest request) {
-        String email = getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        Long userId = currentUserContext.getUserId();
+        Long accountId = currentUserContext.getAccountId();
 
-        simplePasswordService.verifySimplePasswordForUser(user.getId(), request.getSimplePassword());
-        Account account = accountRepository.findByUserIdForUpdate(user.getId())
-                .orElseThrow(() -> new IllegalStateException("계좌 정보를 찾을 수 없습니다."));
+        // 간편 비밀번호 / 결제 인증 토큰 확인 (계좌 Lock 전에 처리)
+        paymentAuthorizationService.verify(userId, request, request.getAmount());
+
+        // 같은 계좌 요청은 JVM 안에서 먼저 줄 세운 뒤 트랜잭션 시작
+        return accountRequestSerializer.execute(
+                List.of(accountId),
+                () -> accountTransactionExecutor.execute(() -> executeSelfDeposit(userId, accountId, request))
+        );
+    }
+
+    private SelfDepositResponse executeSelfDeposit(Long userId, Long accountId, SelfDepositRequest request) {
+        // 결제 인증 토큰 차감 (계좌 Lock 전, 입금이 롤백되면 함께 롤백)
+        paymentAuthorizationService.consume(userId, request, request.getAmount());
+
+        Account account = accountLockService.lock(accountId);
 
         // 계정 활성 상태 확인
         if (!account.isActive()) {
@@ -85,14 +106,16 @@ public class AccountService {
         transaction.complete();
 
         transactionRepository.save(transaction);
+        accountEntryService.record(transaction, null, account.getBalance());
         accountRepository.save(account);
 
         log.info("본인 계좌 입금 완료: userId={}, accountNumber={}, amount={}, balanceAfter={}",
-                user.getId(), account.getAccountNumber(), request.getAmount(), account.getBalance());
+                userId, account.getAccountNumber(), request.getAmount(), account.getBalance());
         try {
-            notificationService.createSelfDepositNotification(user, transaction);
+            // 알림은 사용자 FK만 필요하므로 조회 없이 참조만 사용
+            notificationService.createSelfDepositNotification(userRepository.getReferenceById(userId), transaction);
         } catch (Exception e) {
-            log.error("본인 입금 알림 생성 실패: userId={}, error={}", user.getId(), e.getMessage());
+            log.error("본인 입금 알림 생성 실패: userId={}, error={}", userId, e.getMessage());
         }
 
         return SelfDepositResponse.of(transaction, account.getBalance());
@@ -103,10 +126,8 @@ public class AccountService {
      */
     @Transactional
     public void lockAccount() {
-        String email = getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        Account account = accountRepository.findByUserId(user.getId())
+        Long userId = currentUserContext.getUserId();
+        Account account = accountRepository.findById(currentUserContext.getAccountId())
                 .orElseThrow(() -> new IllegalStateException("계좌 정보를 찾을 수 없습니다."));
 
         // 이미 잠겼으면
@@ -115,7 +136,7 @@ public class AccountService {
         account.freeze();
         accountRepository.save(account);
 
-        log.info("계좌 잠금 : userId={}, accountId={}", user.getId(), account.getId());
+        log.info("계좌 잠금 : userId={}, accountId={}", userId, account.getId());
     }
 
     /*
@@ -124,14 +145,13 @@ public class AccountService {
 
     @Transactional
     public void unlockAccount(AccountLockRequest request) {
-        String email = getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        // 비밀번호 확인에 사용자 엔티티가 필요
+        User user = currentUserContext.getUser();
         // 비밀번호 확인하기
         if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
             throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
         }
-        Account account = accountRepository.findByUserId(user.getId())
+        Account account = accountRepository.findById(currentUserContext.getAccountId())
                 .orElseThrow(() -> new IllegalStateException("계좌 정보를 찾을 수 없습니다."));
 
         // 이미 잠금 해제된 경우
@@ -147,13 +167,8 @@ public class AccountService {
     계좌 잠금 상태 조회
      */
     public boolean isAccountLocked() {
-        String email = getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        Account account = accountRepository.findByUserId(user.getId())
-                .orElseThrow(() -> new IllegalStateException("계좌 정보를 찾을 수 없습니다."));
-
-        return account.getStatus() == Account.AccountStatus.FROZEN;
+        return accountRepository.findStatusById(currentUserContext.getAccountId())
+                .orElseThrow(() -> new IllegalStateException("계좌 정보를 찾을 수 없습니다.")) == Account.AccountStatus.FROZEN;
     }
 
     private String getCurrentUserEmail() {
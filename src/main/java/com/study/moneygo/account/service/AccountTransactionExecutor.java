@@ -0,0 +1,108 @@
+package com.study.moneygo.account.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.StaleStateException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 계좌 잔액을 변경하는 트랜잭션 실행기
+ * OPTIMISTIC_RETRY 모드에서는 @Version 충돌이 나면 트랜잭션 전체를 새로 시작해
+ * 최대 max-attempts번까지 재시도한다. (지터를 섞은 지수 백오프)
+ * 다른 모드에서는 트랜잭션을 한 번 실행한다.
+ */
+@Slf4j
+@Component
+public class AccountTransactionExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+    private final AccountBalanceService accountBalanceService;
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final Counter retryCounter;
+    private final Counter exhaustedCounter;
+
+    public AccountTransactionExecutor(
+            PlatformTransactionManager transactionManager,
+            AccountBalanceService accountBalanceService,
+            MeterRegistry meterRegistry,
+            @Value("${moneygo.account.optimistic-retry.max-attempts:5}") int maxAttempts,
+            @Value("${moneygo.account.optimistic-retry.backoff-ms:5}") long baseBackoffMillis
+    ) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.accountBalanceService = accountBalanceService;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseBackoffMillis = Math.max(1, baseBackoffMillis);
+        this.retryCounter = Counter.builder("moneygo.account.optimistic.retries")
+                .description("낙관적 락 충돌로 재시도한 횟수")
+                .register(meterRegistry);
+        this.exhaustedCounter = Counter.builder("moneygo.account.optimistic.exhausted")
+                .description("재시도 횟수를 모두 소진해 실패한 요청 수")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        // 이미 트랜잭션 안이면 재시도할 수 없으므로 그대로 참여
+        if (!accountBalanceService.isOptimisticRetry() || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return transactionTemplate.execute(status -> action.get());
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (RuntimeException e) {
+                if (!isOptimisticLockFailure(e)) {
+                    throw e;
+                }
+                if (attempt >= maxAttempts) {
+                    exhaustedCounter.increment();
+                    log.warn("낙관적 락 재시도 횟수 초과: attempts={}, error={}", attempt, e.getMessage());
+                    throw new IllegalStateException("동시에 처리 중인 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+                }
+                retryCounter.increment();
+                log.debug("낙관적 락 충돌, 재시도: attempt={}", attempt);
+                sleep(backoffMillis(attempt));
+            }
+        }
+    }
+
+    public long getRetryCount() {
+        return (long) retryCounter.count();
+    }
+
+    // full jitter: 0 ~ base * 2^attempt
+    private long backoffMillis(int attempt) {
+        long maxBackoff = baseBackoffMillis << Math.min(attempt, 10);
+        return ThreadLocalRandom.current().nextLong(maxBackoff + 1);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("요청 처리가 중단되었습니다.");
+        }
+    }
+
+    private boolean isOptimisticLockFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof OptimisticLockingFailureException
+                    || cause instanceof OptimisticLockException
+                    || cause instanceof StaleStateException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
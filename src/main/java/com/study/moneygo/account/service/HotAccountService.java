@@ -0,0 +1,111 @@
+package com.study.moneygo.account.service;
+
+import com.study.moneygo.account.entity.Account;
+import com.study.moneygo.account.repository.AccountRepository;
+import com.study.moneygo.account.repository.HotAccountCreditRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+/**
+ * 핫 계좌 (QR 결제가 몰리는 판매자 계좌) 입금 저널 관리
+ * 입금은 계좌 행 대신 hot_account_credits에 한 행씩 추가되고,
+ * 백그라운드 합산 작업이 주기적으로 합계를 Account.balance로 옮긴다.
+ *
+ * 입금(credit)은 INSERT만 하므로 어떤 행도 잠그지 않는다.
+ * 합산은 계좌 → 그 계좌의 저널 행 순서로만 잠그므로, 계좌를 잠근 채 다른 핫 계좌에 입금해도 대기 순환이 생기지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HotAccountService {
+
+    private final AccountRepository accountRepository;
+    private final HotAccountCreditRepository creditRepository;
+
+    public boolean isHotAccount(Long accountId) {
+        return accountRepository.findHotAccountById(accountId).orElse(false);
+    }
+
+    /**
+     * 핫 계좌 모드 활성화
+     */
+    @Transactional
+    public void enable(Long accountId) {
+        Account account = accountRepository.findByIdForUpdate(accountId)
+                .orElseThrow(() -> new IllegalArgumentException("계좌를 찾을 수 없습니다."));
+        account.enableHotAccount();
+        log.info("핫 계좌 모드 활성화: accountId={}", accountId);
+    }
+
+    /**
+     * 핫 계좌 모드 해제 (남은 입금 기록은 즉시 합산)
+     */
+    @Transactional
+    public void disable(Long accountId) {
+        Account account = accountRepository.findByIdForUpdate(accountId)
+                .orElseThrow(() -> new IllegalArgumentException("계좌를 찾을 수 없습니다."));
+        rollUpLocked(account);
+        account.disableHotAccount();
+        log.info("핫 계좌 모드 해제: accountId={}", accountId);
+    }
+
+    /**
+     * 핫 계좌 입금 (계좌 행을 잠그지 않고 입금 저널에 한 행 추가)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void credit(Long accountId, BigDecimal amount) {
+        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("입금 금액은 0보다 커야합니다.");
+        }
+        creditRepository.append(accountId, amount);
+    }
+
+    /**
+     * 아직 합산되지 않은 입금 총액
+     */
+    public BigDecimal getPendingBalance(Long accountId) {
+        return creditRepository.sumPendingByAccountId(accountId);
+    }
+
+    /**
+     * 조회용 잔액 (계좌 잔액 + 합산 대기 금액)
+     */
+    public BigDecimal getAvailableBalance(Account account) {
+        if (!account.isHotAccount()) {
+            return account.getBalance();
+        }
+        return account.getBalance().add(getPendingBalance(account.getId()));
+    }
+
+    /**
+     * 입금 저널을 계좌 잔액으로 합산 (계좌 잠금 포함)
+     */
+    @Transactional
+    public BigDecimal rollUp(Long accountId) {
+        Account account = accountRepository.findByIdForUpdate(accountId)
+                .orElseThrow(() -> new IllegalStateException("계좌 정보를 찾을 수 없습니다."));
+        return rollUpLocked(account);
+    }
+
+    /**
+     * 입금 저널을 계좌 잔액으로 합산 (호출자가 이미 계좌를 잠근 상태)
+     * 합산한 저널 행만 삭제하므로, 동시에 추가된 (아직 커밋 전) 입금은 다음 합산에 포함된다.
+     * @return 합산된 금액
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public BigDecimal rollUpLocked(Account account) {
+        BigDecimal total = creditRepository.drain(account.getId());
+
+        if (total.compareTo(BigDecimal.ZERO) > 0) {
+            account.deposit(total);
+            log.info("핫 계좌 입금 합산: accountId={}, amount={}, balanceAfter={}",
+                    account.getId(), total, account.getBalance());
+        }
+        return total;
+    }
+}
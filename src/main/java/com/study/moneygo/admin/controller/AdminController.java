@@ -10,6 +10,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/admin/accounts")
 @RequiredArgsConstructor
@@ -34,4 +36,19 @@ public class AdminController {
         AdminWithdrawResponse response = adminService.withdraw(accountId, request);
         return ResponseEntity.ok(response);
     }
+
+    /*
+     핫 계좌 모드 설정 (입금을 입금 저널에 적립)
+     */
+    @PutMapping("/{accountId}/hot")
+    public ResponseEntity<Map<String, Boolean>> enableHotAccount(@PathVariable Long accountId) {
+        adminService.updateHotAccount(accountId, true);
+        return ResponseEntity.ok(Map.of("hotAccount", true));
+    }
+
+    @DeleteMapping("/{accountId}/hot")
+    public ResponseEntity<Map<String, Boolean>> disableHotAccount(@PathVariable Long accountId) {
+        adminService.updateHotAccount(accountId, false);
+        return ResponseEntity.ok(Map.of("hotAccount", false));
+    }
 }
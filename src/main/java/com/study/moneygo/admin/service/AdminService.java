@@ -3,14 +3,18 @@ package com.study.moneygo.admin.service;
 import com.study.moneygo.account.entity.Account;
 import com.study.moneygo.transaction.entity.Transaction;
 import com.study.moneygo.account.repository.AccountRepository;
+import com.study.moneygo.account.service.AccountLockService;
+import com.study.moneygo.account.service.AccountTransactionExecutor;
+import com.study.moneygo.account.service.HotAccountService;
 import com.study.moneygo.transaction.repository.TransactionRepository;
+import com.study.moneygo.transaction.service.AccountEntryService;
 import com.study.moneygo.admin.dto.request.AdminDepositRequest;
 import com.study.moneygo.admin.dto.request.AdminWithdrawRequest;
 import com.study.moneygo.admin.dto.response.AdminDepositResponse;
 import com.study.moneygo.admin.dto.response.AdminWithdrawResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 
@@ -20,15 +24,21 @@ public class AdminService {
 
     private final AccountRepository accountRepository;
     private final TransactionRepository transactionRepository;
+    private final AccountEntryService accountEntryService;
+    private final HotAccountService hotAccountService;
+    private final AccountLockService accountLockService;
+    private final AccountTransactionExecutor accountTransactionExecutor;
 
-    @Transactional
     public AdminDepositResponse deposit(Long accountId, AdminDepositRequest request) {
+        return accountTransactionExecutor.execute(() -> executeDeposit(accountId, request));
+    }
+
+    private AdminDepositResponse executeDeposit(Long accountId, AdminDepositRequest request) {
         try {
             System.out.println("===== 충전 시작 : accountId = " + accountId + ", amount = " + request.getAmount() + " =====");
 
             // 계좌 조회 (비관적 Lock)
-            Account account = accountRepository.findByIdForUpdate(accountId)
-                    .orElseThrow(() -> new IllegalArgumentException("계좌를 찾을 수 없습니다."));
+            Account account = lockAccount(accountId);
             System.out.println("===== 계좌 조회 성공 : " + account.getAccountNumber() + " =====");
             BigDecimal balanceBefore = account.getBalance();
 
@@ -50,6 +60,7 @@ public class AdminService {
             // 저장
             accountRepository.save(account);
             transactionRepository.save(transaction);
+            accountEntryService.record(transaction, null, account.getBalance());
             System.out.println("===== 저장 완료 =====");
 
             return AdminDepositResponse.of(
@@ -58,6 +69,9 @@ public class AdminService {
                     account.getBalance(),
                     request.getAmount()
             );
+        } catch (OptimisticLockingFailureException e) {
+            // OPTIMISTIC_RETRY 모드 재시도 대상 (그대로 전달)
+            throw e;
         } catch (Exception e) {
             System.err.println("===== 충전 중 오류 발생 =====");
             e.printStackTrace();
@@ -65,11 +79,13 @@ public class AdminService {
         }
     }
 
-    @Transactional
     public AdminWithdrawResponse withdraw(Long accountId, AdminWithdrawRequest request) {
+        return accountTransactionExecutor.execute(() -> executeWithdraw(accountId, request));
+    }
+
+    private AdminWithdrawResponse executeWithdraw(Long accountId, AdminWithdrawRequest request) {
         // 계좌 조회 (비관적 Lock)
-        Account account = accountRepository.findByIdForUpdate(accountId)
-                .orElseThrow(() -> new IllegalArgumentException("계좌를 찾을 수 없습니다."));
+        Account account = lockAccount(accountId);
         BigDecimal balanceBefore = account.getBalance();
 
         // 잔액 확인
@@ -94,6 +110,7 @@ public class AdminService {
             // 저장
             accountRepository.save(account);
             transactionRepository.save(transaction);
+            accountEntryService.record(transaction, account.getBalance(), null);
 
             return AdminWithdrawResponse.of(
                     account.getAccountNumber(),
@@ -101,6 +118,8 @@ public class AdminService {
                     account.getBalance(),
                     request.getAmount()
             );
+        } catch (OptimisticLockingFailureException e) {
+            throw e;
         } catch (Exception e) {
             transaction.fail(e.getMessage());
             transactionRepository.save(transaction);
@@ -108,4 +127,23 @@ public class AdminService {
             throw new IllegalStateException("인출 처리 중 오류가 발생했습니다 : " + e.getMessage());
         }
     }
+
+    private Account lockAccount(Long accountId) {
+        try {
+            return accountLockService.lock(accountId);
+        } catch (IllegalStateException e) {
+            throw new IllegalArgumentException("계좌를 찾을 수 없습니다.");
+        }
+    }
+
+    /**
+     * 핫 계좌 모드 설정 (QR 결제가 몰리는 판매자 계좌용)
+     */
+    public void updateHotAccount(Long accountId, boolean enabled) {
+        if (enabled) {
+            hotAccountService.enable(accountId);
+        } else {
+            hotAccountService.disable(accountId);
+        }
+    }
 }
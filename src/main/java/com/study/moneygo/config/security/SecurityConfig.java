@@ -2,7 +2,10 @@ package com.study.moneygo.config.security;
 
 
 import com.study.moneygo.util.security.JwtAuthenticationFilter;
+import com.study.moneygo.util.security.PasswordEncoderFactory;
+import com.study.moneygo.util.security.SimplePasswordEncoder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -12,10 +15,10 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -30,6 +33,28 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final UserDetailsService userDetailsService;
 
+    // 로그인 비밀번호 해시 설정
+    @Value("${moneygo.security.password.algorithm:bcrypt}")
+    private String passwordAlgorithm;
+    @Value("${moneygo.security.password.bcrypt-strength:10}")
+    private int passwordBcryptStrength;
+    @Value("${moneygo.security.password.pbkdf2-iterations:310000}")
+    private int passwordPbkdf2Iterations;
+
+    // 간편 비밀번호 해시 설정 (결제마다 검증되므로 로그인 비밀번호와 따로 조정)
+    @Value("${moneygo.security.simple-password.algorithm:bcrypt}")
+    private String simplePasswordAlgorithm;
+    @Value("${moneygo.security.simple-password.bcrypt-strength:10}")
+    private int simplePasswordBcryptStrength;
+    @Value("${moneygo.security.simple-password.pbkdf2-iterations:310000}")
+    private int simplePasswordPbkdf2Iterations;
+
+    // 관리 포트 (Prometheus / health). API 포트와 같거나 없으면 관리 포트 예외를 두지 않음
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+    @Value("${server.port:8080}")
+    private int serverPort;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -39,6 +64,7 @@ public class SecurityConfig {
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/**").permitAll()
+                        .requestMatchers(managementPortRequest()).permitAll()
                         .anyRequest().authenticated())
                 .authenticationProvider(authenticationProvider())
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -46,6 +72,14 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * 관리 포트로 들어온 요청 (관리 포트는 management.server.address로 내부에서만 열림)
+     */
+    private RequestMatcher managementPortRequest() {
+        boolean separatePort = managementPort > 0 && managementPort != serverPort;
+        return request -> separatePort && request.getLocalPort() == managementPort;
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration config = new CorsConfiguration();
@@ -63,7 +97,13 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return PasswordEncoderFactory.create(passwordAlgorithm, passwordBcryptStrength, passwordPbkdf2Iterations);
+    }
+
+    @Bean
+    public SimplePasswordEncoder simplePasswordEncoder() {
+        return new SimplePasswordEncoder(PasswordEncoderFactory.create(
+                simplePasswordAlgorithm, simplePasswordBcryptStrength, simplePasswordPbkdf2Iterations));
     }
 
     @Bean
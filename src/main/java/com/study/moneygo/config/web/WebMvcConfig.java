@@ -0,0 +1,19 @@
+package com.study.moneygo.config.web;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    // 비동기 응답 제한 시간 (현재 비동기 응답은 거래 내역 내보내기뿐, 서블릿 컨테이너 기본값 30초로는 큰 내보내기가 중간에 끊김)
+    @Value("${moneygo.transaction.export.timeout-ms:3600000}")
+    private long asyncTimeoutMillis;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncTimeoutMillis);
+    }
+}
@@ -1,5 +1,6 @@
 package com.study.moneygo.deposit.dto.request;
 
+import com.study.moneygo.simplepassword.dto.request.PaymentCredential;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
@@ -15,16 +16,17 @@ import java.math.BigDecimal;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class SelfDepositRequest {
+public class SelfDepositRequest implements PaymentCredential {
 
     @NotNull(message = "입금 금액은 필수입니다.")
     @DecimalMin(value = "1000", message = "최소 입금 금액은 1,000원 입니다.")
     private BigDecimal amount;
 
-    @NotNull(message = "간편 비밀번호는 필수입니다.")
     @Size(min = 6, max = 6)
     @Pattern(regexp = "^\\d{6}$", message = "간편 비밀번호는 6자리 숫자여야 합니다.")
     private String simplePassword;
 
+    private String paymentToken; // 결제 인증 토큰 (간편 비밀번호 대신 사용 가능)
+
     private String description; // 입금 메모는 선택
 }
@@ -0,0 +1,17 @@
+package com.study.moneygo.exception;
+
+import lombok.Getter;
+
+/**
+ * 로그인 / 간편 비밀번호 시도 횟수 초과 (429)
+ */
+@Getter
+public class TooManyAttemptsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyAttemptsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
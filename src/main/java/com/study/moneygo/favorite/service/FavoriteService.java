@@ -7,12 +7,10 @@ import com.study.moneygo.favorite.dto.request.FavoriteUpdateRequest;
 import com.study.moneygo.favorite.dto.response.FavoriteResponse;
 import com.study.moneygo.favorite.entity.Favorite;
 import com.study.moneygo.favorite.repository.FavoriteRepository;
-import com.study.moneygo.user.entity.User;
 import com.study.moneygo.user.repository.UserRepository;
+import com.study.moneygo.util.security.CurrentUserContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,22 +24,21 @@ public class FavoriteService {
 
     private final FavoriteRepository favoriteRepository;
     private final UserRepository userRepository;
+    private final CurrentUserContext currentUserContext;
     private final AccountRepository accountRepository;
 
     private static final int MAX_FAVORITES = 50;  // 최대 즐겨찾기 개수
 
     @Transactional
     public FavoriteResponse addFavorite(FavoriteRequest request) {
-        // 현재 사용자 조회
-        String email = getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        // 현재 사용자
+        Long userId = currentUserContext.getUserId();
 
         // 본인 계좌인지 확인
-        Account myAccount = accountRepository.findByUserId(user.getId())
+        String myAccountNumber = accountRepository.findAccountNumberById(currentUserContext.getAccountId())
                 .orElseThrow(() -> new IllegalStateException("계좌 정보를 찾을 수 없습니다."));
 
-        if (myAccount.getAccountNumber().equals(request.getAccountNumber())) {
+        if (myAccountNumber.equals(request.getAccountNumber())) {
             throw new IllegalArgumentException("본인 계좌는 즐겨찾기에 추가할 수 없습니다.");
         }
 
@@ -50,19 +47,19 @@ public class FavoriteService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 계좌입니다."));
 
         // 이미 즐겨찾기에 있는지 확인
-        if (favoriteRepository.existsByUserIdAndAccountNumber(user.getId(), request.getAccountNumber())) {
+        if (favoriteRepository.existsByUserIdAndAccountNumber(userId, request.getAccountNumber())) {
             throw new IllegalArgumentException("이미 즐겨찾기에 추가된 계좌입니다.");
         }
 
         // 최대 개수 확인
-        long favoriteCount = favoriteRepository.countByUserId(user.getId());
+        long favoriteCount = favoriteRepository.countByUserId(userId);
         if (favoriteCount >= MAX_FAVORITES) {
             throw new IllegalArgumentException("즐겨찾기는 최대 " + MAX_FAVORITES + "개까지 추가할 수 있습니다.");
         }
 
-        // 즐겨찾기 추가
+        // 즐겨찾기 추가 (사용자는 FK만 필요하므로 조회 없이 참조만 사용)
         Favorite favorite = Favorite.builder()
-                .user(user)
+                .user(userRepository.getReferenceById(userId))
                 .accountNumber(request.getAccountNumber())
                 .accountOwnerName(targetAccount.getUser().getName())
                 .nickname(request.getNickname())
@@ -71,18 +68,16 @@ public class FavoriteService {
 
         Favorite savedFavorite = favoriteRepository.save(favorite);
 
-        log.info("즐겨찾기 추가: userId={}, accountNumber={}", user.getId(), request.getAccountNumber());
+        log.info("즐겨찾기 추가: userId={}, accountNumber={}", userId, request.getAccountNumber());
 
         return FavoriteResponse.of(savedFavorite);
     }
 
     @Transactional(readOnly = true)
     public List<FavoriteResponse> getMyFavorites() {
-        String email = getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        Long userId = currentUserContext.getUserId();
 
-        List<Favorite> favorites = favoriteRepository.findByUserId(user.getId());
+        List<Favorite> favorites = favoriteRepository.findByUserId(userId);
         return favorites.stream()
                 .map(FavoriteResponse::of)
                 .collect(Collectors.toList());
@@ -90,15 +85,13 @@ public class FavoriteService {
 
     @Transactional(readOnly = true)
     public FavoriteResponse getFavoriteDetail(Long favoriteId) {
-        String email = getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        Long userId = currentUserContext.getUserId();
 
         Favorite favorite = favoriteRepository.findById(favoriteId)
                 .orElseThrow(() -> new IllegalArgumentException("즐겨찾기를 찾을 수 없습니다."));
 
         // 소유권 확인
-        if (!favorite.getUser().getId().equals(user.getId())) {
+        if (!favorite.getUser().getId().equals(userId)) {
             throw new IllegalArgumentException("접근 권한이 없습니다.");
         }
 
@@ -110,19 +103,15 @@ public class FavoriteService {
         try {
             log.info("즐겨찾기 수정 시작: favoriteId={}", favoriteId);
 
-            String email = getCurrentUserEmail();
-            log.info("현재 사용자 이메일: {}", email);
-
-            User user = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-            log.info("사용자 조회 완료: userId={}", user.getId());
+            Long userId = currentUserContext.getUserId();
+            log.info("현재 사용자: userId={}", userId);
 
             Favorite favorite = favoriteRepository.findById(favoriteId)
                     .orElseThrow(() -> new IllegalArgumentException("즐겨찾기를 찾을 수 없습니다."));
             log.info("즐겨찾기 조회 완료: favoriteId={}, userId={}", favorite.getId(), favorite.getUser().getId());
 
             // 소유권 확인
-            if (!favorite.getUser().getId().equals(user.getId())) {
+            if (!favorite.getUser().getId().equals(userId)) {
                 throw new IllegalArgumentException("접근 권한이 없습니다.");
             }
             log.info("소유권 확인 완료");
@@ -152,15 +141,13 @@ public class FavoriteService {
 
     @Transactional
     public void deleteFavorite(Long favoriteId) {
-        String email = getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        Long userId = currentUserContext.getUserId();
 
         Favorite favorite = favoriteRepository.findById(favoriteId)
                 .orElseThrow(() -> new IllegalArgumentException("즐겨찾기를 찾을 수 없습니다."));
 
         // 소유권 확인
-        if (!favorite.getUser().getId().equals(user.getId())) {
+        if (!favorite.getUser().getId().equals(userId)) {
             throw new IllegalArgumentException("접근 권한이 없습니다.");
         }
 
@@ -168,9 +155,4 @@ public class FavoriteService {
 
         log.info("즐겨찾기 삭제: favoriteId={}", favoriteId);
     }
-
-    private String getCurrentUserEmail() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return authentication.getName();
-    }
 }
@@ -2,6 +2,7 @@ package com.study.moneygo.notification.controller;
 
 import com.study.moneygo.notification.dto.response.NotificationResponse;
 import com.study.moneygo.notification.service.NotificationService;
+import com.study.moneygo.util.dto.SliceResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -33,6 +34,16 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
 
+    /*
+     내 알림 목록 조회 (전체 건수 없이 hasNext만, 무한 스크롤용)
+     */
+    @GetMapping("/slice")
+    public ResponseEntity<SliceResponse<NotificationResponse>> getMyNotificationsSlice(
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC)
+            Pageable pageable) {
+        return ResponseEntity.ok(SliceResponse.of(notificationService.getMyNotificationsSlice(pageable)));
+    }
+
     /*
      읽지 않은 알림 목록 조회
      */
@@ -45,6 +56,16 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
 
+    /*
+     읽지 않은 알림 목록 조회 (전체 건수 없이 hasNext만, 무한 스크롤용)
+     */
+    @GetMapping("/unread/slice")
+    public ResponseEntity<SliceResponse<NotificationResponse>> getUnreadNotificationsSlice(
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC)
+            Pageable pageable) {
+        return ResponseEntity.ok(SliceResponse.of(notificationService.getUnreadNotificationsSlice(pageable)));
+    }
+
     /*
      읽지 않은 알림 개수 조회
      */
@@ -0,0 +1,116 @@
+package com.study.moneygo.notification.entity;
+
+import com.study.moneygo.user.entity.User;
+import com.study.moneygo.util.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 알림 발송 대기열 (Transactional Outbox)
+ * 거래와 같은 트랜잭션에서 저장되고, 커밋 이후 NotificationOutboxDispatcher가
+ * Notification 생성과 이메일 발송을 처리한다.
+ */
+@Entity
+@Table(name = "notification_outbox",
+        indexes = @Index(name = "idx_notification_outbox_status_next", columnList = "status, next_attempt_at"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationOutbox extends BaseEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private Notification.NotificationType type;
+
+    @Column(nullable = false, length = 100)
+    private String title;
+
+    @Column(nullable = false, length = 500)
+    private String content;
+
+    @Column(name = "related_transaction_id")
+    private Long relatedTransactionId;
+
+    @Column(precision = 15, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "counterparty_name", length = 50)
+    private String counterpartyName;
+
+    @Column(name = "additional_info", length = 500)
+    private String additionalInfo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 재시도 시 Notification이 중복 생성되지 않도록 기록
+    @Column(name = "notification_created", nullable = false)
+    private boolean notificationCreated;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    /**
+     * =====================================
+     * 비즈니스 메서드
+     * =====================================
+     */
+
+    public void markNotificationCreated() {
+        this.notificationCreated = true;
+    }
+
+    public void markSent() {
+        this.status = OutboxStatus.SENT;
+        this.sentAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    /**
+     * 발송 실패 기록 (최대 시도 횟수에 도달하면 DEAD 처리)
+     */
+    public void markFailed(String error, int maxAttempts, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxStatus.DEAD;
+        } else {
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+
+    public enum OutboxStatus {
+        PENDING,    // 발송 대기
+        SENT,       // 발송 완료
+        DEAD        // 재시도 초과 (수동 확인 필요)
+    }
+}
@@ -0,0 +1,49 @@
+package com.study.moneygo.notification.executor;
+
+import com.study.moneygo.notification.service.NotificationOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxDispatcher {
+
+    private static final int SENT_RETENTION_DAYS = 7;
+
+    private final NotificationOutboxService outboxService;
+
+    // 대기 중인 알림을 주기적으로 발송 (기본 1초)
+    @Scheduled(fixedDelayString = "${moneygo.notification.outbox.poll-interval-ms:1000}")
+    public void dispatchPendingNotifications() {
+        try {
+            List<Long> outboxIds = outboxService.findDueIds();
+
+            for (Long outboxId : outboxIds) {
+                try {
+                    outboxService.dispatch(outboxId);
+                } catch (Exception e) {
+                    log.error("알림 발송 처리 중 오류 발생: outboxId={}, error={}", outboxId, e.getMessage(), e);
+                }
+            }
+        } catch (Exception e) {
+            log.error("알림 발송 스케줄러 실행 중 오류 발생", e);
+        }
+    }
+
+    // 발송 완료된 알림 정리 (매일 새벽 4시)
+    @Scheduled(cron = "0 0 4 * * *")
+    public void purgeSentNotifications() {
+        try {
+            int deleted = outboxService.purgeSent(LocalDateTime.now().minusDays(SENT_RETENTION_DAYS));
+            log.info("발송 완료 알림 정리: deleted={}", deleted);
+        } catch (Exception e) {
+            log.error("발송 완료 알림 정리 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.study.moneygo.notification.repository;
+
+import com.study.moneygo.notification.entity.NotificationOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // 발송 시각이 된 대기 알림 ID 목록
+    @Query("SELECT o.id FROM NotificationOutbox o WHERE o.status = 'PENDING' AND o.nextAttemptAt <= :now ORDER BY o.id")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 발송할 알림 선점 (다른 서버가 처리 중이면 건너뜀)
+    @Query(value = "SELECT * FROM notification_outbox WHERE id = :id AND status = 'PENDING' FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    Optional<NotificationOutbox> findPendingByIdForDispatch(@Param("id") Long id);
+
+    long countByStatus(NotificationOutbox.OutboxStatus status);
+
+    // 발송 완료된 오래된 알림 정리
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o WHERE o.status = 'SENT' AND o.sentAt < :before")
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+}
@@ -3,6 +3,7 @@ package com.study.moneygo.notification.repository;
 import com.study.moneygo.notification.entity.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,6 +18,10 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("SELECT n FROM Notification n WHERE n.user.id = :userId ORDER BY n.createdAt DESC")
     Page<Notification> findByUserId(@Param("userId") Long userId, Pageable pageable);
 
+    // 사용자의 알림 목록 조회 (COUNT 없이 size + 1건 조회)
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId ORDER BY n.createdAt DESC")
+    Slice<Notification> findSliceByUserId(@Param("userId") Long userId, Pageable pageable);
+
     // 읽지 않은 알림 개수
     long countByUserIdAndIsReadFalse(Long userId);
 
@@ -24,6 +29,10 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.isRead = false ORDER BY n.createdAt DESC")
     Page<Notification> findUnreadByUserId(@Param("userId") Long userId, Pageable pageable);
 
+    // 읽지 않은 알림 목록 조회 (COUNT 없음)
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.isRead = false ORDER BY n.createdAt DESC")
+    Slice<Notification> findUnreadSliceByUserId(@Param("userId") Long userId, Pageable pageable);
+
     // 사용자의 읽은 알림 목록 조회
     List<Notification> findByUserIdAndIsReadTrue(Long userId);
 }
@@ -31,7 +31,9 @@ public class EmailService {
             mailSender.send(message);
             log.info("이메일 전송 완료: to={}, title={}", to, title);
         } catch (Exception e) {
-            log.error("이메일 전송 실패: to={}, error={}", to, e.getMessage(), e);
+            log.error("이메일 전송 실패: to={}, error={}", to, e.getMessage());
+            // 알림 발송 대기열에서 재시도할 수 있도록 예외를 던짐
+            throw new RuntimeException("이메일 발송에 실패했습니다: " + e.getMessage(), e);
         }
     }
 
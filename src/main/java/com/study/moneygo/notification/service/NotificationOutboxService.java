@@ -0,0 +1,91 @@
+package com.study.moneygo.notification.service;
+
+import com.study.moneygo.notification.entity.NotificationOutbox;
+import com.study.moneygo.notification.repository.NotificationOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 발송 대기열 처리
+ * 한 건씩 별도 트랜잭션으로 처리하고, 실패하면 지수 백오프로 재시도한다.
+ * 최대 시도 횟수를 넘기면 DEAD 상태로 남겨 수동 확인 대상이 된다.
+ */
+@Slf4j
+@Service
+public class NotificationOutboxService {
+
+    private static final long MAX_BACKOFF_MILLIS = 10 * 60 * 1000L; // 최대 10분
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationService notificationService;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+
+    public NotificationOutboxService(
+            NotificationOutboxRepository outboxRepository,
+            NotificationService notificationService,
+            @Value("${moneygo.notification.outbox.batch-size:100}") int batchSize,
+            @Value("${moneygo.notification.outbox.max-attempts:5}") int maxAttempts,
+            @Value("${moneygo.notification.outbox.base-backoff-ms:2000}") long baseBackoffMillis
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.notificationService = notificationService;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMillis = baseBackoffMillis;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findDueIds() {
+        return outboxRepository.findDueIds(LocalDateTime.now(), PageRequest.of(0, batchSize));
+    }
+
+    /**
+     * 대기 알림 한 건 발송 (Notification 생성 + 이메일 발송)
+     * @return 발송 성공 여부 (다른 서버가 처리 중이면 false)
+     */
+    @Transactional
+    public boolean dispatch(Long outboxId) {
+        NotificationOutbox outbox = outboxRepository.findPendingByIdForDispatch(outboxId).orElse(null);
+        if (outbox == null) {
+            return false;
+        }
+
+        try {
+            notificationService.deliver(outbox);
+            outbox.markSent();
+            return true;
+        } catch (Exception e) {
+            LocalDateTime nextAttemptAt = LocalDateTime.now().plus(Duration.ofMillis(backoffMillis(outbox.getAttempts())));
+            outbox.markFailed(e.getMessage(), maxAttempts, nextAttemptAt);
+
+            if (outbox.getStatus() == NotificationOutbox.OutboxStatus.DEAD) {
+                log.error("알림 발송 재시도 초과 (DEAD): outboxId={}, userId={}, type={}, attempts={}, error={}",
+                        outbox.getId(), outbox.getUser().getId(), outbox.getType(), outbox.getAttempts(), e.getMessage());
+            } else {
+                log.warn("알림 발송 실패, 재시도 예정: outboxId={}, attempts={}, nextAttemptAt={}, error={}",
+                        outbox.getId(), outbox.getAttempts(), nextAttemptAt, e.getMessage());
+            }
+            return false;
+        }
+    }
+
+    @Transactional
+    public int purgeSent(LocalDateTime before) {
+        return outboxRepository.deleteSentBefore(before);
+    }
+
+    // 2초, 4초, 8초 ... (최대 10분)
+    private long backoffMillis(int attemptsSoFar) {
+        long backoff = baseBackoffMillis << Math.min(attemptsSoFar, 20);
+        return Math.min(backoff, MAX_BACKOFF_MILLIS);
+    }
+}
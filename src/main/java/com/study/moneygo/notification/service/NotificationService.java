@@ -3,21 +3,23 @@ package com.study.moneygo.notification.service;
 import com.study.moneygo.transaction.entity.Transaction;
 import com.study.moneygo.notification.dto.response.NotificationResponse;
 import com.study.moneygo.notification.entity.Notification;
+import com.study.moneygo.notification.entity.NotificationOutbox;
 import com.study.moneygo.notification.entity.NotificationSetting;
+import com.study.moneygo.notification.repository.NotificationOutboxRepository;
 import com.study.moneygo.notification.repository.NotificationRepository;
 import com.study.moneygo.notification.repository.NotificationSettingRepository;
 import com.study.moneygo.user.entity.User;
-import com.study.moneygo.user.repository.UserRepository;
+import com.study.moneygo.util.security.CurrentUserContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -27,8 +29,9 @@ public class NotificationService {
 
     private final NotificationRepository notificationRepository;
     private final NotificationSettingRepository notificationSettingRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserContext currentUserContext;
     private final EmailService emailService;
+    private final NotificationOutboxRepository notificationOutboxRepository;
 
     @Transactional
     public void createTransferNotification(Transaction transaction) {
@@ -38,7 +41,7 @@ public class NotificationService {
             BigDecimal amount = transaction.getAmount();
 
             // 송금 받은 사람에게 알림
-            createNotificationWithEmail(
+            enqueueNotification(
                     transaction.getToAccount().getUser(),
                     Notification.NotificationType.TRANSFER_RECEIVED,
                     "송금을 받았습니다",
@@ -50,7 +53,7 @@ public class NotificationService {
             );
 
             // 송금 보낸 사람에게 알림
-            createNotificationWithEmail(
+            enqueueNotification(
                     transaction.getFromAccount().getUser(),
                     Notification.NotificationType.TRANSFER_SENT,
                     "송금이 완료되었습니다",
@@ -78,7 +81,7 @@ public class NotificationService {
                     buyerName, sellerName, amount);
 
             // QR 결제 받은 사람 (판매자)
-            createNotificationWithEmail(
+            enqueueNotification(
                     transaction.getToAccount().getUser(),
                     Notification.NotificationType.QR_PAYMENT_RECEIVED,
                     "QR 결제를 받았습니다",
@@ -90,7 +93,7 @@ public class NotificationService {
             );
 
             // QR 결제 보낸 사람 (구매자)
-            createNotificationWithEmail(
+            enqueueNotification(
                     transaction.getFromAccount().getUser(),
                     Notification.NotificationType.QR_PAYMENT_SENT,
                     "QR 결제가 완료되었습니다",
@@ -112,7 +115,7 @@ public class NotificationService {
     @Transactional
     public void createScheduledTransferExecutedNotification(User user, Transaction transaction, String description) {
         try {
-            createNotificationWithEmail(
+            enqueueNotification(
                     user,
                     Notification.NotificationType.SCHEDULED_TRANSFER_EXECUTED,
                     "예약 송금이 실행되었습니다",
@@ -131,7 +134,7 @@ public class NotificationService {
     @Transactional
     public void createScheduledTransferFailedNotification(User user, BigDecimal amount, String reason) {
         try {
-            createNotificationWithEmail(
+            enqueueNotification(
                     user,
                     Notification.NotificationType.SCHEDULED_TRANSFER_FAILED,
                     "예약 송금 실행이 실패했습니다",
@@ -150,7 +153,7 @@ public class NotificationService {
     @Transactional
     public void createLargeAmountAlertNotification(User user, BigDecimal amount, String transactionType) {
         try {
-            createNotificationWithEmail(
+            enqueueNotification(
                     user,
                     Notification.NotificationType.LARGE_AMOUNT_ALERT,
                     "고액 거래 알림",
@@ -166,84 +169,96 @@ public class NotificationService {
         }
     }
 
-    @Transactional
-    protected void createNotificationWithEmail(User user, Notification.NotificationType type,
-                                               String title, String content,
-                                               Long transactionId, BigDecimal amount,
-                                               String counterpartyName, String additionalInfo) {
-        try {
-            log.info("알림 생성 시작: userId={}, type={}", user.getId(), type);
+    /**
+     * 알림 발송 대기열에 저장 (호출한 거래와 같은 트랜잭션)
+     * Notification 생성과 이메일 발송은 커밋 이후 NotificationOutboxDispatcher가 처리한다.
+     */
+    private void enqueueNotification(User user, Notification.NotificationType type,
+                                     String title, String content,
+                                     Long transactionId, BigDecimal amount,
+                                     String counterpartyName, String additionalInfo) {
+        NotificationOutbox outbox = NotificationOutbox.builder()
+                .user(user)
+                .type(type)
+                .title(title)
+                .content(content)
+                .relatedTransactionId(transactionId)
+                .amount(amount)
+                .counterpartyName(counterpartyName)
+                .additionalInfo(additionalInfo)
+                .status(NotificationOutbox.OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .notificationCreated(false)
+                .build();
+
+        notificationOutboxRepository.save(outbox);
+        log.info("알림 발송 대기열 저장: userId={}, type={}", user.getId(), type);
+    }
 
-            // 알림 생성
+    /**
+     * 대기열 알림 발송 (NotificationOutboxService 트랜잭션 안에서 호출)
+     * 이메일 발송이 실패하면 예외를 그대로 던져 재시도 대상이 되도록 한다.
+     * Notification은 처음 한 번만 생성된다.
+     */
+    public void deliver(NotificationOutbox outbox) {
+        User user = outbox.getUser();
+        Notification.NotificationType type = outbox.getType();
+        BigDecimal amount = outbox.getAmount();
+
+        // 알림 생성
+        if (!outbox.isNotificationCreated()) {
             Notification notification = Notification.builder()
                     .user(user)
                     .type(type)
-                    .title(title)
-                    .content(content)
-                    .relatedTransactionId(transactionId)
+                    .title(outbox.getTitle())
+                    .content(outbox.getContent())
+                    .relatedTransactionId(outbox.getRelatedTransactionId())
                     .amount(amount)
                     .isRead(false)
                     .build();
 
             notificationRepository.save(notification);
+            outbox.markNotificationCreated();
             log.info("알림 DB 저장 완료: userId={}, type={}", user.getId(), type);
+        }
 
-            // 알림 설정 확인 후 이메일 전송
-            try {
-                NotificationSetting setting = getOrCreateNotificationSetting(user);
-                log.info("알림 설정 조회 완료: userId={}, emailEnabled={}",
-                        user.getId(), setting.isEmailEnabled());
-
-                if (setting.shouldNotify(type)) {
-                    log.info("이메일 발송 시작: email={}, type={}", user.getEmail(), type);
-                    sendEmailNotificationWithDetails(user, type, amount, counterpartyName, additionalInfo);
-                    log.info("이메일 발송 완료");
-                } else {
-                    log.info("알림 설정에 의해 이메일 발송 스킵: userId={}, type={}", user.getId(), type);
-                }
-
-                // 고액 거래 알림
-                if (setting.isLargeAmount(amount) &&
-                        (type == Notification.NotificationType.TRANSFER_SENT ||
-                                type == Notification.NotificationType.QR_PAYMENT_SENT)) {
-                    log.info("고액 거래 알림 이메일 발송 시작: amount={}", amount);
-                    emailService.sendLargeAmountAlertEmail(user.getEmail(), amount, type.name());
-                }
-            } catch (Exception emailError) {
-                // 이메일 전송 실패는 로그만 남기고 계속 진행
-                log.error("이메일 전송 중 오류 발생했지만 알림은 생성됨: userId={}, type={}, error={}",
-                        user.getId(), type, emailError.getMessage());
-            }
-        } catch (Exception e) {
-            // 알림 생성 실패
-            log.error("알림 생성 중 오류 발생: userId={}, type={}, error={}",
-                    user.getId(), type, e.getMessage(), e);
-            // 예외를 던지지 않음 (거래는 이미 완료됨)
+        // 알림 설정 확인 후 이메일 전송
+        NotificationSetting setting = getOrCreateNotificationSetting(user);
+        if (setting.shouldNotify(type)) {
+            sendEmailNotificationWithDetails(user, type, amount,
+                    outbox.getCounterpartyName(), outbox.getAdditionalInfo());
+            log.info("이메일 발송 완료: userId={}, type={}", user.getId(), type);
+        } else {
+            log.info("알림 설정에 의해 이메일 발송 스킵: userId={}, type={}", user.getId(), type);
+        }
+
+        // 고액 거래 알림
+        if (amount != null && setting.isLargeAmount(amount) &&
+                (type == Notification.NotificationType.TRANSFER_SENT ||
+                        type == Notification.NotificationType.QR_PAYMENT_SENT)) {
+            log.info("고액 거래 알림 이메일 발송 시작: amount={}", amount);
+            emailService.sendLargeAmountAlertEmail(user.getEmail(), amount, type.name());
         }
     }
 
     private void sendEmailNotificationWithDetails(User user, Notification.NotificationType type,
                                                   BigDecimal amount, String counterpartyName,
                                                   String additionalInfo) {
-        try {
-            switch (type) {
-                case TRANSFER_RECEIVED ->
-                        emailService.sendTransferReceivedEmail(user.getEmail(), counterpartyName, amount);
-                case TRANSFER_SENT ->
-                        emailService.sendTransferSentEmail(user.getEmail(), counterpartyName, amount);
-                case SCHEDULED_TRANSFER_EXECUTED ->
-                        emailService.sendScheduledTransferExecutedEmail(user.getEmail(), amount, additionalInfo);
-                case SCHEDULED_TRANSFER_FAILED ->
-                        emailService.sendScheduledTransferFailedEmail(user.getEmail(), amount, additionalInfo);
-                case QR_PAYMENT_RECEIVED ->
-                        emailService.sendQrPaymentEmail(user.getEmail(), counterpartyName, amount, true);
-                case QR_PAYMENT_SENT ->
-                        emailService.sendQrPaymentEmail(user.getEmail(), counterpartyName, amount, false);
-                default -> log.debug("이메일 전송 불필요: type={}", type);
-            }
-        } catch (Exception e) {
-            log.error("이메일 전송 중 오류: type={}, error={}", type, e.getMessage());
-            // 예외를 던지지 않음
+        switch (type) {
+            case TRANSFER_RECEIVED ->
+                    emailService.sendTransferReceivedEmail(user.getEmail(), counterpartyName, amount);
+            case TRANSFER_SENT ->
+                    emailService.sendTransferSentEmail(user.getEmail(), counterpartyName, amount);
+            case SCHEDULED_TRANSFER_EXECUTED ->
+                    emailService.sendScheduledTransferExecutedEmail(user.getEmail(), amount, additionalInfo);
+            case SCHEDULED_TRANSFER_FAILED ->
+                    emailService.sendScheduledTransferFailedEmail(user.getEmail(), amount, additionalInfo);
+            case QR_PAYMENT_RECEIVED ->
+                    emailService.sendQrPaymentEmail(user.getEmail(), counterpartyName, amount, true);
+            case QR_PAYMENT_SENT ->
+                    emailService.sendQrPaymentEmail(user.getEmail(), counterpartyName, amount, false);
+            default -> log.debug("이메일 전송 불필요: type={}", type);
         }
     }
 
@@ -280,43 +295,55 @@ public class NotificationService {
 
     @Transactional(readOnly = true)
     public Page<NotificationResponse> getMyNotifications(Pageable pageable) {
-        String email = getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        Long userId = currentUserContext.getUserId();
 
-        Page<Notification> notifications = notificationRepository.findByUserId(user.getId(), pageable);
+        Page<Notification> notifications = notificationRepository.findByUserId(userId, pageable);
         return notifications.map(NotificationResponse::of);
     }
 
     @Transactional(readOnly = true)
     public Page<NotificationResponse> getUnreadNotifications(Pageable pageable) {
-        String email = getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        Long userId = currentUserContext.getUserId();
 
-        Page<Notification> notifications = notificationRepository.findUnreadByUserId(user.getId(), pageable);
+        Page<Notification> notifications = notificationRepository.findUnreadByUserId(userId, pageable);
         return notifications.map(NotificationResponse::of);
     }
 
+    /**
+     * 알림 목록 (전체 건수 없이 다음 페이지 여부만)
+     */
+    @Transactional(readOnly = true)
+    public Slice<NotificationResponse> getMyNotificationsSlice(Pageable pageable) {
+        Long userId = currentUserContext.getUserId();
+
+        return notificationRepository.findSliceByUserId(userId, pageable).map(NotificationResponse::of);
+    }
+
+    /**
+     * 읽지 않은 알림 목록 (전체 건수 없이 다음 페이지 여부만)
+     */
+    @Transactional(readOnly = true)
+    public Slice<NotificationResponse> getUnreadNotificationsSlice(Pageable pageable) {
+        Long userId = currentUserContext.getUserId();
+
+        return notificationRepository.findUnreadSliceByUserId(userId, pageable).map(NotificationResponse::of);
+    }
+
     @Transactional(readOnly = true)
     public long getUnreadCount() {
-        String email = getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        Long userId = currentUserContext.getUserId();
 
-        return notificationRepository.countByUserIdAndIsReadFalse(user.getId());
+        return notificationRepository.countByUserIdAndIsReadFalse(userId);
     }
 
     @Transactional
     public void markAsRead(Long notificationId) {
-        String email = getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        Long userId = currentUserContext.getUserId();
 
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new IllegalArgumentException("알림을 찾을 수 없습니다."));
 
-        if (!notification.getUser().getId().equals(user.getId())) {
+        if (!notification.getUser().getId().equals(userId)) {
             throw new IllegalArgumentException("접근 권한이 없습니다.");
         }
 
@@ -326,12 +353,10 @@ public class NotificationService {
 
     @Transactional
     public void markAllAsRead() {
-        String email = getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        Long userId = currentUserContext.getUserId();
 
         Page<Notification> unreadNotifications = notificationRepository.findUnreadByUserId(
-                user.getId(), Pageable.unpaged());
+                userId, Pageable.unpaged());
 
         unreadNotifications.forEach(Notification::markAsRead);
         notificationRepository.saveAll(unreadNotifications);
@@ -342,20 +367,18 @@ public class NotificationService {
      */
     @Transactional
     public void deleteNotification(Long notificationId) {
-        String email = getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        Long userId = currentUserContext.getUserId();
 
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new IllegalArgumentException("알림을 찾을 수 없습니다."));
 
         // 소유권 확인
-        if (!notification.getUser().getId().equals(user.getId())) {
+        if (!notification.getUser().getId().equals(userId)) {
             throw new IllegalArgumentException("접근 권한이 없습니다.");
         }
 
         notificationRepository.delete(notification);
-        log.info("알림 삭제 완료: notificationId={}, userId={}", notificationId, user.getId());
+        log.info("알림 삭제 완료: notificationId={}, userId={}", notificationId, userId);
     }
 
     /*
@@ -363,13 +386,11 @@ public class NotificationService {
      */
     @Transactional
     public void deleteAllReadNotifications() {
-        String email = getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        Long userId = currentUserContext.getUserId();
 
-        List<Notification> readNotifications = notificationRepository.findByUserIdAndIsReadTrue(user.getId());
+        List<Notification> readNotifications = notificationRepository.findByUserIdAndIsReadTrue(userId);
         notificationRepository.deleteAll(readNotifications);
-        log.info("읽은 알림 전체 삭제 완료: userId={}, count={}", user.getId(), readNotifications.size());
+        log.info("읽은 알림 전체 삭제 완료: userId={}, count={}", userId, readNotifications.size());
     }
 
     /*
@@ -378,7 +399,7 @@ public class NotificationService {
     @Transactional
     public void createSelfDepositNotification(User user, Transaction transaction) {
         try {
-            createNotificationWithEmail(
+            enqueueNotification(
                     user,
                     Notification.NotificationType.SELF_DEPOSIT,
                     "계좌 입금이 완료되었습니다.",
@@ -394,13 +415,7 @@ public class NotificationService {
         }
     }
 
-
     private String formatAmount(BigDecimal amount) {
         return String.format("%,d", amount.longValue());
     }
-
-    private String getCurrentUserEmail() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return authentication.getName();
-    }
 }
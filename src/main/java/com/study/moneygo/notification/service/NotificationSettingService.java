@@ -6,10 +6,9 @@ import com.study.moneygo.notification.entity.NotificationSetting;
 import com.study.moneygo.notification.repository.NotificationSettingRepository;
 import com.study.moneygo.user.entity.User;
 import com.study.moneygo.user.repository.UserRepository;
+import com.study.moneygo.util.security.CurrentUserContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,19 +22,18 @@ public class NotificationSettingService {
 
     private final NotificationSettingRepository notificationSettingRepository;
     private final UserRepository userRepository;
+    private final CurrentUserContext currentUserContext;
 
     @Transactional
     public NotificationSettingResponse getMySetting() {
-        String email = getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        Long userId = currentUserContext.getUserId();
 
-        NotificationSetting setting = notificationSettingRepository.findByUserId(user.getId())
+        NotificationSetting setting = notificationSettingRepository.findByUserId(userId)
                 .orElse(null);
 
         if (setting == null) {
-            // 별도 트랜잭션으로 생성
-            setting = createDefaultSettingInNewTransaction(user);
+            // 별도 트랜잭션으로 생성 (사용자는 FK만 필요하므로 참조만 사용)
+            setting = createDefaultSettingInNewTransaction(userRepository.getReferenceById(userId));
         }
 
         return NotificationSettingResponse.of(setting);
@@ -62,12 +60,10 @@ public class NotificationSettingService {
 
     @Transactional
     public NotificationSettingResponse updateMySetting(NotificationSettingUpdateRequest request) {
-        String email = getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        Long userId = currentUserContext.getUserId();
 
-        NotificationSetting setting = notificationSettingRepository.findByUserId(user.getId())
-                .orElseGet(() -> createDefaultSetting(user));
+        NotificationSetting setting = notificationSettingRepository.findByUserId(userId)
+                .orElseGet(() -> createDefaultSetting(userRepository.getReferenceById(userId)));
 
         // 업데이트
         if (request.getEmailEnabled() != null) {
@@ -94,7 +90,7 @@ public class NotificationSettingService {
         }
 
         NotificationSetting updatedSetting = notificationSettingRepository.save(setting);
-        log.info("알림 설정 업데이트: userId={}", user.getId());
+        log.info("알림 설정 업데이트: userId={}", userId);
 
         return NotificationSettingResponse.of(updatedSetting);
     }
@@ -114,9 +110,4 @@ public class NotificationSettingService {
 
         return notificationSettingRepository.save(setting);
     }
-
-    private String getCurrentUserEmail() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return authentication.getName();
-    }
 }
@@ -11,6 +11,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -28,8 +29,10 @@ public class QrPaymentController {
     }
 
     @PostMapping("/pay")
-    public ResponseEntity<QrPayResponse> payWithQrCode(@Valid @RequestBody QrPayRequest request) {
-        QrPayResponse response = qrPaymentService.payWithQrCode(request);
+    public ResponseEntity<QrPayResponse> payWithQrCode(
+            @Valid @RequestBody QrPayRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        QrPayResponse response = qrPaymentService.payWithQrCode(request, idempotencyKey);
         return ResponseEntity.ok(response);
     }
 }
@@ -1,5 +1,6 @@
 package com.study.moneygo.qrpayment.dto.request;
 
+import com.study.moneygo.simplepassword.dto.request.PaymentCredential;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
@@ -9,12 +10,13 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-public class QrPayRequest {
+public class QrPayRequest implements PaymentCredential {
 
     @NotBlank(message = "QR 코드는 필수입니다.")
     private String qrCode;
 
-    @NotBlank(message = "비밀번호는 필수입니다.")
     @Pattern(regexp = "^\\d{6}$", message = "간편 비밀번호는 6자리 숫자여야 합니다.")
     private String simplePassword;
+
+    private String paymentToken; // 결제 인증 토큰 (간편 비밀번호 대신 사용 가능)
 }
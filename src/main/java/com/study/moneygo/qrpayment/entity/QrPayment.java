@@ -42,7 +42,8 @@ public class QrPayment extends BaseEntity {
     private String description;
 
     @OneToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "transaction_id")
+    // 거래 테이블은 월별 파티션으로 변환될 수 있어 FK 제약은 두지 않음 (id + created_at이 PK)
+    @JoinColumn(name = "transaction_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Transaction transaction;
 
     @Column(name = "expires_at", nullable = false)
@@ -2,12 +2,28 @@ package com.study.moneygo.qrpayment.repository;
 
 import com.study.moneygo.qrpayment.entity.QrPayment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.Optional;
 
 @Repository
 public interface QrPaymentRepository extends JpaRepository<QrPayment, Long> {
     Optional<QrPayment> findByQrCode(String qrCode);
     boolean existsByQrCode(String qrCode);
+    Optional<QrPayment> findByTransactionId(Long transactionId);
+
+    @Query("SELECT q.sellerAccount.id FROM QrPayment q WHERE q.qrCode = :qrCode")
+    Optional<Long> findSellerAccountIdByQrCode(@Param("qrCode") String qrCode);
+
+    @Query("SELECT q.amount FROM QrPayment q WHERE q.qrCode = :qrCode")
+    Optional<BigDecimal> findAmountByQrCode(@Param("qrCode") String qrCode);
+
+    // 대기 중인 QR만 완료 처리 (동시 결제 시 하나만 성공)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE QrPayment q SET q.status = 'COMPLETED' WHERE q.id = :id AND q.status = 'PENDING'")
+    int markCompletedIfPending(@Param("id") Long id);
 }
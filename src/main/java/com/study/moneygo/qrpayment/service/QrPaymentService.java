@@ -1,9 +1,15 @@
 package com.study.moneygo.qrpayment.service;
 
 import com.study.moneygo.account.entity.Account;
+import com.study.moneygo.account.service.AccountBalanceService;
+import com.study.moneygo.account.service.AccountLockService;
+import com.study.moneygo.account.service.AccountRequestSerializer;
+import com.study.moneygo.account.service.AccountTransactionExecutor;
+import com.study.moneygo.account.service.HotAccountService;
 import com.study.moneygo.transaction.entity.Transaction;
 import com.study.moneygo.account.repository.AccountRepository;
 import com.study.moneygo.transaction.repository.TransactionRepository;
+import com.study.moneygo.transaction.service.AccountEntryService;
 import com.study.moneygo.notification.service.NotificationService;
 import com.study.moneygo.qrpayment.dto.request.QrGenerateRequest;
 import com.study.moneygo.qrpayment.dto.request.QrPayRequest;
@@ -11,17 +17,21 @@ import com.study.moneygo.qrpayment.dto.response.QrGenerateResponse;
 import com.study.moneygo.qrpayment.dto.response.QrPayResponse;
 import com.study.moneygo.qrpayment.entity.QrPayment;
 import com.study.moneygo.qrpayment.repository.QrPaymentRepository;
-import com.study.moneygo.simplepassword.service.SimplePasswordService;
-import com.study.moneygo.user.entity.User;
-import com.study.moneygo.user.repository.UserRepository;
+import com.study.moneygo.simplepassword.service.PaymentAuthorizationService;
+import com.study.moneygo.util.idempotency.IdempotentRequestExecutor;
+import com.study.moneygo.util.metrics.PaymentStageMetrics;
+import com.study.moneygo.util.security.CurrentUserContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -31,22 +41,29 @@ public class QrPaymentService {
 
     private final QrPaymentRepository qrPaymentRepository;
     private final AccountRepository accountRepository;
+    private final AccountLockService accountLockService;
+    private final AccountBalanceService accountBalanceService;
+    private final HotAccountService hotAccountService;
     private final TransactionRepository transactionRepository;
-    private final UserRepository userRepository;
-    private final SimplePasswordService simplePasswordService;
+    private final AccountEntryService accountEntryService;
+    private final CurrentUserContext currentUserContext;
+    private final PaymentAuthorizationService paymentAuthorizationService;
     private final NotificationService notificationService;
+    private final IdempotentRequestExecutor idempotentRequestExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final AccountTransactionExecutor accountTransactionExecutor;
+    private final AccountRequestSerializer accountRequestSerializer;
+    private final PaymentStageMetrics paymentStageMetrics;
 
     private static final int QR_EXPIRATION_MINUTES = 10; // QR 유효시간 10분
 
     @Transactional
     public QrGenerateResponse generateQrCode(QrGenerateRequest request) {
         // 현재 로그인한 사용자 (판매자)
-        String email = getCurrentUserEmail();
-        User seller = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        Long sellerId = currentUserContext.getUserId();
 
-        Account sellerAccount = accountRepository.findByUserId(seller.getId())
-                .orElseThrow(() -> new IllegalStateException("계좌 정보를 찾을 수 없습니다."));
+        // QR 결제에는 계좌 FK만 필요하므로 조회 없이 참조만 사용
+        Account sellerAccount = accountRepository.getReferenceById(currentUserContext.getAccountId());
 
         // QR코드 생성 (고유값)
         String qrCode = generateUniqueQrCode();
@@ -65,18 +82,86 @@ public class QrPaymentService {
                 .build();
         QrPayment savedQrPayment = qrPaymentRepository.save(qrPayment);
 
-        log.info("QR 코드 생성 완료: qrCode={}, sellerId={}", qrCode, seller.getId());
+        log.info("QR 코드 생성 완료: qrCode={}, sellerId={}", qrCode, sellerId);
         return QrGenerateResponse.of(savedQrPayment);
     }
 
-    @Transactional
     public QrPayResponse payWithQrCode(QrPayRequest request) {
-        // 현재 로그인한 사용자 (구매자)
-        String email = getCurrentUserEmail();
-        User buyer = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        return payWithQrCode(request, null);
+    }
+
+    /**
+     * QR 결제
+     * @param clientIdempotencyKey 클라이언트가 보낸 Idempotency-Key (없으면 매번 새 요청으로 처리)
+     */
+    public QrPayResponse payWithQrCode(QrPayRequest request, String clientIdempotencyKey) {
+        return paymentStageMetrics.record(PaymentStageMetrics.QR_PAYMENT, PaymentStageMetrics.TOTAL,
+                () -> processPayment(request, clientIdempotencyKey));
+    }
+
+    private QrPayResponse processPayment(QrPayRequest request, String clientIdempotencyKey) {
+        // 현재 로그인한 사용자 (구매자) / 구매자 계좌 ID (토큰 claim, DB 조회 없음)
+        Long buyerId = paymentStageMetrics.record(PaymentStageMetrics.QR_PAYMENT, PaymentStageMetrics.USER_LOOKUP,
+                currentUserContext::getUserId);
+        Long buyerAccountId = currentUserContext.getAccountId();
+
+        log.info("QR 결제 시작: buyerId={}, qrCode={}", buyerId, request.getQrCode());
+
+        // 판매자 계좌 ID 확인 (Lock 없음)
+        Long sellerAccountId = qrPaymentRepository.findSellerAccountIdByQrCode(request.getQrCode())
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 QR 코드입니다."));
 
-        log.info("QR 결제 시작: buyerEmail={}, qrCode={}", email, request.getQrCode());
+        // 본인 QR코드 결제 방지
+        if (buyerAccountId.equals(sellerAccountId)) {
+            throw new IllegalArgumentException("본인이 생성한 QR 코드는 결제할 수 없습니다.");
+        }
+
+        // 핫 계좌 여부 (핫 계좌면 판매자 계좌 행을 잠그지 않고 입금 저널에 적립)
+        boolean hotSeller = hotAccountService.isHotAccount(sellerAccountId);
+
+        if (clientIdempotencyKey == null) {
+            String idempotencyKey = UUID.randomUUID().toString();
+            return runPayment(buyerId, buyerAccountId, sellerAccountId, hotSeller, request, idempotencyKey);
+        }
+
+        // 같은 키로 이미 처리된 결제면 계좌 Lock 없이 원래 응답을 반환
+        String idempotencyKey = IdempotentRequestExecutor.toStoredKey(buyerId, clientIdempotencyKey);
+        return idempotentRequestExecutor.execute(
+                "QR_PAYMENT:" + idempotencyKey,
+                QrPayResponse.class,
+                request.getQrCode(),
+                () -> findCompletedPayment(idempotencyKey, request),
+                () -> runPayment(buyerId, buyerAccountId, sellerAccountId, hotSeller, request, idempotencyKey)
+        );
+    }
+
+    /**
+     * 간편 비밀번호 / 결제 인증 토큰을 먼저 확인하고,
+     * 같은 계좌 요청은 JVM 안에서 줄 세운 뒤 트랜잭션 시작 (핫 판매자 계좌는 줄 세우지 않음)
+     */
+    private QrPayResponse runPayment(Long buyerId, Long buyerAccountId, Long sellerAccountId, boolean hotSeller,
+                                     QrPayRequest request, String idempotencyKey) {
+        verifyPaymentCredential(buyerId, request);
+
+        List<Long> serializedAccountIds = hotSeller
+                ? List.of(buyerAccountId)
+                : List.of(buyerAccountId, sellerAccountId);
+
+        long queuedAt = System.nanoTime();
+        return accountRequestSerializer.execute(
+                serializedAccountIds,
+                () -> {
+                    paymentStageMetrics.recordSince(
+                            PaymentStageMetrics.QR_PAYMENT, PaymentStageMetrics.SERIALIZER_WAIT, queuedAt);
+                    return accountTransactionExecutor.execute(() -> executePayment(
+                            buyerId, buyerAccountId, sellerAccountId, hotSeller, request, idempotencyKey));
+                }
+        );
+    }
+
+    private QrPayResponse executePayment(Long buyerId, Long buyerAccountId, Long sellerAccountId, boolean hotSeller,
+                                         QrPayRequest request, String idempotencyKey) {
+        paymentStageMetrics.recordCommit(PaymentStageMetrics.QR_PAYMENT);
 
         // QR결제 정보 조회
         QrPayment qrPayment = qrPaymentRepository.findByQrCode(request.getQrCode())
@@ -94,39 +179,55 @@ public class QrPaymentService {
             throw new IllegalArgumentException("만료된 QR 코드입니다.");
         }
 
-        // 구매자 계좌 조회 (비관적 Lock)
-        Account buyerAccount = accountRepository.findByUserIdForUpdate(buyer.getId())
-                .orElseThrow(() -> new IllegalStateException("계좌 정보를 찾을 수 없습니다."));
-
-        log.info("구매자 계좌 조회 완료: buyerAccountId={}, balance={}",
-                buyerAccount.getId(), buyerAccount.getBalance());
+        // 결제 인증 토큰 차감 (계좌 Lock 전, 결제가 롤백되면 함께 롤백)
+        paymentAuthorizationService.consume(buyerId, request, qrPayment.getAmount());
 
-        // 판매자 계좌 조회 (비관적 Lock)
-        Account sellerAccount = accountRepository.findByIdForUpdate(qrPayment.getSellerAccount().getId())
-                .orElseThrow(() -> new IllegalStateException("판매자 계좌를 찾을 수 없습니다."));
-
-        log.info("판매자 계좌 조회 완료: sellerAccountId={}", sellerAccount.getId());
+        // 조건부 UPDATE 모드 (SELECT ... FOR UPDATE 없이 처리)
+        if (accountBalanceService.isConditionalUpdate()) {
+            return payWithConditionalUpdate(buyerId, buyerAccountId, sellerAccountId, hotSeller, qrPayment, request,
+                    idempotencyKey);
+        }
 
-        // 본인 QR코드 결제 방지
-        if (buyerAccount.getId().equals(sellerAccount.getId())) {
-            throw new IllegalArgumentException("본인이 생성한 QR 코드는 결제할 수 없습니다.");
+        Account buyerAccount;
+        Account sellerAccount;
+        if (hotSeller) {
+            // 구매자 계좌만 잠금 (비관적 Lock)
+            buyerAccount = paymentStageMetrics.record(PaymentStageMetrics.QR_PAYMENT, PaymentStageMetrics.ACCOUNT_LOCK,
+                    () -> accountLockService.lock(buyerAccountId));
+            sellerAccount = accountRepository.findById(sellerAccountId)
+                    .orElseThrow(() -> new IllegalStateException("판매자 계좌를 찾을 수 없습니다."));
+        } else {
+            // 구매자 / 판매자 계좌를 id 오름차순으로 한 번에 잠금 (비관적 Lock, 데드락 방지)
+            AccountLockService.AccountPair accounts = paymentStageMetrics.record(
+                    PaymentStageMetrics.QR_PAYMENT, PaymentStageMetrics.ACCOUNT_LOCK,
+                    () -> accountLockService.lockPair(buyerAccountId, sellerAccountId));
+            buyerAccount = accounts.getFrom();
+            sellerAccount = accounts.getTo();
         }
 
-        // 간편 비밀번호 확인
-        log.info("간편 비밀번호 확인 시작: buyerId={}", buyer.getId());
-        simplePasswordService.verifySimplePasswordForUser(buyer.getId(), request.getSimplePassword());
-        log.info("간편 비밀번호 확인 완료");
+        log.info("구매자/판매자 계좌 잠금 완료: buyerAccountId={}, balance={}, sellerAccountId={}, hotSeller={}",
+                buyerAccount.getId(), buyerAccount.getBalance(), sellerAccount.getId(), hotSeller);
 
         // 계좌 상태 확인
         if (!buyerAccount.isActive() || !sellerAccount.isActive()) {
             throw new IllegalStateException("계좌가 활성 상태가 아닙니다.");
         }
 
+        // 구매자가 핫 계좌면 합산 대기 금액을 먼저 반영
+        if (buyerAccount.isHotAccount() && !buyerAccount.hasEnoughBalance(qrPayment.getAmount())) {
+            hotAccountService.rollUpLocked(buyerAccount);
+        }
+
         // 잔액 확인
         if (!buyerAccount.hasEnoughBalance(qrPayment.getAmount())) {
             throw new IllegalArgumentException("잔액이 부족합니다.");
         }
 
+        // QR코드 선점 (핫 판매자 / OPTIMISTIC_RETRY 모드는 판매자 계좌로 직렬화되지 않으므로 여기서 중복 결제 차단)
+        if (qrPaymentRepository.markCompletedIfPending(qrPayment.getId()) != 1) {
+            throw new IllegalArgumentException("이미 사용되었거나 취소된 QR 코드입니다.");
+        }
+
         // 거래 내역 생성
         Transaction transaction = Transaction.builder()
                 .fromAccount(buyerAccount)
@@ -135,7 +236,7 @@ public class QrPaymentService {
                 .type(Transaction.TransactionType.QR_PAYMENT)
                 .status(Transaction.TransactionStatus.PENDING)
                 .description(qrPayment.getDescription() != null ? "QR결제 : " + qrPayment.getDescription() : "QR결제")
-                .idempotencyKey(UUID.randomUUID().toString())
+                .idempotencyKey(idempotencyKey)
                 .build();
 
         try {
@@ -145,15 +246,23 @@ public class QrPaymentService {
             buyerAccount.withdraw(qrPayment.getAmount());
             log.info("구매자 출금 완료: newBalance={}", buyerAccount.getBalance());
 
-            sellerAccount.deposit(qrPayment.getAmount());
-            log.info("판매자 입금 완료: newBalance={}", sellerAccount.getBalance());
+            if (hotSeller) {
+                // INSERT만 하므로 구매자 계좌 / 저널 행을 잠근 상태에서도 판매자 쪽 행을 기다리지 않음
+                hotAccountService.credit(sellerAccount.getId(), qrPayment.getAmount());
+                log.info("판매자 입금 저널 적립 완료: sellerAccountId={}", sellerAccount.getId());
+            } else {
+                sellerAccount.deposit(qrPayment.getAmount());
+                log.info("판매자 입금 완료: newBalance={}", sellerAccount.getBalance());
+            }
 
             // 거래 완료
             transaction.complete();
             qrPayment.complete(transaction);
 
-            // 저장
+            // 저장 (거래 + 계좌 원장, 핫 판매자는 합산 전이라 잔액 미기록)
             transactionRepository.save(transaction);
+            accountEntryService.record(transaction, buyerAccount.getBalance(),
+                    hotSeller ? null : sellerAccount.getBalance());
             accountRepository.save(buyerAccount);
             accountRepository.save(sellerAccount);
             qrPaymentRepository.save(qrPayment);
@@ -163,7 +272,7 @@ public class QrPaymentService {
             // 알림 생성 (실패해도 결제는 완료됨)
             try {
                 log.info("알림 생성 시작");
-                notificationService.createQrPaymentNotification(transaction);
+                createNotification(transaction);
                 log.info("알림 생성 완료");
             } catch (Exception notificationError) {
                 // 알림 실패는 로그만 남기고 결제는 정상 진행
@@ -172,7 +281,7 @@ public class QrPaymentService {
             }
 
             log.info("QR 결제 완료: transactionId={}, buyerId={}, sellerId={}",
-                    transaction.getId(), buyer.getId(), sellerAccount.getUser().getId());
+                    transaction.getId(), buyerId, sellerAccount.getUser().getId());
 
             return QrPayResponse.of(
                     qrPayment,
@@ -180,6 +289,9 @@ public class QrPaymentService {
                     sellerAccount.getUser().getName(),
                     buyerAccount.getBalance()
             );
+        } catch (OptimisticLockingFailureException e) {
+            // OPTIMISTIC_RETRY 모드 재시도 대상 (그대로 전달)
+            throw e;
         } catch (IllegalArgumentException | IllegalStateException e) {
             // 비즈니스 로직 오류 (잔액 부족, 상태 오류 등)
             log.error("QR 결제 실패 (비즈니스 로직 오류): {}", e.getMessage());
@@ -195,6 +307,106 @@ public class QrPaymentService {
         }
     }
 
+    /**
+     * 조건부 UPDATE 기반 QR 결제 (moneygo.account.concurrency-strategy=CONDITIONAL_UPDATE)
+     */
+    private QrPayResponse payWithConditionalUpdate(Long buyerId, Long buyerAccountId, Long sellerAccountId,
+                                                   boolean hotSeller, QrPayment qrPayment, QrPayRequest request,
+                                                   String idempotencyKey) {
+        // QR코드 선점 (동시에 같은 QR로 결제하는 요청 중 하나만 통과)
+        if (qrPaymentRepository.markCompletedIfPending(qrPayment.getId()) != 1) {
+            throw new IllegalArgumentException("이미 사용되었거나 취소된 QR 코드입니다.");
+        }
+
+        // 조건부 UPDATE로 출금/입금 (잔액 부족, 비활성 계좌면 예외 발생 후 롤백)
+        if (hotSeller) {
+            if (accountRepository.findStatusById(sellerAccountId).orElse(null) != Account.AccountStatus.ACTIVE) {
+                throw new IllegalStateException("계좌가 활성 상태가 아닙니다.");
+            }
+            paymentStageMetrics.record(PaymentStageMetrics.QR_PAYMENT, PaymentStageMetrics.ACCOUNT_LOCK,
+                    () -> accountBalanceService.debit(buyerAccountId, qrPayment.getAmount()));
+            hotAccountService.credit(sellerAccountId, qrPayment.getAmount());
+        } else {
+            paymentStageMetrics.record(PaymentStageMetrics.QR_PAYMENT, PaymentStageMetrics.ACCOUNT_LOCK,
+                    () -> accountBalanceService.transfer(buyerAccountId, sellerAccountId, qrPayment.getAmount()));
+        }
+
+        Account buyerAccount = accountRepository.getReferenceById(buyerAccountId);
+        Account sellerAccount = accountRepository.getReferenceById(sellerAccountId);
+
+        Transaction transaction = Transaction.builder()
+                .fromAccount(buyerAccount)
+                .toAccount(sellerAccount)
+                .amount(qrPayment.getAmount())
+                .type(Transaction.TransactionType.QR_PAYMENT)
+                .status(Transaction.TransactionStatus.PENDING)
+                .description(qrPayment.getDescription() != null ? "QR결제 : " + qrPayment.getDescription() : "QR결제")
+                .idempotencyKey(idempotencyKey)
+                .build();
+        transaction.complete();
+        qrPayment.complete(transaction);
+
+        // 조건부 UPDATE 이후 잔액은 엔티티에 없으므로 스칼라 조회
+        BigDecimal buyerBalanceAfter = accountBalanceService.getBalance(buyerAccountId);
+        transactionRepository.save(transaction);
+        accountEntryService.record(transaction, buyerBalanceAfter,
+                hotSeller ? null : accountBalanceService.getBalance(sellerAccountId));
+        qrPaymentRepository.save(qrPayment);
+
+        // 알림 생성 (실패해도 결제는 완료됨)
+        try {
+            createNotification(transaction);
+        } catch (Exception notificationError) {
+            log.error("알림 생성 실패 (결제는 정상 완료): transactionId={}, error={}",
+                    transaction.getId(), notificationError.getMessage(), notificationError);
+        }
+
+        log.info("QR 결제 완료 (조건부 UPDATE): transactionId={}, buyerId={}, sellerAccountId={}",
+                transaction.getId(), buyerId, sellerAccountId);
+
+        return QrPayResponse.of(
+                qrPayment,
+                transaction,
+                sellerAccount.getUser().getName(),
+                buyerBalanceAfter
+        );
+    }
+
+    private void verifyPaymentCredential(Long buyerId, QrPayRequest request) {
+        paymentStageMetrics.record(PaymentStageMetrics.QR_PAYMENT, PaymentStageMetrics.SIMPLE_PASSWORD, () -> {
+            // 결제 인증 토큰은 QR 금액이 토큰 한도 안인지 확인해야 하므로 금액만 조회 (Lock 없음)
+            BigDecimal amount = request.hasPaymentToken()
+                    ? qrPaymentRepository.findAmountByQrCode(request.getQrCode())
+                            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 QR 코드입니다."))
+                    : null;
+            paymentAuthorizationService.verify(buyerId, request, amount);
+        });
+    }
+
+    private void createNotification(Transaction transaction) {
+        paymentStageMetrics.record(PaymentStageMetrics.QR_PAYMENT, PaymentStageMetrics.NOTIFICATION,
+                () -> notificationService.createQrPaymentNotification(transaction));
+    }
+
+    /**
+     * Idempotency-Key로 이미 완료된 QR 결제 조회 (계좌 Lock 없음)
+     * 재전송 응답의 거래 후 잔액은 조회 시점의 잔액이다.
+     */
+    private Optional<QrPayResponse> findCompletedPayment(String idempotencyKey, QrPayRequest request) {
+        return transactionTemplate.execute(status -> transactionRepository.findByIdempotencyKey(idempotencyKey)
+                .map(transaction -> {
+                    QrPayment qrPayment = qrPaymentRepository.findByTransactionId(transaction.getId())
+                            .filter(payment -> payment.getQrCode().equals(request.getQrCode()))
+                            .orElseThrow(() -> new IllegalArgumentException(IdempotentRequestExecutor.KEY_REUSED_MESSAGE));
+                    return QrPayResponse.of(
+                            qrPayment,
+                            transaction,
+                            transaction.getToAccount().getUser().getName(),
+                            hotAccountService.getAvailableBalance(transaction.getFromAccount())
+                    );
+                }));
+    }
+
     private String generateUniqueQrCode() {
         String qrCode;
         do {
@@ -204,9 +416,4 @@ public class QrPaymentService {
         } while (qrPaymentRepository.existsByQrCode(qrCode));
         return qrCode;
     }
-
-    private String getCurrentUserEmail() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return authentication.getName();
-    }
 }
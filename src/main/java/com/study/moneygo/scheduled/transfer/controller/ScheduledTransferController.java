@@ -3,6 +3,7 @@ package com.study.moneygo.scheduled.transfer.controller;
 import com.study.moneygo.scheduled.transfer.dto.request.ScheduledTransferRequest;
 import com.study.moneygo.scheduled.transfer.dto.response.ScheduledTransferResponse;
 import com.study.moneygo.scheduled.transfer.service.ScheduledTransferService;
+import com.study.moneygo.util.dto.SliceResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -41,6 +42,16 @@ public class ScheduledTransferController {
         return ResponseEntity.ok(schedules);
     }
 
+    /*
+     내 예약 송금 목록 조회 (전체 건수 없이 hasNext만, 무한 스크롤용)
+     */
+    @GetMapping("/slice")
+    public ResponseEntity<SliceResponse<ScheduledTransferResponse>> getMySchedulesSlice(
+            @PageableDefault(size = 20, sort = "scheduledAt", direction = Sort.Direction.DESC)
+            Pageable pageable) {
+        return ResponseEntity.ok(SliceResponse.of(scheduledTransferService.getMySchedulesSlice(pageable)));
+    }
+
     /*
      송금 예약 상세 조회
      */
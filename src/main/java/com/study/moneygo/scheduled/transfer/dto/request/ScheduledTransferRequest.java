@@ -1,5 +1,6 @@
 package com.study.moneygo.scheduled.transfer.dto.request;
 
+import com.study.moneygo.simplepassword.dto.request.PaymentCredential;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -11,7 +12,7 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-public class ScheduledTransferRequest {
+public class ScheduledTransferRequest implements PaymentCredential {
 
     @NotBlank(message = "받는 계좌번호는 필수입니다.")
     @Pattern(regexp = "^\\d{4}-\\d{4}-\\d{4}$", message = "올바른 계좌번호 형식이 아닙니다.")
@@ -29,7 +30,8 @@ public class ScheduledTransferRequest {
     @Future(message = "예약 시간은 현재 시간 이후여야 합니다.")
     private LocalDateTime scheduledAt;
 
-    @NotBlank(message = "비밀번호는 필수입니다.")
     @Pattern(regexp = "^\\d{6}$", message = "간편 비밀번호는 6자리 숫자여야 합니다.")
     private String simplePassword;
+
+    private String paymentToken; // 결제 인증 토큰 (간편 비밀번호 대신 사용 가능)
 }
@@ -44,7 +44,8 @@ public class ScheduledTransfer extends BaseEntity {
     private ScheduleStatus status = ScheduleStatus.PENDING;
 
     @OneToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "executed_transaction_id")
+    // 거래 테이블은 월별 파티션으로 변환될 수 있어 FK 제약은 두지 않음 (id + created_at이 PK)
+    @JoinColumn(name = "executed_transaction_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Transaction executedTransaction;
 
     @Column(name = "execution_attempted_at")
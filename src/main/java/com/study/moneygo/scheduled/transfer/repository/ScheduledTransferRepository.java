@@ -3,6 +3,7 @@ package com.study.moneygo.scheduled.transfer.repository;
 import com.study.moneygo.scheduled.transfer.entity.ScheduledTransfer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -18,6 +19,10 @@ public interface ScheduledTransferRepository extends JpaRepository<ScheduledTran
     @Query("SELECT st FROM ScheduledTransfer st WHERE st.fromAccount.user.id = :userId ORDER BY st.scheduledAt DESC")
     Page<ScheduledTransfer> findByUserId(@Param("userId") Long userId, Pageable pageable);
 
+    // 사용자의 예약 송금 목록 조회 (COUNT 없이 size + 1건 조회)
+    @Query("SELECT st FROM ScheduledTransfer st WHERE st.fromAccount.user.id = :userId ORDER BY st.scheduledAt DESC")
+    Slice<ScheduledTransfer> findSliceByUserId(@Param("userId") Long userId, Pageable pageable);
+
     // 실행 대기 중인 예약 조회 (User까지 fetch join)
     @Query("SELECT st FROM ScheduledTransfer st " +
             "JOIN FETCH st.fromAccount a " +
@@ -1,24 +1,25 @@
 package com.study.moneygo.scheduled.transfer.service;
 
 import com.study.moneygo.account.entity.Account;
+import com.study.moneygo.account.service.AccountLockService;
 import com.study.moneygo.transaction.entity.Transaction;
 import com.study.moneygo.account.repository.AccountRepository;
 import com.study.moneygo.transaction.repository.TransactionRepository;
-import com.study.moneygo.transfer.repository.TransferLimitRepository;
+import com.study.moneygo.transaction.service.AccountEntryService;
 import com.study.moneygo.notification.service.NotificationService;
 import com.study.moneygo.scheduled.transfer.dto.request.ScheduledTransferRequest;
 import com.study.moneygo.scheduled.transfer.dto.response.ScheduledTransferResponse;
 import com.study.moneygo.scheduled.transfer.entity.ScheduledTransfer;
 import com.study.moneygo.scheduled.transfer.repository.ScheduledTransferRepository;
-import com.study.moneygo.simplepassword.service.SimplePasswordService;
+import com.study.moneygo.simplepassword.service.PaymentAuthorizationService;
 import com.study.moneygo.user.entity.User;
 import com.study.moneygo.user.repository.UserRepository;
+import com.study.moneygo.util.security.CurrentUserContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,27 +35,25 @@ public class ScheduledTransferService {
 
     private final ScheduledTransferRepository scheduledTransferRepository;
     private final UserRepository userRepository;
+    private final CurrentUserContext currentUserContext;
     private final AccountRepository accountRepository;
+    private final AccountLockService accountLockService;
     private final TransactionRepository transactionRepository;
-    private final TransferLimitRepository transferLimitRepository;
-    private final SimplePasswordService simplePasswordService;
+    private final AccountEntryService accountEntryService;
+    private final PaymentAuthorizationService paymentAuthorizationService;
     private final NotificationService notificationService;
 
     @Transactional
     public ScheduledTransferResponse createSchedule(ScheduledTransferRequest request) {
-        String email = getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        Long userId = currentUserContext.getUserId();
 
-        // 계좌 조회 (락 획득)
-        Account fromAccount = accountRepository.findByIdForUpdate(
-                accountRepository.findByUserId(user.getId())
-                        .orElseThrow(() -> new IllegalStateException("계좌 정보를 찾을 수 없습니다."))
-                        .getId()
-        ).orElseThrow(() -> new IllegalStateException("계좌 정보를 찾을 수 없습니다."));
+        // 간편 비밀번호 / 결제 인증 토큰 확인 + 토큰 차감 (계좌 Lock 전에 처리, 등록이 롤백되면 함께 롤백)
+        paymentAuthorizationService.verify(userId, request, request.getAmount());
+        paymentAuthorizationService.consume(userId, request, request.getAmount());
 
-        // 간편 비밀번호 확인
-        simplePasswordService.verifySimplePasswordForUser(user.getId(), request.getSimplePassword());
+        // 계좌 조회 (락 획득)
+        Account fromAccount = accountRepository.findByIdForUpdate(currentUserContext.getAccountId())
+                .orElseThrow(() -> new IllegalStateException("계좌 정보를 찾을 수 없습니다."));
 
         // 받는 계좌 존재 확인
         Account toAccount = accountRepository.findByAccountNumber(request.getToAccountNumber())
@@ -104,25 +103,31 @@ public class ScheduledTransferService {
 
     @Transactional(readOnly = true)
     public Page<ScheduledTransferResponse> getMySchedules(Pageable pageable) {
-        String email = getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        Long userId = currentUserContext.getUserId();
 
-        Page<ScheduledTransfer> schedules = scheduledTransferRepository.findByUserId(user.getId(), pageable);
+        Page<ScheduledTransfer> schedules = scheduledTransferRepository.findByUserId(userId, pageable);
         return schedules.map(ScheduledTransferResponse::of);
     }
 
+    /**
+     * 예약 송금 목록 (전체 건수 없이 다음 페이지 여부만)
+     */
+    @Transactional(readOnly = true)
+    public Slice<ScheduledTransferResponse> getMySchedulesSlice(Pageable pageable) {
+        Long userId = currentUserContext.getUserId();
+
+        return scheduledTransferRepository.findSliceByUserId(userId, pageable).map(ScheduledTransferResponse::of);
+    }
+
     @Transactional(readOnly = true)
     public ScheduledTransferResponse getScheduleDetail(Long scheduleId) {
-        String email = getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        Long userId = currentUserContext.getUserId();
 
         ScheduledTransfer schedule = scheduledTransferRepository.findById(scheduleId)
                 .orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다."));
 
         // 소유권 확인
-        if (!schedule.getFromAccount().getUser().getId().equals(user.getId())) {
+        if (!schedule.getFromAccount().getUser().getId().equals(userId)) {
             throw new IllegalArgumentException("접근 권한이 없습니다.");
         }
 
@@ -131,15 +136,13 @@ public class ScheduledTransferService {
 
     @Transactional
     public void cancelSchedule(Long scheduleId) {
-        String email = getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        Long userId = currentUserContext.getUserId();
 
         ScheduledTransfer schedule = scheduledTransferRepository.findById(scheduleId)
                 .orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다."));
 
         // 소유권 확인
-        if (!schedule.getFromAccount().getUser().getId().equals(user.getId())) {
+        if (!schedule.getFromAccount().getUser().getId().equals(userId)) {
             throw new IllegalArgumentException("접근 권한이 없습니다.");
         }
 
@@ -164,13 +167,15 @@ public class ScheduledTransferService {
     @Transactional
     public void executeScheduledTransfer(ScheduledTransfer schedule) {
         try {
-            // 계좌 조회 및 락 획득
-            Account fromAccount = accountRepository.findByIdForUpdate(schedule.getFromAccount().getId())
-                    .orElseThrow(() -> new IllegalStateException("송금 계좌를 찾을 수 없습니다."));
-
-            Account toAccount = accountRepository.findByAccountNumberForUpdate(schedule.getToAccountNumber())
+            // 받는 계좌 ID 확인 후 두 계좌를 id 오름차순으로 한 번에 잠금 (데드락 방지)
+            Long toAccountId = accountRepository.findIdByAccountNumber(schedule.getToAccountNumber())
                     .orElseThrow(() -> new IllegalStateException("받는 계좌를 찾을 수 없습니다."));
 
+            AccountLockService.AccountPair accounts =
+                    accountLockService.lockPair(schedule.getFromAccount().getId(), toAccountId);
+            Account fromAccount = accounts.getFrom();
+            Account toAccount = accounts.getTo();
+
             // 계좌 상태 확인
             if (!fromAccount.isActive() || !toAccount.isActive()) {
                 // 실패 시 잔액 환불
@@ -204,6 +209,7 @@ public class ScheduledTransferService {
             transaction.complete();
 
             transactionRepository.save(transaction);
+            accountEntryService.record(transaction, fromAccount.getBalance(), toAccount.getBalance());
             accountRepository.save(toAccount);
 
             // 예약 완료 처리
@@ -256,11 +262,6 @@ public class ScheduledTransferService {
         }
     }
 
-    private String getCurrentUserEmail() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return authentication.getName();
-    }
-
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void sendScheduledTransferNotificationAsync(Long userId, Long transactionId,
                                                        java.math.BigDecimal amount,
@@ -1,9 +1,12 @@
 package com.study.moneygo.simplepassword.controller;
 
+import com.study.moneygo.simplepassword.dto.request.PaymentAuthorizeRequest;
 import com.study.moneygo.simplepassword.dto.request.SimplePasswordChangeRequest;
 import com.study.moneygo.simplepassword.dto.request.SimplePasswordRegisterRequest;
 import com.study.moneygo.simplepassword.dto.request.SimplePasswordVerifyRequest;
+import com.study.moneygo.simplepassword.dto.response.PaymentAuthorizeResponse;
 import com.study.moneygo.simplepassword.dto.response.SimplePasswordResponse;
+import com.study.moneygo.simplepassword.service.PaymentAuthorizationService;
 import com.study.moneygo.simplepassword.service.SimplePasswordService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +24,7 @@ import java.util.Map;
 public class SimplePasswordController {
 
     private final SimplePasswordService simplePasswordService;
+    private final PaymentAuthorizationService paymentAuthorizationService;
 
     /**
      * 간편 비밀번호 등록
@@ -66,6 +70,21 @@ public class SimplePasswordController {
         return ResponseEntity.ok(Map.of("valid", isValid));
     }
 
+    /**
+     * 결제 인증 토큰 발급
+     * 송금 / 결제 요청에 간편 비밀번호 대신 paymentToken으로 사용
+     * @param request
+     * @return
+     */
+    @PostMapping("/authorize")
+    public ResponseEntity<PaymentAuthorizeResponse> authorizePayment(
+            @Valid @RequestBody PaymentAuthorizeRequest request
+    ) {
+        log.info("결제 인증 토큰 발급 요청");
+        PaymentAuthorizeResponse response = paymentAuthorizationService.authorize(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     /**
      * 간편 비밀번호 등록 여부 확인
      * @return
@@ -0,0 +1,29 @@
+package com.study.moneygo.simplepassword.dto.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentAuthorizeRequest {
+
+    @NotBlank(message = "간편 비밀번호는 필수입니다.")
+    @Pattern(regexp = "^\\d{6}$", message = "간편 비밀번호는 6자리 숫자여야 합니다.")
+    private String simplePassword;
+
+    @NotNull(message = "최대 결제 금액은 필수입니다.")
+    @DecimalMin(value = "0.01", message = "최대 결제 금액은 0보다 커야합니다.")
+    private BigDecimal maxAmount; // 토큰으로 결제할 수 있는 총액
+
+    @Min(value = 1, message = "사용 횟수는 1회 이상이어야 합니다.")
+    private Integer maxUses; // 없으면 1회용, 최대값은 moneygo.payment-token.max-uses
+}
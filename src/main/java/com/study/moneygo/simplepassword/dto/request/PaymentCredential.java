@@ -0,0 +1,23 @@
+package com.study.moneygo.simplepassword.dto.request;
+
+import jakarta.validation.constraints.AssertTrue;
+
+/**
+ * 결제성 요청(송금, QR 결제, 입금, 예약 송금)의 인증 수단
+ * 간편 비밀번호 또는 /api/simple-password/authorize 로 발급받은 결제 인증 토큰 중 하나가 필요하다.
+ */
+public interface PaymentCredential {
+
+    String getSimplePassword();
+
+    String getPaymentToken();
+
+    default boolean hasPaymentToken() {
+        return getPaymentToken() != null && !getPaymentToken().isBlank();
+    }
+
+    @AssertTrue(message = "간편 비밀번호 또는 결제 인증 토큰이 필요합니다.")
+    default boolean isCredentialPresent() {
+        return hasPaymentToken() || (getSimplePassword() != null && !getSimplePassword().isBlank());
+    }
+}
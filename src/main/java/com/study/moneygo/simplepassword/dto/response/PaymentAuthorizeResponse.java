@@ -0,0 +1,19 @@
+package com.study.moneygo.simplepassword.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class PaymentAuthorizeResponse {
+
+    private String paymentToken;
+    private BigDecimal maxAmount;
+    private int maxUses;
+    private LocalDateTime expiresAt;
+}
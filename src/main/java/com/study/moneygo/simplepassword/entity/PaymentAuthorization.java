@@ -0,0 +1,44 @@
+package com.study.moneygo.simplepassword.entity;
+
+import com.study.moneygo.util.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 결제 인증 토큰 (남은 금액 / 사용 횟수)
+ * 토큰 원문은 저장하지 않고 SHA-256 digest만 저장한다.
+ * 여러 서버 어디서든 같은 토큰을 사용할 수 있도록 DB에 둔다.
+ */
+@Entity
+@Table(name = "payment_authorizations",
+        indexes = @Index(name = "idx_payment_authorization_expires_at", columnList = "expires_at"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaymentAuthorization extends BaseEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "remaining_amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal remainingAmount;
+
+    @Column(name = "remaining_uses", nullable = false)
+    private Integer remainingUses;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,28 @@
+package com.study.moneygo.simplepassword.executor;
+
+import com.study.moneygo.simplepassword.service.PaymentAuthorizationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentAuthorizationPurgeExecutor {
+
+    private final PaymentAuthorizationService paymentAuthorizationService;
+
+    // 만료 / 소진된 결제 인증 토큰 정리 (기본 1분)
+    @Scheduled(fixedDelayString = "${moneygo.payment-token.purge-interval-ms:60000}")
+    public void purgeExpiredAuthorizations() {
+        try {
+            int purged = paymentAuthorizationService.purgeExpired();
+            if (purged > 0) {
+                log.debug("결제 인증 토큰 정리: {}건", purged);
+            }
+        } catch (Exception e) {
+            log.error("결제 인증 토큰 정리 중 오류 발생", e);
+        }
+    }
+}
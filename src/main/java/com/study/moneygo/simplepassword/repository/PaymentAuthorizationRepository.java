@@ -0,0 +1,35 @@
+package com.study.moneygo.simplepassword.repository;
+
+import com.study.moneygo.simplepassword.entity.PaymentAuthorization;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface PaymentAuthorizationRepository extends JpaRepository<PaymentAuthorization, Long> {
+
+    Optional<PaymentAuthorization> findByTokenHash(String tokenHash);
+
+    // 조건부 차감 (본인 토큰 + 만료 전 + 남은 횟수 / 금액이 충분할 때만, 한 문장으로 처리)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE PaymentAuthorization p SET p.remainingUses = p.remainingUses - 1, " +
+            "p.remainingAmount = p.remainingAmount - :amount, p.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE p.tokenHash = :tokenHash AND p.userId = :userId AND p.expiresAt > :now " +
+            "AND p.remainingUses > 0 AND p.remainingAmount >= :amount")
+    int consumeIfUsable(@Param("tokenHash") String tokenHash,
+                        @Param("userId") Long userId,
+                        @Param("amount") BigDecimal amount,
+                        @Param("now") LocalDateTime now);
+
+    // 만료 / 소진된 토큰 정리
+    @Modifying
+    @Query("DELETE FROM PaymentAuthorization p " +
+            "WHERE p.expiresAt <= :now OR p.remainingUses <= 0 OR p.remainingAmount <= 0")
+    int deleteUnusable(@Param("now") LocalDateTime now);
+}
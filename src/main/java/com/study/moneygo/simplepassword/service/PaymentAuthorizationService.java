@@ -0,0 +1,157 @@
+package com.study.moneygo.simplepassword.service;
+
+import com.study.moneygo.simplepassword.dto.request.PaymentAuthorizeRequest;
+import com.study.moneygo.simplepassword.dto.request.PaymentCredential;
+import com.study.moneygo.simplepassword.dto.response.PaymentAuthorizeResponse;
+import com.study.moneygo.simplepassword.entity.PaymentAuthorization;
+import com.study.moneygo.simplepassword.repository.PaymentAuthorizationRepository;
+import com.study.moneygo.util.security.CurrentUserContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 결제 인증 토큰 발급 / 검증
+ * 간편 비밀번호(BCrypt)를 한 번 확인하고 사용자, 최대 금액, 사용 횟수에 묶인 짧은 수명의 토큰을 발급한다.
+ * 이후 송금 / QR 결제 / 입금 / 예약 송금은 간편 비밀번호 대신 토큰으로 인증할 수 있다.
+ *
+ * 토큰은 payment_authorizations 테이블에 두므로 어느 서버에서 발급했든 사용할 수 있다.
+ * 1. verify(): 계좌 Lock 전에 간편 비밀번호 확인 또는 토큰 사용 가능 여부만 확인 (차감 X)
+ * 2. consume(): 결제 트랜잭션 안에서 조건부 UPDATE로 차감 (결제가 롤백되면 차감도 롤백)
+ */
+@Slf4j
+@Service
+public class PaymentAuthorizationService {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final String INVALID_TOKEN_MESSAGE = "결제 인증 토큰이 유효하지 않거나 만료되었습니다.";
+
+    private final SimplePasswordService simplePasswordService;
+    private final PaymentAuthorizationRepository paymentAuthorizationRepository;
+    private final CurrentUserContext currentUserContext;
+    private final long ttlMillis;
+    private final int maxUsesLimit;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public PaymentAuthorizationService(
+            SimplePasswordService simplePasswordService,
+            PaymentAuthorizationRepository paymentAuthorizationRepository,
+            CurrentUserContext currentUserContext,
+            @Value("${moneygo.payment-token.ttl-ms:300000}") long ttlMillis,
+            @Value("${moneygo.payment-token.max-uses:10}") int maxUsesLimit
+    ) {
+        this.simplePasswordService = simplePasswordService;
+        this.paymentAuthorizationRepository = paymentAuthorizationRepository;
+        this.currentUserContext = currentUserContext;
+        this.ttlMillis = ttlMillis;
+        this.maxUsesLimit = maxUsesLimit;
+    }
+
+    /**
+     * 간편 비밀번호 확인 후 결제 인증 토큰 발급
+     */
+    public PaymentAuthorizeResponse authorize(PaymentAuthorizeRequest request) {
+        // 사용 횟수 한도는 설정(moneygo.payment-token.max-uses)을 따름 (간편 비밀번호 확인 전에 거절)
+        int maxUses = request.getMaxUses() == null ? 1 : request.getMaxUses();
+        if (maxUses > maxUsesLimit) {
+            throw new IllegalArgumentException("사용 횟수는 최대 " + maxUsesLimit + "회입니다.");
+        }
+
+        Long userId = currentUserContext.getUserId();
+        simplePasswordService.verifySimplePasswordForUser(userId, request.getSimplePassword());
+
+        LocalDateTime expiresAt = LocalDateTime.now().plusNanos(ttlMillis * 1_000_000);
+        String token = generateToken();
+        paymentAuthorizationRepository.save(PaymentAuthorization.builder()
+                .tokenHash(digest(token))
+                .userId(userId)
+                .remainingAmount(request.getMaxAmount())
+                .remainingUses(maxUses)
+                .expiresAt(expiresAt)
+                .build());
+
+        log.info("결제 인증 토큰 발급: userId={}, maxAmount={}, maxUses={}", userId, request.getMaxAmount(), maxUses);
+        return PaymentAuthorizeResponse.builder()
+                .paymentToken(token)
+                .maxAmount(request.getMaxAmount())
+                .maxUses(maxUses)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    /**
+     * 결제 요청 인증 (계좌 Lock 전에 호출)
+     * 토큰이 있으면 지금 사용할 수 있는지만 확인하고 (차감은 consume()), 없으면 간편 비밀번호를 확인한다.
+     * @param userId 결제하는 사용자 ID
+     * @param credential 간편 비밀번호 또는 결제 인증 토큰
+     * @param amount 결제 금액 (간편 비밀번호만 확인할 때는 null 가능)
+     */
+    public void verify(Long userId, PaymentCredential credential, BigDecimal amount) {
+        if (!credential.hasPaymentToken()) {
+            simplePasswordService.verifySimplePasswordForUser(userId, credential.getSimplePassword());
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        boolean usable = paymentAuthorizationRepository.findByTokenHash(digest(credential.getPaymentToken()))
+                .filter(authorization -> authorization.getUserId().equals(userId)
+                        && authorization.getExpiresAt().isAfter(now)
+                        && authorization.getRemainingUses() > 0
+                        && authorization.getRemainingAmount().compareTo(amount) >= 0)
+                .isPresent();
+        if (!usable) {
+            throw new IllegalArgumentException(INVALID_TOKEN_MESSAGE);
+        }
+    }
+
+    /**
+     * 결제 인증 토큰 차감 (결제 트랜잭션 안에서 호출, 간편 비밀번호로 인증한 요청이면 아무것도 하지 않음)
+     * 결제가 실패해 롤백되면 차감도 함께 롤백된다.
+     * 같은 토큰으로 동시에 결제하면 토큰 행에서 줄 서므로, 계좌 Lock보다 먼저 호출한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void consume(Long userId, PaymentCredential credential, BigDecimal amount) {
+        if (!credential.hasPaymentToken()) {
+            return;
+        }
+        int updated = paymentAuthorizationRepository.consumeIfUsable(
+                digest(credential.getPaymentToken()), userId, amount, LocalDateTime.now());
+        if (updated != 1) {
+            throw new IllegalArgumentException(INVALID_TOKEN_MESSAGE);
+        }
+    }
+
+    /**
+     * 만료 / 소진된 토큰 정리
+     */
+    @Transactional
+    public int purgeExpired() {
+        return paymentAuthorizationRepository.deleteUnusable(LocalDateTime.now());
+    }
+
+    private String generateToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
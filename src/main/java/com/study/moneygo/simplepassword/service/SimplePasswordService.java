@@ -6,6 +6,9 @@ import com.study.moneygo.simplepassword.dto.request.SimplePasswordVerifyRequest;
 import com.study.moneygo.simplepassword.dto.response.SimplePasswordResponse;
 import com.study.moneygo.user.entity.User;
 import com.study.moneygo.user.repository.UserRepository;
+import com.study.moneygo.user.service.FailedAttemptService;
+import com.study.moneygo.util.security.AttemptThrottle;
+import com.study.moneygo.util.security.SimplePasswordEncoder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
@@ -21,6 +24,9 @@ public class SimplePasswordService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final SimplePasswordEncoder simplePasswordEncoder;
+    private final AttemptThrottle attemptThrottle;
+    private final FailedAttemptService failedAttemptService;
 
     /**
      * 간편 비밀번호 등록
@@ -49,7 +55,7 @@ public class SimplePasswordService {
         }
 
         // 다 통과하면 간편 비밀번호 등록 가능 -> 암호화 저장
-        String encodedSimplePassword = passwordEncoder.encode(request.getSimplePassword());
+        String encodedSimplePassword = simplePasswordEncoder.encode(request.getSimplePassword());
         user.setSimplePassword(encodedSimplePassword);
         userRepository.save(user);
 
@@ -74,19 +80,8 @@ public class SimplePasswordService {
         }
 
         // 현재 간편 비밀번호 확인
-        if (!passwordEncoder.matches(request.getCurrentSimplePassword(), user.getSimplePassword())) {
-            user.incrementFailedSimplePasswordAttempts();
-            userRepository.save(user);
-
-            int remainingAttempts = 5 - user.getFailedSimplePasswordAttempts();
-            if (remainingAttempts <= 0) {
-                throw new IllegalStateException("간편 비밀번호 입력 실패 횟수 초과로 계정이 잠겼습니다.");
-            }
-
-            throw new IllegalArgumentException(
-                    String.format("현재 간편 비밀번호가 올바르지 않습니다. (남은 시도 : %d회)", remainingAttempts)
-            );
-        }
+        checkSimplePassword(user, request.getCurrentSimplePassword(),
+                "현재 간편 비밀번호가 올바르지 않습니다. (남은 시도 : %d회)");
 
         // 새 비밀번호와 확인
         if (!request.getNewSimplePassword().equals(request.getNewSimplePasswordConfirm())) {
@@ -99,7 +94,7 @@ public class SimplePasswordService {
         }
 
         // 다 통과 시 비밀번호 변경
-        String encodedSimplePassword = passwordEncoder.encode(request.getNewSimplePassword());
+        String encodedSimplePassword = simplePasswordEncoder.encode(request.getNewSimplePassword());
         user.setSimplePassword(encodedSimplePassword);
         user.resetFailedSimplePasswordAttempts();
         userRepository.save(user);
@@ -125,19 +120,7 @@ public class SimplePasswordService {
         }
 
         // 간편 비밀번호 확인
-        if (!passwordEncoder.matches(request.getSimplePassword(), user.getSimplePassword())) {
-            user.incrementFailedSimplePasswordAttempts();
-            userRepository.save(user);
-
-            int remainingAttempts = 5 - user.getFailedSimplePasswordAttempts();
-            if (remainingAttempts <= 0) {
-                throw new IllegalStateException("간편 비밀번호 입력 실패 횟수 초과로 계정이 잠겼습니다.");
-            }
-
-            throw new IllegalArgumentException(
-                    String.format("간편 비밀번호가 올바르지 않습니다. (남은 시도: %d회)", remainingAttempts)
-            );
-        }
+        checkSimplePassword(user, request.getSimplePassword(), "간편 비밀번호가 올바르지 않습니다. (남은 시도: %d회)");
 
         // 다 통과 시 실패 횟수 초기화
         user.resetFailedSimplePasswordAttempts();
@@ -179,24 +162,44 @@ public class SimplePasswordService {
         }
 
         // 간편 비밀번호 확인
-        if (!passwordEncoder.matches(simplePassword, user.getSimplePassword())) {
-            user.incrementFailedSimplePasswordAttempts();
-            userRepository.save(user);
+        checkSimplePassword(user, simplePassword, "간편 비밀번호가 올바르지 않습니다. (남은 시도: %d회)");
+
+        // 성공 시 실패 횟수 초기화
+        user.resetFailedSimplePasswordAttempts();
+        userRepository.save(user);
+
+        return true;
+    }
+
+    /**
+     * 간편 비밀번호 비교
+     * 사용자 기준 실패 횟수 초과면 BCrypt 비교 전에 거절하고 (IP 기준은 실패했을 때만),
+     * 실패 횟수는 FailedAttemptService에 모아서 반영한다 (잠금 기준 도달 시 즉시 반영).
+     * @param mismatchMessage 불일치 메시지 (남은 시도 횟수 %d 포함)
+     */
+    private void checkSimplePassword(User user, String simplePassword, String mismatchMessage) {
+        String subject = String.valueOf(user.getId());
+        attemptThrottle.checkAllowed(AttemptThrottle.SIMPLE_PASSWORD, subject);
+
+        if (!simplePasswordEncoder.matches(simplePassword, user.getSimplePassword())) {
+            // 잠금 기준 실패 횟수를 먼저 반영한 뒤 IP 한도 확인 (429여도 실패 횟수는 남도록)
+            int failedAttempts = failedAttemptService.recordSimplePasswordFailure(user);
+            attemptThrottle.recordFailure(AttemptThrottle.SIMPLE_PASSWORD, subject);
 
-            int remainingAttempts = 5 - user.getFailedSimplePasswordAttempts();
+            int remainingAttempts = User.MAX_FAILED_SIMPLE_PASSWORD_ATTEMPTS - failedAttempts;
             if (remainingAttempts <= 0) {
                 throw new IllegalStateException("간편 비밀번호 입력 실패 횟수 초과로 계정이 잠겼습니다.");
             }
-            throw new IllegalArgumentException(
-                    String.format("간편 비밀번호가 올바르지 않습니다. (남은 시도: %d회)", remainingAttempts)
-            );
+            throw new IllegalArgumentException(String.format(mismatchMessage, remainingAttempts));
         }
 
-        // 성공 시 실패 횟수 초기화
-        user.resetFailedSimplePasswordAttempts();
-        userRepository.save(user);
+        attemptThrottle.clear(AttemptThrottle.SIMPLE_PASSWORD, subject);
+        failedAttemptService.clearSimplePasswordFailures(user.getId());
 
-        return true;
+        // 예전 설정으로 저장된 해시면 새 설정으로 다시 해시 (호출한 쪽 트랜잭션에서 저장)
+        if (simplePasswordEncoder.upgradeEncoding(user.getSimplePassword())) {
+            user.setSimplePassword(simplePasswordEncoder.encode(simplePassword));
+        }
     }
 
     private String getCurrentUserEmail() {
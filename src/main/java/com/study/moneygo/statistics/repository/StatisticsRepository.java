@@ -10,16 +10,20 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * 통계는 계좌 원장(AccountEntry)의 (account_id, created_at) 범위로 집계한다.
+ * 원장에는 완료된 거래만 있고, 금액은 입금(CREDIT) 양수 / 출금(DEBIT) 음수로 저장되어 있다.
+ */
 @Repository
 public interface StatisticsRepository extends JpaRepository<Transaction, Long> {
 
     /**
      * 특정 계좌의 기간별 입금 총액
      */
-    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t " +
-            "WHERE t.toAccount.id = :accountId " +
-            "AND t.status = 'COMPLETED' " +
-            "AND t.createdAt >= :startDate AND t.createdAt < :endDate")
+    @Query("SELECT COALESCE(SUM(e.amount), 0) FROM AccountEntry e " +
+            "WHERE e.accountId = :accountId " +
+            "AND e.createdAt >= :startDate AND e.createdAt < :endDate " +
+            "AND e.direction = 'CREDIT'")
     BigDecimal sumDepositByAccountIdAndPeriod(
             @Param("accountId") Long accountId,
             @Param("startDate") LocalDateTime startDate,
@@ -29,10 +33,10 @@ public interface StatisticsRepository extends JpaRepository<Transaction, Long> {
     /**
      * 특정 계좌의 기간별 출금 총액
      */
-    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t " +
-            "WHERE t.fromAccount.id = :accountId " +
-            "AND t.status = 'COMPLETED' " +
-            "AND t.createdAt >= :startDate AND t.createdAt < :endDate")
+    @Query("SELECT COALESCE(-SUM(e.amount), 0) FROM AccountEntry e " +
+            "WHERE e.accountId = :accountId " +
+            "AND e.createdAt >= :startDate AND e.createdAt < :endDate " +
+            "AND e.direction = 'DEBIT'")
     BigDecimal sumWithdrawalByAccountIdAndPeriod(
             @Param("accountId") Long accountId,
             @Param("startDate") LocalDateTime startDate,
@@ -42,12 +46,12 @@ public interface StatisticsRepository extends JpaRepository<Transaction, Long> {
     /**
      * 특정 계좌의 기간별 거래 유형별 통계
      */
-    @Query("SELECT t.type as type, COALESCE(SUM(t.amount), 0) as amount, COUNT(t) as count " +
-            "FROM Transaction t " +
-            "WHERE t.fromAccount.id = :accountId " +
-            "AND t.status = 'COMPLETED' " +
-            "AND t.createdAt >= :startDate AND t.createdAt < :endDate " +
-            "GROUP BY t.type")
+    @Query("SELECT e.type as type, COALESCE(-SUM(e.amount), 0) as amount, COUNT(e) as count " +
+            "FROM AccountEntry e " +
+            "WHERE e.accountId = :accountId " +
+            "AND e.createdAt >= :startDate AND e.createdAt < :endDate " +
+            "AND e.direction = 'DEBIT' " +
+            "GROUP BY e.type")
     List<Object[]> findCategoryStatisticsByAccountIdAndPeriod(
             @Param("accountId") Long accountId,
             @Param("startDate") LocalDateTime startDate,
@@ -57,13 +61,13 @@ public interface StatisticsRepository extends JpaRepository<Transaction, Long> {
     /**
      * 특정 계좌의 일별 트렌드 (입금)
      */
-    @Query("SELECT DATE(t.createdAt) as date, COALESCE(SUM(t.amount), 0) as amount " +
-            "FROM Transaction t " +
-            "WHERE t.toAccount.id = :accountId " +
-            "AND t.status = 'COMPLETED' " +
-            "AND t.createdAt >= :startDate AND t.createdAt < :endDate " +
-            "GROUP BY DATE(t.createdAt) " +
-            "ORDER BY DATE(t.createdAt)")
+    @Query("SELECT DATE(e.createdAt) as date, COALESCE(SUM(e.amount), 0) as amount " +
+            "FROM AccountEntry e " +
+            "WHERE e.accountId = :accountId " +
+            "AND e.createdAt >= :startDate AND e.createdAt < :endDate " +
+            "AND e.direction = 'CREDIT' " +
+            "GROUP BY DATE(e.createdAt) " +
+            "ORDER BY DATE(e.createdAt)")
     List<Object[]> findDailyDepositTrend(
             @Param("accountId") Long accountId,
             @Param("startDate") LocalDateTime startDate,
@@ -73,13 +77,13 @@ public interface StatisticsRepository extends JpaRepository<Transaction, Long> {
     /**
      * 특정 계좌의 일별 트렌드 (출금)
      */
-    @Query("SELECT DATE(t.createdAt) as date, COALESCE(SUM(t.amount), 0) as amount " +
-            "FROM Transaction t " +
-            "WHERE t.fromAccount.id = :accountId " +
-            "AND t.status = 'COMPLETED' " +
-            "AND t.createdAt >= :startDate AND t.createdAt < :endDate " +
-            "GROUP BY DATE(t.createdAt) " +
-            "ORDER BY DATE(t.createdAt)")
+    @Query("SELECT DATE(e.createdAt) as date, COALESCE(-SUM(e.amount), 0) as amount " +
+            "FROM AccountEntry e " +
+            "WHERE e.accountId = :accountId " +
+            "AND e.createdAt >= :startDate AND e.createdAt < :endDate " +
+            "AND e.direction = 'DEBIT' " +
+            "GROUP BY DATE(e.createdAt) " +
+            "ORDER BY DATE(e.createdAt)")
     List<Object[]> findDailyWithdrawalTrend(
             @Param("accountId") Long accountId,
             @Param("startDate") LocalDateTime startDate,
@@ -1,16 +1,11 @@
 package com.study.moneygo.statistics.service;
 
-import com.study.moneygo.account.entity.Account;
-import com.study.moneygo.account.repository.AccountRepository;
 import com.study.moneygo.statistics.dto.response.StatisticsResponse;
 import com.study.moneygo.statistics.repository.StatisticsRepository;
 import com.study.moneygo.transaction.entity.Transaction;
-import com.study.moneygo.user.entity.User;
-import com.study.moneygo.user.repository.UserRepository;
+import com.study.moneygo.util.security.CurrentUserContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,20 +24,14 @@ import java.util.stream.Collectors;
 public class StatisticsService {
 
     private final StatisticsRepository statisticsRepository;
-    private final AccountRepository accountRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserContext currentUserContext;
 
     /**
      * 거래 통계 조회
      */
     @Transactional(readOnly = true)
     public StatisticsResponse getStatistics() {
-        String email = getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        Account account = accountRepository.findByUserId(user.getId())
-                .orElseThrow(() -> new IllegalStateException("계좌 정보를 찾을 수 없습니다."));
+        Long accountId = currentUserContext.getAccountId();
 
         // 이번달 시작/종료
         LocalDateTime thisMonthStart = LocalDateTime.now()
@@ -65,15 +54,15 @@ public class StatisticsService {
 
         // 이번달 총 입금/출금
         BigDecimal thisMonthDeposit = statisticsRepository
-                .sumDepositByAccountIdAndPeriod(account.getId(), thisMonthStart, thisMonthEnd);
+                .sumDepositByAccountIdAndPeriod(accountId, thisMonthStart, thisMonthEnd);
         BigDecimal thisMonthWithdrawal = statisticsRepository
-                .sumWithdrawalByAccountIdAndPeriod(account.getId(), thisMonthStart, thisMonthEnd);
+                .sumWithdrawalByAccountIdAndPeriod(accountId, thisMonthStart, thisMonthEnd);
 
         // 저번달 총 입금/출금
         BigDecimal lastMonthDeposit = statisticsRepository
-                .sumDepositByAccountIdAndPeriod(account.getId(), lastMonthStart, lastMonthEnd);
+                .sumDepositByAccountIdAndPeriod(accountId, lastMonthStart, lastMonthEnd);
         BigDecimal lastMonthWithdrawal = statisticsRepository
-                .sumWithdrawalByAccountIdAndPeriod(account.getId(), lastMonthStart, lastMonthEnd);
+                .sumWithdrawalByAccountIdAndPeriod(accountId, lastMonthStart, lastMonthEnd);
 
         // 증감률 계산
         Double depositChangeRate = calculateChangeRate(lastMonthDeposit, thisMonthDeposit);
@@ -81,7 +70,7 @@ public class StatisticsService {
 
         // 카테고리별 통계 (이번달)
         List<Object[]> categoryData = statisticsRepository
-                .findCategoryStatisticsByAccountIdAndPeriod(account.getId(), thisMonthStart, thisMonthEnd);
+                .findCategoryStatisticsByAccountIdAndPeriod(accountId, thisMonthStart, thisMonthEnd);
 
         BigDecimal totalCategoryAmount = categoryData.stream()
                 .map(data -> (BigDecimal) data[1])
@@ -119,9 +108,9 @@ public class StatisticsService {
                 .withNano(999999999);
 
         List<Object[]> depositTrendData = statisticsRepository
-                .findDailyDepositTrend(account.getId(), last30DaysStart, today);
+                .findDailyDepositTrend(accountId, last30DaysStart, today);
         List<Object[]> withdrawalTrendData = statisticsRepository
-                .findDailyWithdrawalTrend(account.getId(), last30DaysStart, today);
+                .findDailyWithdrawalTrend(accountId, last30DaysStart, today);
 
         // 날짜별로 입금/출금 매핑
         Map<String, BigDecimal> depositMap = depositTrendData.stream()
@@ -153,7 +142,7 @@ public class StatisticsService {
             currentDate = currentDate.plusDays(1);
         }
 
-        log.info("통계 조회 완료: userId={}", user.getId());
+        log.info("통계 조회 완료: userId={}", currentUserContext.getUserId());
 
         return StatisticsResponse.builder()
                 .totalDeposit(thisMonthDeposit)
@@ -177,12 +166,4 @@ public class StatisticsService {
                 .multiply(BigDecimal.valueOf(100))
                 .doubleValue();
     }
-
-    /**
-     * 현재 사용자 이메일 조회
-     */
-    private String getCurrentUserEmail() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return authentication.getName();
-    }
 }
@@ -2,8 +2,11 @@ package com.study.moneygo.transaction.controller;
 
 
 import com.study.moneygo.transaction.dto.request.ReceiptEmailRequest;
+import com.study.moneygo.transaction.dto.response.TransactionCursorResponse;
 import com.study.moneygo.transaction.dto.response.TransactionResponse;
+import com.study.moneygo.transaction.service.TransactionExportService;
 import com.study.moneygo.transaction.service.TransactionService;
+import com.study.moneygo.util.dto.SliceResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -11,11 +14,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 
@@ -26,6 +31,7 @@ import java.time.LocalDate;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final TransactionExportService transactionExportService;
 
     /*
     거래 내역 불러오기
@@ -41,6 +47,61 @@ public class TransactionController {
         return ResponseEntity.ok(responses);
     }
 
+    /*
+    거래 내역 불러오기 (전체 건수 없이 hasNext만, 무한 스크롤용)
+     */
+    @GetMapping("/slice")
+    public ResponseEntity<SliceResponse<TransactionResponse>> getTransactionsSlice(
+            @RequestParam(required = false) String type, // ALL, SENT, RECEIVED
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
+    ) {
+        return ResponseEntity.ok(SliceResponse.of(
+                transactionService.getTransactionsSlice(type, startDate, endDate, pageable)));
+    }
+
+    /*
+    거래 내역 커서 조회 (전체 건수 없이 nextCursor로 다음 페이지 요청, q로 메모 / 상대방 이름 검색)
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<TransactionCursorResponse> getTransactionsByCursor(
+            @RequestParam(required = false) String type, // ALL, SENT, RECEIVED
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        TransactionCursorResponse response = transactionService.getTransactionsByCursor(
+                type, startDate, endDate, q, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /*
+    거래 내역 내보내기 (CSV / NDJSON, 전체를 메모리에 올리지 않고 바로 스트리밍)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "csv") String format, // csv, ndjson
+            @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        log.info("거래 내역 내보내기 요청: startDate={}, endDate={}, format={}, gzip={}", startDate, endDate, format, gzip);
+        TransactionExportService.TransactionExport export =
+                transactionExportService.prepare(startDate, endDate, format, gzip);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(gzip
+                ? MediaType.parseMediaType("application/gzip")
+                : MediaType.parseMediaType(export.getFormat().getContentType()));
+        headers.setContentDisposition(ContentDisposition.attachment().filename(export.getFilename()).build());
+
+        StreamingResponseBody body = out -> transactionExportService.write(export, out);
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+
     /*
     거래 내역 상세 조회
      */
@@ -0,0 +1,21 @@
+package com.study.moneygo.transaction.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 거래 내역 페이지 (전체 건수 없음)
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class TransactionCursorResponse {
+
+    private List<TransactionResponse> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor; // 다음 페이지 요청 시 cursor 파라미터로 전달 (마지막 페이지면 null)
+}
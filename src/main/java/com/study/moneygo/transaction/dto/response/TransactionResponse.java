@@ -1,6 +1,7 @@
 package com.study.moneygo.transaction.dto.response;
 
 import com.study.moneygo.transaction.entity.Transaction;
+import com.study.moneygo.transaction.repository.TransactionHistoryRow;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -41,4 +42,18 @@ public class TransactionResponse {
                 .createdAt(transaction.getCreatedAt())
                 .build();
     }
+
+    public static TransactionResponse of(TransactionHistoryRow row, String counterpartyName) {
+        return TransactionResponse.builder()
+                .transactionId(row.getId())
+                .type(row.getType().name())
+                .amount(row.getAmount())
+                .fromAccount(row.getFromAccountNumber())
+                .toAccount(row.getToAccountNumber())
+                .counterpartyName(counterpartyName)
+                .description(row.getDescription())
+                .status(row.getStatus().name())
+                .createdAt(row.getCreatedAt())
+                .build();
+    }
 }
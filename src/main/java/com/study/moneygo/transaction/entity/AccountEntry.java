@@ -0,0 +1,108 @@
+package com.study.moneygo.transaction.entity;
+
+import com.study.moneygo.account.entity.Account;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 계좌별 원장 (거래 1건당 출금 계좌 / 입금 계좌 쪽 행을 각각 1개씩)
+ * 거래 내역 / 통계를 from OR to 조건 대신 (account_id, created_at) 범위 스캔 한 번으로 조회하기 위한 테이블
+ *
+ * - 완료된 거래만 기록한다. (실패한 거래는 같은 트랜잭션에서 롤백됨)
+ * - created_at은 거래의 created_at을 그대로 사용해서 거래 내역 커서와 순서가 같다.
+ * - 거래 / 계좌는 FK 없이 id만 보관한다. (거래 테이블 파티셔닝 시 FK 제약이 걸리지 않도록)
+ * - search_text는 (account_id, search_text) trigram GIN 인덱스로 메모 / 상대방 이름 부분 검색에 쓴다.
+ *   인덱스는 pg_trgm / btree_gin 확장이 필요해서 AccountEntryBatchRepository.createSearchIndex()로 만든다.
+ */
+@Entity
+@Table(name = "account_entries",
+        indexes = {
+                @Index(name = "idx_account_entry_account_created", columnList = "account_id, created_at, transaction_id")
+        },
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_account_entry_transaction_direction", columnNames = {"transaction_id", "direction"})
+        })
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountEntry {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "transaction_id", nullable = false)
+    private Long transactionId;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "counterparty_account_id")
+    private Long counterpartyAccountId; // 상대 계좌 (충전 / 인출은 null)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Direction direction;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Transaction.TransactionType type;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal amount; // 출금은 음수, 입금은 양수
+
+    @Column(name = "balance_after", precision = 15, scale = 2)
+    private BigDecimal balanceAfter; // 거래 직후 계좌 잔액 (핫 계좌 분할 입금 / 이전 거래 보정분은 null)
+
+    @Column(name = "search_text", length = 260)
+    private String searchText; // 거래 메모 (저장 시 DB에서 상대방 이름을 뒤에 붙임)
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 출금 계좌 쪽 원장 행
+     */
+    public static AccountEntry debit(Transaction transaction, BigDecimal balanceAfter) {
+        return of(transaction, transaction.getFromAccount().getId(), accountId(transaction.getToAccount()),
+                Direction.DEBIT, transaction.getAmount().negate(), balanceAfter);
+    }
+
+    /**
+     * 입금 계좌 쪽 원장 행
+     */
+    public static AccountEntry credit(Transaction transaction, BigDecimal balanceAfter) {
+        return of(transaction, transaction.getToAccount().getId(), accountId(transaction.getFromAccount()),
+                Direction.CREDIT, transaction.getAmount(), balanceAfter);
+    }
+
+    private static AccountEntry of(Transaction transaction, Long accountId, Long counterpartyAccountId,
+                                   Direction direction, BigDecimal amount, BigDecimal balanceAfter) {
+        return AccountEntry.builder()
+                .transactionId(transaction.getId())
+                .accountId(accountId)
+                .counterpartyAccountId(counterpartyAccountId)
+                .direction(direction)
+                .type(transaction.getType())
+                .amount(amount)
+                .balanceAfter(balanceAfter)
+                .searchText(transaction.getDescription())
+                .createdAt(transaction.getCreatedAt())
+                .build();
+    }
+
+    private static Long accountId(Account account) {
+        return account != null ? account.getId() : null;
+    }
+
+    public enum Direction {
+        DEBIT,   // 출금
+        CREDIT   // 입금
+    }
+}
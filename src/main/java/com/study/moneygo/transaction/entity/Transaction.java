@@ -11,7 +11,12 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions",
+        indexes = {
+                // 거래 내역 커서 조회 (createdAt, id 역순 seek)
+                @Index(name = "idx_transaction_from_created", columnList = "from_account_id, created_at, id"),
+                @Index(name = "idx_transaction_to_created", columnList = "to_account_id, created_at, id")
+        })
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -43,8 +48,12 @@ public class Transaction extends BaseEntity {
     @Column(length = 200)
     private String description;
 
-    @Column(name = "idempotency_key", unique = true, length = 100)
-    private String idempotencyKey; // 중복 요청 방지
+    // 중복 요청 방지
+    // unique는 JPA 스키마 생성에 맡기지 않음 (파티션 테이블에는 파티션 키 없는 unique를 만들 수 없음)
+    // - 일반 테이블: uk_transaction_idempotency_key (TransactionPartitionService.ensureIdempotencyKeyUnique)
+    // - 파티션 테이블: transaction_idempotency_keys 테이블 PK + 트리거 (TransactionPartitionRepository.convertToPartitioned)
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
 
     @Column(name = "error_message", length = 500)
     private String errorMessage;
@@ -0,0 +1,37 @@
+package com.study.moneygo.transaction.executor;
+
+import com.study.moneygo.transaction.service.AccountEntryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountEntryBackfillExecutor {
+
+    private final AccountEntryService accountEntryService;
+
+    // 기동 시 원장이 없는 기존 거래 / 검색어가 없는 원장 행을 한 번 채우고 검색 인덱스 생성 (완료 기록이 있으면 건너뜀)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillAccountEntries() {
+        try {
+            accountEntryService.backfillOnStartup();
+        } catch (Exception e) {
+            log.error("계좌 원장 보정 중 오류 발생", e);
+        }
+        try {
+            accountEntryService.backfillSearchText();
+        } catch (Exception e) {
+            log.error("계좌 원장 검색어 보정 중 오류 발생", e);
+        }
+        try {
+            accountEntryService.createSearchIndex();
+        } catch (Exception e) {
+            // 확장 설치 권한이 없으면 검색은 인덱스 없이 (account_id, created_at) 범위 스캔으로 동작
+            log.error("거래 내역 검색 인덱스 생성 중 오류 발생 (pg_trgm / btree_gin 확장 필요)", e);
+        }
+    }
+}
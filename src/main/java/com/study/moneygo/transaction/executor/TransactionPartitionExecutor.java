@@ -0,0 +1,45 @@
+package com.study.moneygo.transaction.executor;
+
+import com.study.moneygo.transaction.service.TransactionPartitionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionPartitionExecutor implements ApplicationRunner {
+
+    private final TransactionPartitionService transactionPartitionService;
+
+    // 기동 시 (설정된 경우) 파티션 변환 후 미래 파티션 / Idempotency Key unique 확인
+    // 실패하면 예외를 그대로 던져 기동을 중단한다. (unique 없이 송금을 받으면 재시도가 두 번 처리될 수 있음)
+    // ApplicationRunner는 ApplicationReadyEvent(readiness ACCEPTING_TRAFFIC) 전에 실행된다.
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            if (transactionPartitionService.isConvertOnStartup()) {
+                transactionPartitionService.convertIfNeeded();
+            }
+            transactionPartitionService.ensureFuturePartitions();
+            transactionPartitionService.ensureIdempotencyKeyUnique();
+        } catch (RuntimeException e) {
+            log.error("거래 파티션 준비 중 오류 발생, 기동을 중단합니다.", e);
+            throw e;
+        }
+    }
+
+    // 미래 파티션 생성 / 보관 기간이 지난 파티션 분리 (기본 1시간)
+    @Scheduled(fixedDelayString = "${moneygo.transaction.partition.maintenance-interval-ms:3600000}")
+    public void maintainPartitions() {
+        try {
+            transactionPartitionService.ensureFuturePartitions();
+            transactionPartitionService.archiveExpiredPartitions();
+        } catch (Exception e) {
+            log.error("거래 파티션 관리 중 오류 발생", e);
+        }
+    }
+}
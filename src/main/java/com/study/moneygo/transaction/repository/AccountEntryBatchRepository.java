@@ -0,0 +1,135 @@
+package com.study.moneygo.transaction.repository;
+
+import com.study.moneygo.transaction.entity.AccountEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 계좌 원장 저장 (JDBC batch insert)
+ * AccountEntry도 IDENTITY 전략이라 거래 1건의 2행, 대량 송금의 2N행을 한 번의 batch로 저장한다.
+ * (현재 JPA 트랜잭션에 참여)
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountEntryBatchRepository {
+
+    public static final String SEARCH_INDEX = "idx_account_entry_search_trgm";
+
+    // 상대 계좌 소유자 이름 (검색어에 포함)
+    private static final String COUNTERPARTY_NAME_SQL =
+            "(SELECT u.name FROM accounts a JOIN users u ON u.id = a.user_id WHERE a.id = %s)";
+
+    // search_text = 메모 + 상대방 이름 (이름은 batch 안에서 PK 조회로 붙여서 추가 왕복 없음)
+    private static final String INSERT_SQL =
+            "INSERT INTO account_entries (transaction_id, account_id, counterparty_account_id, direction, type, amount, " +
+            "balance_after, search_text, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, concat_ws(' ', ?::text, " + String.format(COUNTERPARTY_NAME_SQL, "?") + "), ?)";
+
+    // 원장이 없는 완료 거래를 출금 / 입금 행으로 채움 (잔액은 알 수 없으므로 null)
+    private static final String BACKFILL_SQL =
+            "INSERT INTO account_entries (transaction_id, account_id, counterparty_account_id, direction, type, amount, " +
+            "balance_after, search_text, created_at) " +
+            "SELECT t.id, t.from_account_id, t.to_account_id, 'DEBIT', t.type, -t.amount, NULL, " +
+            "concat_ws(' ', t.description, " + String.format(COUNTERPARTY_NAME_SQL, "t.to_account_id") + "), t.created_at " +
+            "FROM transactions t " +
+            "WHERE t.from_account_id IS NOT NULL AND t.status = 'COMPLETED' " +
+            "AND NOT EXISTS (SELECT 1 FROM account_entries e WHERE e.transaction_id = t.id AND e.direction = 'DEBIT') " +
+            "UNION ALL " +
+            "SELECT t.id, t.to_account_id, t.from_account_id, 'CREDIT', t.type, t.amount, NULL, " +
+            "concat_ws(' ', t.description, " + String.format(COUNTERPARTY_NAME_SQL, "t.from_account_id") + "), t.created_at " +
+            "FROM transactions t " +
+            "WHERE t.to_account_id IS NOT NULL AND t.status = 'COMPLETED' " +
+            "AND NOT EXISTS (SELECT 1 FROM account_entries e WHERE e.transaction_id = t.id AND e.direction = 'CREDIT')";
+
+    // 검색어 컬럼 추가 이전에 만들어진 원장 행의 상대 계좌 / 검색어를 id 범위 단위로 채움
+    private static final String BACKFILL_SEARCH_TEXT_SQL =
+            "UPDATE account_entries e SET " +
+            "counterparty_account_id = c.counterparty_account_id, " +
+            "search_text = concat_ws(' ', c.description, " + String.format(COUNTERPARTY_NAME_SQL, "c.counterparty_account_id") + ") " +
+            "FROM (SELECT e2.id, t.description, " +
+            "CASE e2.direction WHEN 'DEBIT' THEN t.to_account_id ELSE t.from_account_id END AS counterparty_account_id " +
+            "FROM account_entries e2 JOIN transactions t ON t.id = e2.transaction_id AND t.created_at = e2.created_at " +
+            "WHERE e2.id BETWEEN ? AND ? AND e2.search_text IS NULL) c " +
+            "WHERE e.id = c.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<AccountEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getTransactionId());
+            ps.setLong(2, entry.getAccountId());
+            ps.setObject(3, entry.getCounterpartyAccountId(), Types.BIGINT);
+            ps.setString(4, entry.getDirection().name());
+            ps.setString(5, entry.getType().name());
+            ps.setBigDecimal(6, entry.getAmount());
+            if (entry.getBalanceAfter() != null) {
+                ps.setBigDecimal(7, entry.getBalanceAfter());
+            } else {
+                ps.setNull(7, Types.NUMERIC);
+            }
+            ps.setString(8, entry.getSearchText());
+            ps.setObject(9, entry.getCounterpartyAccountId(), Types.BIGINT);
+            ps.setTimestamp(10, Timestamp.valueOf(entry.getCreatedAt()));
+        });
+    }
+
+    /**
+     * @return 추가된 원장 행 수
+     */
+    public int backfill() {
+        return jdbcTemplate.update(BACKFILL_SQL);
+    }
+
+    /**
+     * id 범위 [fromId, toId]에서 검색어가 비어 있는 원장 행을 채움
+     * @return 채운 원장 행 수
+     */
+    public int backfillSearchText(long fromId, long toId) {
+        return jdbcTemplate.update(BACKFILL_SEARCH_TEXT_SQL, fromId, toId);
+    }
+
+    /**
+     * @return 검색어가 비어 있는 원장 행의 id 범위 [min, max] (없으면 null)
+     */
+    public long[] findMissingSearchTextIdRange() {
+        return jdbcTemplate.query("SELECT MIN(id), MAX(id) FROM account_entries WHERE search_text IS NULL", rs -> {
+            rs.next();
+            long max = rs.getLong(2);
+            return rs.wasNull() ? null : new long[]{rs.getLong(1), max};
+        });
+    }
+
+    /**
+     * 메모 / 상대방 이름 부분 검색용 (account_id, search_text) trigram GIN 인덱스 생성 (PostgreSQL 전용)
+     * account_id까지 GIN 인덱스 하나에 넣어야 "내 계좌 + 검색어" 조건을 인덱스 하나로 좁힐 수 있어서 btree_gin도 필요하다.
+     *
+     * CONCURRENTLY로 만들어 생성 중에도 원장 INSERT(송금 / 결제)가 막히지 않게 한다.
+     * CONCURRENTLY는 트랜잭션 안에서 실행할 수 없으므로 트랜잭션 없이 호출해야 한다.
+     * 이전 생성이 중간에 실패해 INVALID로 남은 인덱스는 지우고 다시 만든다.
+     * @return 새로 만들었으면 true
+     */
+    public boolean createSearchIndex() {
+        Boolean valid = jdbcTemplate.query(
+                "SELECT i.indisvalid FROM pg_index i WHERE i.indexrelid = to_regclass(?)",
+                rs -> rs.next() ? rs.getBoolean(1) : null, SEARCH_INDEX);
+        if (Boolean.TRUE.equals(valid)) {
+            return false;
+        }
+        jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS btree_gin");
+        if (valid != null) {
+            jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + SEARCH_INDEX);
+        }
+        jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + SEARCH_INDEX +
+                " ON account_entries USING gin (account_id, search_text gin_trgm_ops)");
+        return true;
+    }
+}
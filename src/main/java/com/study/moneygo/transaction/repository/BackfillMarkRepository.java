@@ -0,0 +1,35 @@
+package com.study.moneygo.transaction.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 기동 시 한 번만 필요한 데이터 보정의 완료 기록
+ * 보정이 끝났으면 다음 기동부터는 전체 테이블을 다시 훑지 않도록 이름별로 완료 시각을 남긴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BackfillMarkRepository {
+
+    public static final String TABLE = "data_backfills";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean isDone(String name) {
+        ensureTable();
+        return jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + TABLE + " WHERE name = ?)", Boolean.class, name);
+    }
+
+    public void markDone(String name) {
+        ensureTable();
+        jdbcTemplate.update("INSERT INTO " + TABLE + " (name, completed_at) VALUES (?, now()) " +
+                "ON CONFLICT (name) DO NOTHING", name);
+    }
+
+    private void ensureTable() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " (" +
+                "name VARCHAR(100) PRIMARY KEY, completed_at TIMESTAMP NOT NULL)");
+    }
+}
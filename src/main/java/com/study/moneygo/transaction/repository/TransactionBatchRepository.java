@@ -0,0 +1,68 @@
+package com.study.moneygo.transaction.repository;
+
+import com.study.moneygo.transaction.entity.Transaction;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 거래 내역 일괄 저장 (JDBC batch insert)
+ * Transaction은 IDENTITY 전략이라 Hibernate batch insert가 동작하지 않으므로
+ * 대량 송금은 JdbcTemplate으로 한 번에 저장한다. (현재 JPA 트랜잭션에 참여)
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO transactions (from_account_id, to_account_id, amount, type, status, description, " +
+            "idempotency_key, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 완료 상태의 거래 내역을 일괄 저장
+     * @return 저장된 행 수
+     */
+    public int insertCompleted(List<Row> rows, Transaction.TransactionType type) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.getFromAccountId());
+            ps.setLong(2, row.getToAccountId());
+            ps.setBigDecimal(3, row.getAmount());
+            ps.setString(4, type.name());
+            ps.setString(5, Transaction.TransactionStatus.COMPLETED.name());
+            ps.setString(6, row.getDescription());
+            ps.setString(7, row.getIdempotencyKey());
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+
+        int inserted = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // 드라이버가 배치 결과를 SUCCESS_NO_INFO(-2)로 돌려주는 경우도 성공으로 처리
+                inserted += count >= 0 ? count : 1;
+            }
+        }
+        return inserted;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Row {
+        private final Long fromAccountId;
+        private final Long toAccountId;
+        private final BigDecimal amount;
+        private final String description;
+        private final String idempotencyKey;
+    }
+}
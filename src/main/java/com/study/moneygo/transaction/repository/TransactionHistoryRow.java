@@ -0,0 +1,47 @@
+package com.study.moneygo.transaction.repository;
+
+import com.study.moneygo.transaction.entity.Transaction;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 거래 내역 목록 조회용 projection
+ * 거래 + 양쪽 계좌번호 + 양쪽 소유자 이름을 한 번의 JOIN 쿼리로 읽어서
+ * 행마다 Account / User 지연 로딩이 일어나지 않도록 한다.
+ */
+@Getter
+@AllArgsConstructor
+public class TransactionHistoryRow {
+
+    private final Long id;
+    private final Transaction.TransactionType type;
+    private final BigDecimal amount;
+    private final String description;
+    private final Transaction.TransactionStatus status;
+    private final LocalDateTime createdAt;
+
+    private final Long fromAccountId; // null이면 충전
+    private final String fromAccountNumber;
+    private final String fromUserName;
+
+    private final Long toAccountId; // null이면 인출
+    private final String toAccountNumber;
+    private final String toUserName;
+
+    /**
+     * 내 계좌 기준 상대방 이름 (충전 / 인출은 "시스템")
+     */
+    public String getCounterpartyName(Long myAccountId) {
+        if (fromAccountId != null && fromAccountId.equals(myAccountId)) {
+            // 내가 보낸 거래
+            return toAccountId != null ? toUserName : "시스템";
+        } else if (toAccountId != null && toAccountId.equals(myAccountId)) {
+            // 내가 받은 거래
+            return fromAccountId != null ? fromUserName : "시스템";
+        }
+        return "알 수 없음";
+    }
+}
@@ -0,0 +1,218 @@
+package com.study.moneygo.transaction.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * transactions 테이블 월별 파티션 DDL (PostgreSQL 전용)
+ * 파티션 구조는 JPA 스키마 생성으로 만들 수 없으므로 JdbcTemplate으로 직접 관리한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionPartitionRepository {
+
+    public static final String TABLE = "transactions";
+    public static final String LEGACY_PARTITION = "transactions_legacy";
+    public static final String IDEMPOTENCY_KEY_TABLE = "transaction_idempotency_keys";
+    public static final String IDEMPOTENCY_KEY_UNIQUE_INDEX = "uk_transaction_idempotency_key";
+
+    private static final Pattern UPPER_BOUND = Pattern.compile("TO \\('([^']+)'\\)");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return true면 이미 파티션 테이블
+     */
+    public boolean isPartitioned() {
+        List<String> kinds = jdbcTemplate.queryForList(
+                "SELECT c.relkind::text FROM pg_class c WHERE c.oid = to_regclass(?)", String.class, TABLE);
+        return !kinds.isEmpty() && "p".equals(kinds.get(0));
+    }
+
+    public boolean exists() {
+        return jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, TABLE);
+    }
+
+    /**
+     * idempotency_key 하나로 된 unique 인덱스가 있는지 (Hibernate가 예전에 만든 제약 포함)
+     */
+    public boolean hasIdempotencyKeyUniqueIndex() {
+        return jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_index i " +
+                        "JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = i.indkey[0] " +
+                        "WHERE i.indrelid = to_regclass(?) AND i.indisunique AND i.indnatts = 1 " +
+                        "AND a.attname = 'idempotency_key')",
+                Boolean.class, TABLE);
+    }
+
+    /**
+     * 일반 테이블의 idempotency_key unique 인덱스 생성
+     */
+    public void createIdempotencyKeyUniqueIndex() {
+        jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS " + IDEMPOTENCY_KEY_UNIQUE_INDEX +
+                " ON transactions (idempotency_key)");
+    }
+
+    /**
+     * 일반 테이블을 created_at 월별 범위 파티션 테이블로 변환 (호출자 트랜잭션 안에서 실행)
+     * 기존 테이블은 데이터를 옮기지 않고 transactions_legacy 파티션(MINVALUE ~ legacyUpperBound)으로 붙인다.
+     * transactions를 참조하는 다른 테이블의 FK는 제거하고 다시 만들지 않는다.
+     * @return 제거한 FK 목록 (테이블.제약 이름)
+     */
+    public List<String> convertToPartitioned(LocalDate legacyUpperBound) {
+        jdbcTemplate.execute("LOCK TABLE transactions IN ACCESS EXCLUSIVE MODE");
+
+        // 1. transactions를 참조하는 FK 제거 (파티션 테이블은 파티션 키를 포함하지 않는 FK 대상이 될 수 없음)
+        List<Map<String, Object>> foreignKeys = jdbcTemplate.queryForList(
+                "SELECT conrelid::regclass::text AS table_name, conname AS constraint_name " +
+                "FROM pg_constraint WHERE contype = 'f' AND confrelid = 'transactions'::regclass");
+        List<String> droppedForeignKeys = new ArrayList<>();
+        for (Map<String, Object> foreignKey : foreignKeys) {
+            jdbcTemplate.execute(String.format("ALTER TABLE %s DROP CONSTRAINT %s",
+                    foreignKey.get("table_name"), quote((String) foreignKey.get("constraint_name"))));
+            droppedForeignKeys.add(foreignKey.get("table_name") + "." + foreignKey.get("constraint_name"));
+        }
+
+        // 2. 기존 테이블 / 인덱스 이름 변경 (새 부모 테이블과 이름이 겹치지 않도록)
+        jdbcTemplate.execute("ALTER TABLE transactions RENAME TO " + LEGACY_PARTITION);
+        List<String> indexNames = jdbcTemplate.queryForList(
+                "SELECT indexname FROM pg_indexes WHERE schemaname = current_schema() AND tablename = ?",
+                String.class, LEGACY_PARTITION);
+        for (String indexName : indexNames) {
+            jdbcTemplate.execute(String.format("ALTER INDEX %s RENAME TO %s",
+                    quote(indexName), quote(truncate(indexName + "_legacy"))));
+        }
+        jdbcTemplate.execute("UPDATE " + LEGACY_PARTITION + " SET created_at = COALESCE(updated_at, now()) WHERE created_at IS NULL");
+        jdbcTemplate.execute("ALTER TABLE " + LEGACY_PARTITION + " ALTER COLUMN created_at SET NOT NULL");
+        jdbcTemplate.execute("ALTER TABLE " + LEGACY_PARTITION + " ALTER COLUMN id DROP IDENTITY IF EXISTS");
+        jdbcTemplate.execute("ALTER TABLE " + LEGACY_PARTITION + " ALTER COLUMN id DROP DEFAULT");
+
+        // 3. 부모 테이블 생성 (PK / 인덱스는 파티션 키 포함, 파티션마다 자동 생성)
+        Long nextId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM " + LEGACY_PARTITION, Long.class);
+        jdbcTemplate.execute("CREATE TABLE transactions (LIKE " + LEGACY_PARTITION + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS) " +
+                "PARTITION BY RANGE (created_at)");
+        jdbcTemplate.execute("ALTER TABLE transactions ALTER COLUMN id ADD GENERATED BY DEFAULT AS IDENTITY (START WITH " + nextId + ")");
+        jdbcTemplate.execute("ALTER TABLE transactions ADD CONSTRAINT transactions_pkey PRIMARY KEY (id, created_at)");
+        jdbcTemplate.execute("ALTER TABLE transactions ADD CONSTRAINT fk_transaction_from_account " +
+                "FOREIGN KEY (from_account_id) REFERENCES accounts (id)");
+        jdbcTemplate.execute("ALTER TABLE transactions ADD CONSTRAINT fk_transaction_to_account " +
+                "FOREIGN KEY (to_account_id) REFERENCES accounts (id)");
+        jdbcTemplate.execute("CREATE INDEX idx_transaction_from_created ON transactions (from_account_id, created_at, id)");
+        jdbcTemplate.execute("CREATE INDEX idx_transaction_to_created ON transactions (to_account_id, created_at, id)");
+        jdbcTemplate.execute("CREATE INDEX idx_transaction_idempotency_key ON transactions (idempotency_key)");
+
+        // 4. Idempotency Key 전역 unique (파티션 테이블의 unique는 파티션 키를 포함해야 하므로 별도 테이블 + 트리거)
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + IDEMPOTENCY_KEY_TABLE + " (" +
+                "idempotency_key VARCHAR(100) PRIMARY KEY, transaction_id BIGINT NOT NULL, created_at TIMESTAMP NOT NULL)");
+        jdbcTemplate.execute("INSERT INTO " + IDEMPOTENCY_KEY_TABLE + " (idempotency_key, transaction_id, created_at) " +
+                "SELECT idempotency_key, id, created_at FROM " + LEGACY_PARTITION + " WHERE idempotency_key IS NOT NULL " +
+                "ON CONFLICT DO NOTHING");
+        // (파티션 분리 / 보관은 트리거가 동작하지 않으므로 보관된 거래의 키도 계속 사용 중으로 남음)
+        jdbcTemplate.execute("CREATE OR REPLACE FUNCTION transactions_sync_idempotency_key() RETURNS trigger AS $$ " +
+                "BEGIN " +
+                "IF TG_OP = 'INSERT' THEN " +
+                "INSERT INTO " + IDEMPOTENCY_KEY_TABLE + " (idempotency_key, transaction_id, created_at) " +
+                "VALUES (NEW.idempotency_key, NEW.id, NEW.created_at); " +
+                "ELSE " +
+                "DELETE FROM " + IDEMPOTENCY_KEY_TABLE + " WHERE idempotency_key = OLD.idempotency_key AND transaction_id = OLD.id; " +
+                "END IF; " +
+                "RETURN NULL; " +
+                "END $$ LANGUAGE plpgsql");
+        jdbcTemplate.execute("CREATE TRIGGER trg_transactions_idempotency_key_insert AFTER INSERT ON transactions " +
+                "FOR EACH ROW WHEN (NEW.idempotency_key IS NOT NULL) " +
+                "EXECUTE FUNCTION transactions_sync_idempotency_key()");
+        jdbcTemplate.execute("CREATE TRIGGER trg_transactions_idempotency_key_delete AFTER DELETE ON transactions " +
+                "FOR EACH ROW WHEN (OLD.idempotency_key IS NOT NULL) " +
+                "EXECUTE FUNCTION transactions_sync_idempotency_key()");
+
+        // 5. 기존 테이블을 과거 구간 파티션으로 연결 (범위 검증을 위해 한 번 스캔)
+        jdbcTemplate.execute(String.format("ALTER TABLE transactions ATTACH PARTITION %s FOR VALUES FROM (MINVALUE) TO ('%s')",
+                LEGACY_PARTITION, legacyUpperBound));
+        return droppedForeignKeys;
+    }
+
+    /**
+     * 기존 데이터가 들어 있는 마지막 달의 다음 달 1일 (데이터가 없으면 null)
+     */
+    public LocalDate findLegacyDataEnd() {
+        Timestamp maxCreatedAt = jdbcTemplate.queryForObject("SELECT MAX(created_at) FROM transactions", Timestamp.class);
+        if (maxCreatedAt == null) {
+            return null;
+        }
+        return maxCreatedAt.toLocalDateTime().toLocalDate().withDayOfMonth(1).plusMonths(1);
+    }
+
+    /**
+     * 월 파티션 생성 [monthStart, monthStart + 1개월)
+     * 부모의 PK / 인덱스 / FK / 트리거는 자동으로 파티션에도 만들어진다.
+     */
+    public void createMonthlyPartition(LocalDate monthStart) {
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF transactions FOR VALUES FROM ('%s') TO ('%s')",
+                monthlyPartitionName(monthStart), monthStart, monthStart.plusMonths(1)));
+    }
+
+    /**
+     * 파티션 분리 후 보관용 스키마로 이동 (데이터는 삭제하지 않음)
+     */
+    public void detachAndArchive(String partitionName, String archiveSchema) {
+        jdbcTemplate.execute("ALTER TABLE transactions DETACH PARTITION " + quote(partitionName));
+        jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + quote(archiveSchema));
+        jdbcTemplate.execute(String.format("ALTER TABLE %s SET SCHEMA %s", quote(partitionName), quote(archiveSchema)));
+    }
+
+    /**
+     * 현재 연결된 파티션과 상한 (legacy 포함, 상한 오름차순)
+     */
+    public List<Partition> findPartitions() {
+        return jdbcTemplate.query(
+                "SELECT c.relname, pg_get_expr(c.relpartbound, c.oid) " +
+                "FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                "WHERE i.inhparent = 'transactions'::regclass",
+                (rs, rowNum) -> new Partition(rs.getString(1), parseUpperBound(rs.getString(2))))
+                .stream()
+                .filter(partition -> partition.getUpperBound() != null)
+                .sorted((a, b) -> a.getUpperBound().compareTo(b.getUpperBound()))
+                .toList();
+    }
+
+    public static String monthlyPartitionName(LocalDate monthStart) {
+        return String.format("transactions_p%04d%02d", monthStart.getYear(), monthStart.getMonthValue());
+    }
+
+    private static LocalDateTime parseUpperBound(String bound) {
+        Matcher matcher = UPPER_BOUND.matcher(bound == null ? "" : bound);
+        if (!matcher.find()) {
+            return null;
+        }
+        return Timestamp.valueOf(matcher.group(1)).toLocalDateTime();
+    }
+
+    private static String truncate(String identifier) {
+        // PostgreSQL 식별자 최대 길이 63
+        return identifier.length() > 63 ? identifier.substring(0, 63) : identifier;
+    }
+
+    private static String quote(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Partition {
+        private final String name;
+        private final LocalDateTime upperBound;
+    }
+}
@@ -1,38 +1,164 @@
 package com.study.moneygo.transaction.repository;
 
+import com.study.moneygo.transaction.entity.AccountEntry;
 import com.study.moneygo.transaction.entity.Transaction;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
     Optional<Transaction> findByIdempotencyKey(String idempotencyKey);
 
+    List<Transaction> findAllByIdempotencyKeyIn(Collection<String> idempotencyKeys);
+
+    String HISTORY_ROW_SELECT = "SELECT new com.study.moneygo.transaction.repository.TransactionHistoryRow(" +
+            "t.id, t.type, t.amount, t.description, t.status, t.createdAt, " +
+            "fa.id, fa.accountNumber, fu.name, ta.id, ta.accountNumber, tu.name) " +
+            "FROM Transaction t " +
+            "LEFT JOIN t.fromAccount fa LEFT JOIN fa.user fu " +
+            "LEFT JOIN t.toAccount ta LEFT JOIN ta.user tu ";
+
+    // 계좌 원장(account_entries)의 (account_id, created_at) 범위로 거래를 찾는 projection
+    // (from OR to 조건 대신 인덱스 범위 스캔 한 번)
+    // 거래 테이블이 월별 파티션이면 created_at도 같이 조인해서 해당 월 파티션만 읽는다.
+    String ENTRY_ROW_SELECT = "SELECT new com.study.moneygo.transaction.repository.TransactionHistoryRow(" +
+            "t.id, t.type, t.amount, t.description, t.status, t.createdAt, " +
+            "fa.id, fa.accountNumber, fu.name, ta.id, ta.accountNumber, tu.name) " +
+            "FROM AccountEntry e JOIN Transaction t ON t.id = e.transactionId AND t.createdAt = e.createdAt " +
+            "LEFT JOIN t.fromAccount fa LEFT JOIN fa.user fu " +
+            "LEFT JOIN t.toAccount ta LEFT JOIN ta.user tu ";
+
     // 특정 계좌의 모든 거래 내역
-    @Query("SELECT t FROM Transaction t WHERE t.fromAccount.id = :accountId OR t.toAccount.id = :accountId ORDER BY t.createdAt DESC")
-    Page<Transaction> findByAccountId(@Param("accountId") Long accountId, Pageable pageable);
+    @Query(value = ENTRY_ROW_SELECT +
+            "WHERE e.accountId = :accountId ORDER BY e.createdAt DESC",
+            countQuery = "SELECT COUNT(e) FROM AccountEntry e WHERE e.accountId = :accountId")
+    Page<TransactionHistoryRow> findByAccountId(@Param("accountId") Long accountId, Pageable pageable);
 
     // 특정 계좌의 송금 내역 (보낸 것)
-    @Query("SELECT t FROM Transaction t WHERE t.fromAccount.id = :accountId ORDER BY t.createdAt DESC")
-    Page<Transaction> findSentTransactions(@Param("accountId") Long accountId, Pageable pageable);
+    @Query(value = HISTORY_ROW_SELECT +
+            "WHERE t.fromAccount.id = :accountId ORDER BY t.createdAt DESC",
+            countQuery = "SELECT COUNT(t) FROM Transaction t WHERE t.fromAccount.id = :accountId")
+    Page<TransactionHistoryRow> findSentTransactions(@Param("accountId") Long accountId, Pageable pageable);
 
     // 특정 계좌의 수신 내역 (받은 것)
-    @Query("SELECT t FROM Transaction t WHERE t.toAccount.id = :accountId ORDER BY t.createdAt DESC")
-    Page<Transaction> findReceivedTransactions(@Param("accountId") Long accountId, Pageable pageable);
+    @Query(value = HISTORY_ROW_SELECT +
+            "WHERE t.toAccount.id = :accountId ORDER BY t.createdAt DESC",
+            countQuery = "SELECT COUNT(t) FROM Transaction t WHERE t.toAccount.id = :accountId")
+    Page<TransactionHistoryRow> findReceivedTransactions(@Param("accountId") Long accountId, Pageable pageable);
+
+    // 특정 계좌의 모든 거래 내역 (COUNT 없이 size + 1건 조회)
+    @Query(ENTRY_ROW_SELECT +
+            "WHERE e.accountId = :accountId ORDER BY e.createdAt DESC")
+    Slice<TransactionHistoryRow> findSliceByAccountId(@Param("accountId") Long accountId, Pageable pageable);
+
+    // 특정 계좌의 송금 내역 (COUNT 없음)
+    @Query(HISTORY_ROW_SELECT +
+            "WHERE t.fromAccount.id = :accountId ORDER BY t.createdAt DESC")
+    Slice<TransactionHistoryRow> findSentSlice(@Param("accountId") Long accountId, Pageable pageable);
+
+    // 특정 계좌의 수신 내역 (COUNT 없음)
+    @Query(HISTORY_ROW_SELECT +
+            "WHERE t.toAccount.id = :accountId ORDER BY t.createdAt DESC")
+    Slice<TransactionHistoryRow> findReceivedSlice(@Param("accountId") Long accountId, Pageable pageable);
+
+    // 날짜 범위로 조회 (COUNT 없음)
+    @Query(ENTRY_ROW_SELECT +
+            "WHERE e.accountId = :accountId " +
+            "AND e.createdAt BETWEEN :startDate AND :endDate " +
+            "AND t.createdAt BETWEEN :startDate AND :endDate ORDER BY e.createdAt DESC")
+    Slice<TransactionHistoryRow> findSliceByAccountIdAndDateRange(
+            @Param("accountId") Long accountId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            Pageable pageable
+    );
+
+    // 보낸 거래 커서 조회: (createdAt, id)가 커서보다 이전인 것만 최신순으로 (COUNT 없음)
+    @Query(HISTORY_ROW_SELECT +
+            "WHERE t.fromAccount.id = :accountId " +
+            "AND t.createdAt >= :startDate " +
+            "AND (t.createdAt < :cursorCreatedAt OR (t.createdAt = :cursorCreatedAt AND t.id < :cursorId)) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TransactionHistoryRow> findSentBefore(
+            @Param("accountId") Long accountId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    // 전체 거래 커서 조회 (계좌 원장 seek 한 번)
+    @Query(ENTRY_ROW_SELECT +
+            "WHERE e.accountId = :accountId " +
+            "AND e.createdAt >= :startDate " +
+            "AND (e.createdAt < :cursorCreatedAt OR (e.createdAt = :cursorCreatedAt AND e.transactionId < :cursorId)) " +
+            "ORDER BY e.createdAt DESC, e.transactionId DESC")
+    List<TransactionHistoryRow> findAllBefore(
+            @Param("accountId") Long accountId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    // 메모 / 상대방 이름 검색 커서 조회
+    // 계좌 원장의 (account_id, search_text) trigram GIN 인덱스와 (account_id, created_at) 인덱스 중
+    // 검색어 선택도에 따라 플래너가 고른다. (드문 검색어는 GIN, 흔한 검색어는 최신순 범위 스캔 후 필터)
+    @Query(ENTRY_ROW_SELECT +
+            "WHERE e.accountId = :accountId " +
+            "AND e.direction IN :directions " +
+            "AND e.searchText ILIKE :pattern " +
+            "AND e.createdAt >= :startDate " +
+            "AND (e.createdAt < :cursorCreatedAt OR (e.createdAt = :cursorCreatedAt AND e.transactionId < :cursorId)) " +
+            "ORDER BY e.createdAt DESC, e.transactionId DESC")
+    List<TransactionHistoryRow> searchBefore(
+            @Param("accountId") Long accountId,
+            @Param("directions") Collection<AccountEntry.Direction> directions,
+            @Param("pattern") String pattern,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    // 받은 거래 커서 조회
+    @Query(HISTORY_ROW_SELECT +
+            "WHERE t.toAccount.id = :accountId " +
+            "AND t.createdAt >= :startDate " +
+            "AND (t.createdAt < :cursorCreatedAt OR (t.createdAt = :cursorCreatedAt AND t.id < :cursorId)) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TransactionHistoryRow> findReceivedBefore(
+            @Param("accountId") Long accountId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
 
     // 날짜 범위로 조회
-    @Query("SELECT t FROM Transaction t WHERE (t.fromAccount.id = :accountId OR t.toAccount.id = :accountId) " +
-            "AND t.createdAt BETWEEN :startDate AND :endDate ORDER BY t.createdAt DESC")
-    Page<Transaction> findByAccountIdAndDateRange(
+    @Query(value = ENTRY_ROW_SELECT +
+            "WHERE e.accountId = :accountId " +
+            "AND e.createdAt BETWEEN :startDate AND :endDate " +
+            "AND t.createdAt BETWEEN :startDate AND :endDate ORDER BY e.createdAt DESC",
+            countQuery = "SELECT COUNT(e) FROM AccountEntry e " +
+                    "WHERE e.accountId = :accountId " +
+                    "AND e.createdAt BETWEEN :startDate AND :endDate")
+    Page<TransactionHistoryRow> findByAccountIdAndDateRange(
             @Param("accountId") Long accountId,
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate,
@@ -40,29 +166,36 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     );
 
     /**
-     * 계좌와 날짜 범위로 거래 내역 조회
+     * 계좌와 날짜 범위로 거래 내역 조회 (원장에는 완료된 거래만 있음)
      */
-    @Query("SELECT t FROM Transaction t " +
-            "WHERE (t.fromAccount.id = :accountId OR t.toAccount.id = :accountId) " +
+    @Query(value = ENTRY_ROW_SELECT +
+            "WHERE e.accountId = :accountId " +
+            "AND e.createdAt BETWEEN :startDate AND :endDate " +
             "AND t.createdAt BETWEEN :startDate AND :endDate " +
-            "AND t.status = 'COMPLETED' " +
-            "ORDER BY t.createdAt DESC")
-    Page<Transaction> findByAccountAndDateRange(
+            "ORDER BY e.createdAt DESC",
+            countQuery = "SELECT COUNT(e) FROM AccountEntry e " +
+                    "WHERE e.accountId = :accountId " +
+                    "AND e.createdAt BETWEEN :startDate AND :endDate")
+    Page<TransactionHistoryRow> findByAccountAndDateRange(
             @Param("accountId") Long accountId,
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate,
             Pageable pageable);
 
     /**
-     * 계좌, 거래 유형, 날짜 범위로 거래 내역 조회
+     * 계좌, 거래 유형, 날짜 범위로 거래 내역 조회 (원장에는 완료된 거래만 있음)
      */
-    @Query("SELECT t FROM Transaction t " +
-            "WHERE (t.fromAccount.id = :accountId OR t.toAccount.id = :accountId) " +
-            "AND t.type = :type " +
+    @Query(value = ENTRY_ROW_SELECT +
+            "WHERE e.accountId = :accountId " +
+            "AND e.type = :type " +
+            "AND e.createdAt BETWEEN :startDate AND :endDate " +
             "AND t.createdAt BETWEEN :startDate AND :endDate " +
-            "AND t.status = 'COMPLETED' " +
-            "ORDER BY t.createdAt DESC")
-    Page<Transaction> findByAccountAndTypeAndDateRange(
+            "ORDER BY e.createdAt DESC",
+            countQuery = "SELECT COUNT(e) FROM AccountEntry e " +
+                    "WHERE e.accountId = :accountId " +
+                    "AND e.type = :type " +
+                    "AND e.createdAt BETWEEN :startDate AND :endDate")
+    Page<TransactionHistoryRow> findByAccountAndTypeAndDateRange(
             @Param("accountId") Long accountId,
             @Param("type") Transaction.TransactionType type,
             @Param("startDate") LocalDateTime startDate,
@@ -70,15 +203,36 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             Pageable pageable);
 
     /**
-     * 계좌와 날짜 범위로 거래 내역 조회 (List 반환)
+     * 계좌와 날짜 범위로 거래 내역 조회 (List 반환, 계좌 원장 범위 스캔)
      */
-    @Query("SELECT t FROM Transaction t " +
-            "WHERE (t.fromAccount.id = :accountId OR t.toAccount.id = :accountId) " +
+    @Query("SELECT t FROM AccountEntry e JOIN Transaction t ON t.id = e.transactionId AND t.createdAt = e.createdAt " +
+            "WHERE e.accountId = :accountId " +
+            "AND e.createdAt BETWEEN :startDate AND :endDate " +
             "AND t.createdAt BETWEEN :startDate AND :endDate " +
-            "AND t.status = 'COMPLETED' " +
-            "ORDER BY t.createdAt ASC")
+            "ORDER BY e.createdAt ASC, e.transactionId ASC")
     List<Transaction> findByAccountAndDateRangeList(
             @Param("accountId") Long accountId,
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
-}
\ No newline at end of file
+
+    /**
+     * 거래 내역 내보내기용 스트리밍 조회 (계좌 원장 범위 스캔, 오래된 순)
+     * 결과를 List로 모으지 않고 fetch size 단위로 커서에서 읽으며,
+     * projection이라 영속성 컨텍스트에도 쌓이지 않는다.
+     * 읽기 전용 트랜잭션 안에서 호출하고, 사용 후 반드시 Stream을 닫아야 한다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query(ENTRY_ROW_SELECT +
+            "WHERE e.accountId = :accountId " +
+            "AND e.createdAt BETWEEN :startDate AND :endDate " +
+            "AND t.createdAt BETWEEN :startDate AND :endDate " +
+            "ORDER BY e.createdAt ASC, e.transactionId ASC")
+    Stream<TransactionHistoryRow> streamByAccountAndDateRange(
+            @Param("accountId") Long accountId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate);
+}
@@ -0,0 +1,133 @@
+package com.study.moneygo.transaction.service;
+
+import com.study.moneygo.transaction.entity.AccountEntry;
+import com.study.moneygo.transaction.entity.Transaction;
+import com.study.moneygo.transaction.repository.AccountEntryBatchRepository;
+import com.study.moneygo.transaction.repository.BackfillMarkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계좌 원장(AccountEntry) 기록
+ * 거래를 저장한 같은 트랜잭션 안에서 호출해서 거래와 원장이 함께 커밋 / 롤백되도록 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountEntryService {
+
+    // 보정 완료 기록 이름
+    public static final String ENTRY_BACKFILL = "account_entries";
+    public static final String SEARCH_TEXT_BACKFILL = "account_entries.search_text";
+
+    private final AccountEntryBatchRepository accountEntryBatchRepository;
+    private final BackfillMarkRepository backfillMarkRepository;
+
+    // 기동 시 보정 여부 (false면 운영자가 backfill()을 별도 작업으로 한 번 실행)
+    @Value("${moneygo.transaction.account-entry.backfill-on-startup:true}")
+    private boolean backfillOnStartupEnabled;
+
+    private static final int SEARCH_TEXT_BACKFILL_BATCH_SIZE = 10_000;
+
+    /**
+     * 완료된 거래 1건의 원장 기록 (거래는 이미 저장되어 id / createdAt이 있어야 함)
+     * @param fromBalanceAfter 출금 계좌의 거래 후 잔액 (모르면 null)
+     * @param toBalanceAfter 입금 계좌의 거래 후 잔액 (모르면 null)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Transaction transaction, BigDecimal fromBalanceAfter, BigDecimal toBalanceAfter) {
+        accountEntryBatchRepository.insertAll(toEntries(transaction, fromBalanceAfter, toBalanceAfter));
+    }
+
+    /**
+     * 여러 거래의 원장을 한 번의 batch로 기록 (대량 송금)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(List<AccountEntry> entries) {
+        accountEntryBatchRepository.insertAll(entries);
+    }
+
+    public List<AccountEntry> toEntries(Transaction transaction, BigDecimal fromBalanceAfter, BigDecimal toBalanceAfter) {
+        List<AccountEntry> entries = new ArrayList<>(2);
+        if (!transaction.isCompleted()) {
+            return entries;
+        }
+        if (transaction.getFromAccount() != null) {
+            entries.add(AccountEntry.debit(transaction, fromBalanceAfter));
+        }
+        if (transaction.getToAccount() != null) {
+            entries.add(AccountEntry.credit(transaction, toBalanceAfter));
+        }
+        return entries;
+    }
+
+    /**
+     * 원장이 없는 기존 완료 거래를 원장에 채움 (원장 도입 이전 데이터)
+     * 거래 전체와 원장을 anti-join하므로 기동마다가 아니라 backfillOnStartup()으로 한 번만 실행한다.
+     */
+    @Transactional
+    public int backfill() {
+        int inserted = accountEntryBatchRepository.backfill();
+        if (inserted > 0) {
+            log.info("계좌 원장 보정 완료: inserted={}", inserted);
+        }
+        return inserted;
+    }
+
+    /**
+     * 기동 시 원장 보정 (한 번 완료되면 다음 기동부터 건너뜀)
+     * 원장 도입 이후의 거래는 저장할 때 원장도 함께 기록되므로 보정은 도입 시점의 기존 거래에만 필요하다.
+     * @return 추가된 원장 행 수 (건너뛰면 0)
+     */
+    @Transactional
+    public int backfillOnStartup() {
+        if (!backfillOnStartupEnabled || backfillMarkRepository.isDone(ENTRY_BACKFILL)) {
+            return 0;
+        }
+        int inserted = backfill();
+        backfillMarkRepository.markDone(ENTRY_BACKFILL);
+        return inserted;
+    }
+
+    /**
+     * 검색어 컬럼 도입 이전의 원장 행에 메모 / 상대방 이름을 채움 (한 번 완료되면 다음 기동부터 건너뜀)
+     * 검색어가 빈 행의 id 범위만 훑고, 원장이 클 수 있으므로 id 범위마다 따로 커밋한다. (트랜잭션 없이 호출)
+     * 컬럼 도입 이후의 원장 행은 항상 검색어와 함께 저장되므로 완료 후에는 다시 빌 일이 없다.
+     */
+    public long backfillSearchText() {
+        if (backfillMarkRepository.isDone(SEARCH_TEXT_BACKFILL)) {
+            return 0;
+        }
+        long updated = 0;
+        long[] idRange = accountEntryBatchRepository.findMissingSearchTextIdRange();
+        if (idRange != null) {
+            for (long fromId = idRange[0]; fromId <= idRange[1]; fromId += SEARCH_TEXT_BACKFILL_BATCH_SIZE) {
+                updated += accountEntryBatchRepository.backfillSearchText(
+                        fromId, fromId + SEARCH_TEXT_BACKFILL_BATCH_SIZE - 1);
+            }
+        }
+        backfillMarkRepository.markDone(SEARCH_TEXT_BACKFILL);
+        if (updated > 0) {
+            log.info("계좌 원장 검색어 보정 완료: updated={}", updated);
+        }
+        return updated;
+    }
+
+    /**
+     * 거래 내역 검색용 trigram 인덱스 생성 (이미 있으면 건너뜀, 생성 중에도 원장 INSERT는 막히지 않음)
+     * CREATE INDEX CONCURRENTLY는 트랜잭션 안에서 실행할 수 없으므로 트랜잭션 없이 호출한다.
+     */
+    public void createSearchIndex() {
+        if (accountEntryBatchRepository.createSearchIndex()) {
+            log.info("거래 내역 검색 인덱스 생성 완료: {}", AccountEntryBatchRepository.SEARCH_INDEX);
+        }
+    }
+}
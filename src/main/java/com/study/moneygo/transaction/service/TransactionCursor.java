@@ -0,0 +1,64 @@
+package com.study.moneygo.transaction.service;
+
+import com.study.moneygo.transaction.repository.TransactionHistoryRow;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 거래 내역 커서 (마지막으로 본 거래의 createdAt, id)
+ * 클라이언트에는 Base64 문자열로만 전달한다.
+ */
+@Getter
+@AllArgsConstructor
+public class TransactionCursor {
+
+    // 첫 페이지: 모든 거래보다 뒤
+    public static final TransactionCursor FIRST = new TransactionCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static TransactionCursor after(TransactionHistoryRow row) {
+        return new TransactionCursor(row.getCreatedAt(), row.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor 클라이언트가 보낸 커서 (없으면 첫 페이지)
+     */
+    public static TransactionCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new TransactionCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    /**
+     * 종료일이 있으면 그 이후 거래는 건너뛰도록 시작 커서를 당김
+     */
+    public TransactionCursor notAfter(LocalDateTime endDateTime) {
+        if (endDateTime != null && endDateTime.isBefore(createdAt)) {
+            return new TransactionCursor(endDateTime, Long.MAX_VALUE);
+        }
+        return this;
+    }
+}
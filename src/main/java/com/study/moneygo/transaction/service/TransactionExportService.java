@@ -0,0 +1,300 @@
+package com.study.moneygo.transaction.service;
+
+import com.study.moneygo.transaction.repository.TransactionHistoryRow;
+import com.study.moneygo.transaction.repository.TransactionRepository;
+import com.study.moneygo.util.security.CurrentUserContext;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StreamUtils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 거래 내역 내보내기 (CSV / NDJSON)
+ * 계좌 원장을 Stream으로 한 행씩 읽어 바로 출력 스트림에 쓰므로
+ * 거래가 100건이든 1000만 건이든 메모리 사용량이 일정하다.
+ *
+ * 응답이 시작된 뒤에는 400 / 409로 바꿀 수 없으므로
+ * 검증은 prepare()에서 요청 스레드에서 먼저 끝내고, write()는 조회와 출력만 한다.
+ *
+ * 내보내기 1건이 끝날 때까지 DB 커넥션 하나를 잡고 있으므로
+ * 계좌당 1건, 전체 maxConcurrent건까지만 동시에 진행한다 (prepare()에서 확보, write()가 끝나면 반납).
+ */
+@Slf4j
+@Service
+public class TransactionExportService {
+
+    private final TransactionRepository transactionRepository;
+    private final CurrentUserContext currentUserContext;
+    private final int maxConcurrent;
+    private final long timeoutMillis;
+
+    // 진행 중인 내보내기: 계좌 ID -> 시작 시각
+    private final Map<Long, Long> runningExports = new ConcurrentHashMap<>();
+
+    public TransactionExportService(
+            TransactionRepository transactionRepository,
+            CurrentUserContext currentUserContext,
+            @Value("${moneygo.transaction.export.max-concurrent:4}") int maxConcurrent,
+            @Value("${moneygo.transaction.export.timeout-ms:3600000}") long timeoutMillis
+    ) {
+        this.transactionRepository = transactionRepository;
+        this.currentUserContext = currentUserContext;
+        this.maxConcurrent = maxConcurrent;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    private static final int WRITE_BUFFER_SIZE = 16 * 1024;
+    private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final String CSV_HEADER = "transaction_id,created_at,type,direction,amount," +
+            "from_account,to_account,counterparty_name,description,status";
+
+    /**
+     * 요청 검증 + 내보내기 대상 계좌 / 기간 확정
+     * @param startDate 시작일 (없으면 1년 전)
+     * @param endDate 종료일 (없으면 오늘)
+     * @param format csv, ndjson
+     * @param gzip gzip 압축 여부
+     */
+    public TransactionExport prepare(LocalDate startDate, LocalDate endDate, String format, boolean gzip) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null ? startDate : end.minusYears(1);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 늦을 수 없습니다.");
+        }
+
+        String filename = String.format("transactions_%s_%s.%s%s",
+                start.format(FILE_DATE_FORMAT), end.format(FILE_DATE_FORMAT),
+                exportFormat.getExtension(), gzip ? ".gz" : "");
+
+        Long accountId = currentUserContext.getAccountId();
+        acquire(accountId);
+        return new TransactionExport(accountId,
+                start.atStartOfDay(), end.atTime(LocalTime.MAX), exportFormat, gzip, filename);
+    }
+
+    /**
+     * 거래 내역을 출력 스트림에 기록 (오래된 순)
+     * 읽기 전용 트랜잭션이어야 PostgreSQL 드라이버가 fetch size 단위로 커서를 읽는다.
+     * 중간에 실패해도 writer / gzip(Deflater 네이티브 메모리)은 닫고 동시 실행 자리는 반납한다.
+     * 응답 스트림(out) 자체는 닫지 않는다 (컨테이너가 닫음).
+     * @return 기록한 거래 수
+     */
+    @Transactional(readOnly = true)
+    public long write(TransactionExport export, OutputStream out) throws IOException {
+        long count = 0;
+        try (Writer writer = openWriter(export, StreamUtils.nonClosing(out));
+             Stream<TransactionHistoryRow> rows = transactionRepository.streamByAccountAndDateRange(
+                     export.getAccountId(), export.getStartDate(), export.getEndDate())) {
+            if (export.getFormat() == ExportFormat.CSV) {
+                // 엑셀에서 한글이 깨지지 않도록 BOM
+                writer.write('\uFEFF');
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            Iterator<TransactionHistoryRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                TransactionHistoryRow row = iterator.next();
+                if (export.getFormat() == ExportFormat.CSV) {
+                    writeCsv(writer, row, export.getAccountId());
+                } else {
+                    writeNdjson(writer, row, export.getAccountId());
+                }
+                count++;
+            }
+        } finally {
+            release(export.getAccountId());
+        }
+
+        log.info("거래 내역 내보내기 완료: accountId={}, format={}, count={}",
+                export.getAccountId(), export.getFormat(), count);
+        return count;
+    }
+
+    /**
+     * 동시 실행 자리 확보 (계좌당 1건, 전체 maxConcurrent건)
+     * 응답 시작 전 연결이 끊겨 write()가 호출되지 못한 기록은 비동기 제한 시간이 지나면 정리한다.
+     */
+    private synchronized void acquire(Long accountId) {
+        long now = System.currentTimeMillis();
+        runningExports.values().removeIf(startedAt -> now - startedAt > timeoutMillis);
+        if (runningExports.containsKey(accountId)) {
+            throw new IllegalStateException("이미 진행 중인 거래 내역 내보내기가 있습니다.");
+        }
+        if (runningExports.size() >= maxConcurrent) {
+            throw new IllegalStateException("거래 내역 내보내기 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        runningExports.put(accountId, now);
+    }
+
+    private void release(Long accountId) {
+        runningExports.remove(accountId);
+    }
+
+    private Writer openWriter(TransactionExport export, OutputStream out) throws IOException {
+        OutputStream target = export.isGzip() ? new GZIPOutputStream(out, WRITE_BUFFER_SIZE) : out;
+        return new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+    }
+
+    private void writeCsv(Writer writer, TransactionHistoryRow row, Long accountId) throws IOException {
+        writer.write(String.valueOf(row.getId()));
+        writer.write(',');
+        writer.write(row.getCreatedAt().toString());
+        writer.write(',');
+        writer.write(row.getType().name());
+        writer.write(',');
+        writer.write(direction(row, accountId));
+        writer.write(',');
+        writer.write(row.getAmount().toPlainString());
+        writer.write(',');
+        writeCsvText(writer, row.getFromAccountNumber());
+        writer.write(',');
+        writeCsvText(writer, row.getToAccountNumber());
+        writer.write(',');
+        writeCsvText(writer, row.getCounterpartyName(accountId));
+        writer.write(',');
+        writeCsvText(writer, row.getDescription());
+        writer.write(',');
+        writer.write(row.getStatus().name());
+        writer.write('\n');
+    }
+
+    private void writeNdjson(Writer writer, TransactionHistoryRow row, Long accountId) throws IOException {
+        writer.write("{\"transactionId\":");
+        writer.write(String.valueOf(row.getId()));
+        writer.write(",\"createdAt\":\"");
+        writer.write(row.getCreatedAt().toString());
+        writer.write("\",\"type\":\"");
+        writer.write(row.getType().name());
+        writer.write("\",\"direction\":\"");
+        writer.write(direction(row, accountId));
+        writer.write("\",\"amount\":");
+        writer.write(row.getAmount().toPlainString());
+        writer.write(",\"fromAccount\":");
+        writeJsonText(writer, row.getFromAccountNumber());
+        writer.write(",\"toAccount\":");
+        writeJsonText(writer, row.getToAccountNumber());
+        writer.write(",\"counterpartyName\":");
+        writeJsonText(writer, row.getCounterpartyName(accountId));
+        writer.write(",\"description\":");
+        writeJsonText(writer, row.getDescription());
+        writer.write(",\"status\":\"");
+        writer.write(row.getStatus().name());
+        writer.write("\"}\n");
+    }
+
+    // 내 계좌에서 나간 거래면 DEBIT, 들어온 거래면 CREDIT (계좌 원장 방향과 같음)
+    private String direction(TransactionHistoryRow row, Long accountId) {
+        return accountId.equals(row.getFromAccountId()) ? "DEBIT" : "CREDIT";
+    }
+
+    private void writeCsvText(Writer writer, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        // 메모가 =, +, -, @ 로 시작하면 엑셀에서 수식으로 실행되지 않도록 앞에 ' 추가
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@') {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private void writeJsonText(Writer writer, String value) throws IOException {
+        if (value == null) {
+            writer.write("null");
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+        writer.write('"');
+    }
+
+    public enum ExportFormat {
+        CSV("csv", "text/csv; charset=UTF-8"),
+        NDJSON("ndjson", "application/x-ndjson; charset=UTF-8");
+
+        private final String extension;
+        private final String contentType;
+
+        ExportFormat(String extension, String contentType) {
+            this.extension = extension;
+            this.contentType = contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public static ExportFormat from(String format) {
+            if (format == null || format.isBlank()) {
+                return CSV;
+            }
+            for (ExportFormat exportFormat : values()) {
+                if (exportFormat.extension.equalsIgnoreCase(format)) {
+                    return exportFormat;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + format);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class TransactionExport {
+        private final Long accountId;
+        private final LocalDateTime startDate;
+        private final LocalDateTime endDate;
+        private final ExportFormat format;
+        private final boolean gzip;
+        private final String filename;
+    }
+}
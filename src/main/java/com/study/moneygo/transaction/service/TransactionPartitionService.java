@@ -0,0 +1,149 @@
+package com.study.moneygo.transaction.service;
+
+import com.study.moneygo.transaction.repository.TransactionPartitionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * transactions 테이블 월별 범위 파티션 관리
+ * 1. (설정 시) 일반 테이블을 created_at 기준 파티션 테이블로 변환
+ * 2. 앞으로 N개월 파티션을 미리 생성 (해당 월 파티션이 없으면 INSERT가 실패하므로)
+ * 3. 보관 기간이 지난 월 파티션을 분리해 보관용 스키마로 이동
+ */
+@Slf4j
+@Service
+public class TransactionPartitionService {
+
+    private final TransactionPartitionRepository partitionRepository;
+    private final boolean convertOnStartup;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final String archiveSchema;
+
+    public TransactionPartitionService(
+            TransactionPartitionRepository partitionRepository,
+            @Value("${moneygo.transaction.partition.convert-on-startup:false}") boolean convertOnStartup,
+            @Value("${moneygo.transaction.partition.months-ahead:3}") int monthsAhead,
+            @Value("${moneygo.transaction.partition.retention-months:60}") int retentionMonths,
+            @Value("${moneygo.transaction.partition.archive-schema:transactions_archive}") String archiveSchema
+    ) {
+        this.partitionRepository = partitionRepository;
+        this.convertOnStartup = convertOnStartup;
+        this.monthsAhead = Math.max(1, monthsAhead);
+        this.retentionMonths = retentionMonths;
+        this.archiveSchema = archiveSchema;
+    }
+
+    public boolean isConvertOnStartup() {
+        return convertOnStartup;
+    }
+
+    public boolean isPartitioned() {
+        return partitionRepository.isPartitioned();
+    }
+
+    /**
+     * 일반 테이블이면 파티션 테이블로 변환 (이미 파티션이면 아무것도 하지 않음)
+     * 기존 데이터는 옮기지 않고 이번 달(데이터가 있는 마지막 달)까지를 legacy 파티션으로 둔다.
+     * transactions를 참조하던 다른 테이블의 FK는 제거되고 다시 만들어지지 않는다.
+     */
+    @Transactional
+    public boolean convertIfNeeded() {
+        if (!partitionRepository.exists() || partitionRepository.isPartitioned()) {
+            return false;
+        }
+        LocalDate legacyUpperBound = currentMonth().plusMonths(1);
+        LocalDate legacyDataEnd = partitionRepository.findLegacyDataEnd();
+        if (legacyDataEnd != null && legacyDataEnd.isAfter(legacyUpperBound)) {
+            legacyUpperBound = legacyDataEnd;
+        }
+
+        List<String> droppedForeignKeys = partitionRepository.convertToPartitioned(legacyUpperBound);
+        log.info("거래 테이블 파티션 변환 완료: legacyUpperBound={}", legacyUpperBound);
+        if (!droppedForeignKeys.isEmpty()) {
+            log.warn("거래 테이블을 참조하던 FK를 제거했습니다 (다시 만들어지지 않음, 참조 무결성은 애플리케이션이 보장): {}",
+                    droppedForeignKeys);
+        }
+
+        ensureFuturePartitions();
+        return true;
+    }
+
+    /**
+     * 일반 테이블이면 idempotency_key unique 인덱스 확인 / 생성
+     * 파티션 테이블은 변환 시 만든 transaction_idempotency_keys 테이블 + 트리거가 전역 unique를 보장한다.
+     * @return 새로 만들었으면 true
+     */
+    @Transactional
+    public boolean ensureIdempotencyKeyUnique() {
+        if (!partitionRepository.exists() || partitionRepository.isPartitioned()
+                || partitionRepository.hasIdempotencyKeyUniqueIndex()) {
+            return false;
+        }
+        partitionRepository.createIdempotencyKeyUniqueIndex();
+        log.info("거래 Idempotency Key unique 인덱스 생성: {}", TransactionPartitionRepository.IDEMPOTENCY_KEY_UNIQUE_INDEX);
+        return true;
+    }
+
+    /**
+     * 이번 달부터 monthsAhead 개월 뒤까지 빠진 월 파티션 생성
+     * 이미 다른 파티션(legacy 등)이 덮고 있는 구간은 건너뛴다.
+     * @return 생성한 파티션 수
+     */
+    @Transactional
+    public int ensureFuturePartitions() {
+        if (!partitionRepository.isPartitioned()) {
+            return 0;
+        }
+        List<TransactionPartitionRepository.Partition> partitions = partitionRepository.findPartitions();
+        LocalDate coveredUntil = partitions.isEmpty()
+                ? null
+                : partitions.get(partitions.size() - 1).getUpperBound().toLocalDate();
+
+        int created = 0;
+        LocalDate lastMonth = currentMonth().plusMonths(monthsAhead);
+        for (LocalDate month = currentMonth(); !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            if (coveredUntil != null && month.isBefore(coveredUntil)) {
+                continue;
+            }
+            partitionRepository.createMonthlyPartition(month);
+            created++;
+            log.info("거래 월 파티션 생성: {}", TransactionPartitionRepository.monthlyPartitionName(month));
+        }
+        return created;
+    }
+
+    /**
+     * 상한이 보관 기간 이전인 월 파티션을 분리해 보관용 스키마로 이동 (legacy 파티션은 대상 아님)
+     * @return 분리한 파티션 수
+     */
+    @Transactional
+    public int archiveExpiredPartitions() {
+        if (retentionMonths <= 0 || !partitionRepository.isPartitioned()) {
+            return 0;
+        }
+        LocalDateTime retentionStart = currentMonth().minusMonths(retentionMonths).atStartOfDay();
+
+        int archived = 0;
+        for (TransactionPartitionRepository.Partition partition : partitionRepository.findPartitions()) {
+            if (TransactionPartitionRepository.LEGACY_PARTITION.equals(partition.getName())
+                    || partition.getUpperBound().isAfter(retentionStart)) {
+                continue;
+            }
+            partitionRepository.detachAndArchive(partition.getName(), archiveSchema);
+            archived++;
+            log.info("거래 월 파티션 보관 처리: partition={}, schema={}", partition.getName(), archiveSchema);
+        }
+        return archived;
+    }
+
+    private LocalDate currentMonth() {
+        return LocalDate.now().withDayOfMonth(1);
+    }
+}
@@ -2,19 +2,21 @@ package com.study.moneygo.transaction.service;
 
 import com.study.moneygo.notification.service.EmailService;
 import com.study.moneygo.pdf.service.PdfService;
+import com.study.moneygo.transaction.dto.response.TransactionCursorResponse;
 import com.study.moneygo.transaction.dto.response.TransactionResponse;
 import com.study.moneygo.account.entity.Account;
+import com.study.moneygo.transaction.entity.AccountEntry;
 import com.study.moneygo.transaction.entity.Transaction;
+import com.study.moneygo.transaction.repository.TransactionHistoryRow;
 import com.study.moneygo.account.repository.AccountRepository;
 import com.study.moneygo.transaction.repository.TransactionRepository;
-import com.study.moneygo.user.entity.User;
-import com.study.moneygo.user.repository.UserRepository;
+import com.study.moneygo.util.security.CurrentUserContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,60 +33,123 @@ public class TransactionService {
 
     private final TransactionRepository transactionRepository;
     private final AccountRepository accountRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserContext currentUserContext;
     private final PdfService pdfService;
     private final EmailService emailService;
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_LENGTH = 100;
+
     public Page<TransactionResponse> getTransactions(String type, LocalDate startDate, LocalDate endDate, Pageable pageable) {
-        String email = getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        Account account = accountRepository.findByUserId(user.getId())
-                .orElseThrow(() -> new IllegalStateException("계좌 정보를 찾을 수 없습니다."));
+        Long accountId = currentUserContext.getAccountId();
 
-        Page<Transaction> transactions;
+        Page<TransactionHistoryRow> transactions;
 
         if (startDate != null && endDate != null) {
             // 날짜 범위 조회
             LocalDateTime startDateTime = startDate.atStartOfDay();
             LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
             transactions = transactionRepository.findByAccountIdAndDateRange(
-                    account.getId(), startDateTime, endDateTime, pageable
+                    accountId, startDateTime, endDateTime, pageable
             );
         } else if ("SENT".equalsIgnoreCase(type)) {
             // 송금한 내역
-            transactions = transactionRepository.findSentTransactions(account.getId(), pageable);
+            transactions = transactionRepository.findSentTransactions(accountId, pageable);
         } else if ("RECEIVED".equalsIgnoreCase(type)) {
             // 받은 내역
-            transactions = transactionRepository.findReceivedTransactions(account.getId(), pageable);
+            transactions = transactionRepository.findReceivedTransactions(accountId, pageable);
         } else {
             // 전체 내역
-            transactions = transactionRepository.findByAccountId(account.getId(), pageable);
+            transactions = transactionRepository.findByAccountId(accountId, pageable);
         }
 
-        return transactions.map(transaction -> {
-            String countpartyName = getCounterpartyName(transaction, account.getId());
-            return TransactionResponse.of(transaction, account.getId(), countpartyName);
-        });
+        return transactions.map(row -> TransactionResponse.of(row, row.getCounterpartyName(accountId)));
     }
 
-    public TransactionResponse getTransactionDetail(Long transactionId) {
-        String email = getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+    /**
+     * 거래 내역 조회 (전체 건수 없이 size + 1건만 읽어 다음 페이지 여부 판단)
+     */
+    public Slice<TransactionResponse> getTransactionsSlice(String type, LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        Long accountId = currentUserContext.getAccountId();
 
-        Account account = accountRepository.findByUserId(user.getId())
-                .orElseThrow(() -> new IllegalStateException("계좌 정보를 찾을 수 없습니다."));
+        Slice<TransactionHistoryRow> transactions;
+
+        if (startDate != null && endDate != null) {
+            transactions = transactionRepository.findSliceByAccountIdAndDateRange(
+                    accountId, startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX), pageable
+            );
+        } else if ("SENT".equalsIgnoreCase(type)) {
+            transactions = transactionRepository.findSentSlice(accountId, pageable);
+        } else if ("RECEIVED".equalsIgnoreCase(type)) {
+            transactions = transactionRepository.findReceivedSlice(accountId, pageable);
+        } else {
+            transactions = transactionRepository.findSliceByAccountId(accountId, pageable);
+        }
+
+        return transactions.map(row -> TransactionResponse.of(row, row.getCounterpartyName(accountId)));
+    }
+
+    /**
+     * 커서 기반 거래 내역 조회
+     * (createdAt, id) 기준으로 커서 이후만 seek 하므로 페이지가 깊어져도 조회 비용이 같고, COUNT 쿼리가 없다.
+     * 전체(ALL) 조회는 계좌 원장의 (account_id, created_at) 인덱스를 한 번 seek 한다.
+     * @param q 메모 / 상대방 이름 검색어 (부분 일치, 대소문자 무시, 없으면 전체)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    public TransactionCursorResponse getTransactionsByCursor(String type, LocalDate startDate, LocalDate endDate,
+                                                             String q, String cursor, int size) {
+        Long accountId = currentUserContext.getAccountId();
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+        LocalDateTime startDateTime = startDate != null ? startDate.atStartOfDay() : LocalDateTime.of(1970, 1, 1, 0, 0);
+        LocalDateTime endDateTime = endDate != null ? endDate.atTime(LocalTime.MAX) : null;
+        TransactionCursor position = TransactionCursor.decode(cursor).notAfter(endDateTime);
+
+        // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<TransactionHistoryRow> transactions;
+        if (q != null && !q.isBlank()) {
+            transactions = transactionRepository.searchBefore(
+                    accountId, toDirections(type), toSearchPattern(q), startDateTime,
+                    position.getCreatedAt(), position.getId(), limit);
+        } else if ("SENT".equalsIgnoreCase(type)) {
+            transactions = transactionRepository.findSentBefore(
+                    accountId, startDateTime, position.getCreatedAt(), position.getId(), limit);
+        } else if ("RECEIVED".equalsIgnoreCase(type)) {
+            transactions = transactionRepository.findReceivedBefore(
+                    accountId, startDateTime, position.getCreatedAt(), position.getId(), limit);
+        } else {
+            transactions = transactionRepository.findAllBefore(
+                    accountId, startDateTime, position.getCreatedAt(), position.getId(), limit);
+        }
+
+        boolean hasNext = transactions.size() > pageSize;
+        List<TransactionHistoryRow> page = hasNext ? transactions.subList(0, pageSize) : transactions;
+
+        List<TransactionResponse> content = page.stream()
+                .map(row -> TransactionResponse.of(row, row.getCounterpartyName(accountId)))
+                .toList();
+
+        return TransactionCursorResponse.builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? TransactionCursor.after(page.get(page.size() - 1)).encode() : null)
+                .build();
+    }
+
+    public TransactionResponse getTransactionDetail(Long transactionId) {
+        Long accountId = currentUserContext.getAccountId();
 
         Transaction transaction = transactionRepository.findById(transactionId)
                 .orElseThrow(() -> new IllegalArgumentException("거래 내역을 찾을 수 없습니다."));
 
         // 본인의 거래인지 확인
         boolean isMyTransaction = false;
-        if (transaction.getFromAccount() != null && transaction.getFromAccount().getId().equals(account.getId())) {
+        if (transaction.getFromAccount() != null && transaction.getFromAccount().getId().equals(accountId)) {
             isMyTransaction = true;
         }
-        if (transaction.getToAccount() != null && transaction.getToAccount().getId().equals(account.getId())) {
+        if (transaction.getToAccount() != null && transaction.getToAccount().getId().equals(accountId)) {
             isMyTransaction = true;
         }
 
@@ -92,8 +157,8 @@ public class TransactionService {
             throw new IllegalArgumentException("본인의 거래 내역만 조회할 수 있습니다.");
         }
 
-        String counterpartyName = getCounterpartyName(transaction, account.getId());
-        return TransactionResponse.of(transaction, account.getId(), counterpartyName);
+        String counterpartyName = getCounterpartyName(transaction, accountId);
+        return TransactionResponse.of(transaction, accountId, counterpartyName);
     }
 
     public Page<TransactionResponse> getFilteredTransactions(
@@ -102,11 +167,7 @@ public class TransactionService {
             String type,
             Pageable pageable
     ) {
-        String email = getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        Account account = accountRepository.findByUserId(user.getId())
-                .orElseThrow(() -> new IllegalStateException("계좌 정보를 찾을 수 없습니다."));
+        Long accountId = currentUserContext.getAccountId();
 
         // 날짜 범위 기본값 설정
         LocalDateTime startDateTime = startDate != null
@@ -115,56 +176,50 @@ public class TransactionService {
         LocalDateTime endDateTime = endDate != null
                 ? endDate.atTime(23, 59, 59)
                 : LocalDateTime.now();
-        Page<Transaction> transactions;
+        Page<TransactionHistoryRow> transactions;
 
         if (type != null && !type.isEmpty()) {
             // 거래 유형별 필터 적용
             try {
                 Transaction.TransactionType transactionType = Transaction.TransactionType.valueOf(type.toUpperCase());
                 transactions = transactionRepository.findByAccountAndTypeAndDateRange(
-                        account.getId(), transactionType, startDateTime, endDateTime, pageable
+                        accountId, transactionType, startDateTime, endDateTime, pageable
                 );
             } catch (Exception e) {
                 log.warn("잘못된 거래 유형: {}", type);
                 // 잘못된 타입이면 전체 조회
                 transactions = transactionRepository.findByAccountAndDateRange(
-                        account.getId(), startDateTime, endDateTime, pageable
+                        accountId, startDateTime, endDateTime, pageable
                 );
             }
         } else {
             // 거래 유형이 아니면 날짜 필터 적용
             transactions = transactionRepository.findByAccountAndDateRange(
-                    account.getId(), startDateTime, endDateTime, pageable
+                    accountId, startDateTime, endDateTime, pageable
             );
         }
-        return transactions.map(transaction -> {
+        return transactions.map(row -> {
             String counterpartyName = null;
-            if (transaction.getFromAccount() != null &&
-                    !transaction.getFromAccount().getId().equals(account.getId())) {
-                counterpartyName = transaction.getFromAccount().getUser().getName();
-            } else if (transaction.getToAccount() != null &&
-                    !transaction.getToAccount().getId().equals(account.getId())) {
-                counterpartyName = transaction.getToAccount().getUser().getName();
+            if (row.getFromAccountId() != null && !row.getFromAccountId().equals(accountId)) {
+                counterpartyName = row.getFromUserName();
+            } else if (row.getToAccountId() != null && !row.getToAccountId().equals(accountId)) {
+                counterpartyName = row.getToUserName();
             }
 
-            return TransactionResponse.of(transaction, account.getId(), counterpartyName);
+            return TransactionResponse.of(row, counterpartyName);
         });
     }
 
     public byte[] generateReceipt(Long transactionId) {
-        String email = getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        Account account = accountRepository.findByUserId(user.getId())
-                .orElseThrow(() -> new IllegalStateException("계좌 정보를 찾을 수 없습니다."));
+        Long accountId = currentUserContext.getAccountId();
         Transaction transaction = transactionRepository.findById(transactionId)
                 .orElseThrow(() -> new IllegalArgumentException("거래 내역을 찾을 수 없습니다."));
 
         // 권한 확인
         boolean hasAccess = (transaction.getFromAccount() != null &&
-                transaction.getFromAccount().getId().equals(account.getId())) ||
+                transaction.getFromAccount().getId().equals(accountId)) ||
                 (transaction.getToAccount() != null &&
-                        transaction.getToAccount().getId().equals(account.getId()));
+                        transaction.getToAccount().getId().equals(accountId));
 
         if (!hasAccess) {
             throw new IllegalArgumentException("접근 권한이 없습니다.");
@@ -173,14 +228,17 @@ public class TransactionService {
         // 상대방 이름 조회
         String counterpartyName = null;
         if (transaction.getFromAccount() != null &&
-                !transaction.getFromAccount().getId().equals(account.getId())) {
+                !transaction.getFromAccount().getId().equals(accountId)) {
             counterpartyName = transaction.getFromAccount().getUser().getName();
         } else if (transaction.getToAccount() != null &&
-                !transaction.getToAccount().getId().equals(account.getId())) {
+                !transaction.getToAccount().getId().equals(accountId)) {
             counterpartyName = transaction.getToAccount().getUser().getName();
         }
 
-        return pdfService.generateReceiptPdf(transaction, account.getAccountNumber(), counterpartyName);
+        // 영수증에는 계좌번호가 필요하므로 이때만 조회
+        String accountNumber = accountRepository.findAccountNumberById(accountId)
+                .orElseThrow(() -> new IllegalStateException("계좌 정보를 찾을 수 없습니다."));
+        return pdfService.generateReceiptPdf(transaction, accountNumber, counterpartyName);
     }
 
     public void sendReceiptEmail(Long transactionId, String emailAddress) {
@@ -196,11 +254,8 @@ public class TransactionService {
     }
 
     public byte[] generateStatement(Integer year, Integer month) {
-        String email = getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        Account account = accountRepository.findByUserId(user.getId())
+        // 명세서에는 계좌번호 / 이름이 필요하므로 계좌 엔티티 조회
+        Account account = accountRepository.findById(currentUserContext.getAccountId())
                 .orElseThrow(() -> new IllegalStateException("계좌 정보를 찾을 수 없습니다."));
 
         // 날짜 범위 계산
@@ -224,11 +279,33 @@ public class TransactionService {
         return pdfService.generateStatementPdf(
                 transactions,
                 account.getAccountNumber(),
-                user.getName(),
+                account.getUser().getName(),
                 year,
                 month);
     }
 
+    // 검색어를 LIKE 패턴으로 (%, _, \ 는 문자 그대로 검색)
+    private String toSearchPattern(String q) {
+        String keyword = q.strip();
+        if (keyword.length() > MAX_SEARCH_LENGTH) {
+            throw new IllegalArgumentException("검색어는 " + MAX_SEARCH_LENGTH + "자 이하로 입력해주세요.");
+        }
+        String escaped = keyword
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private List<AccountEntry.Direction> toDirections(String type) {
+        if ("SENT".equalsIgnoreCase(type)) {
+            return List.of(AccountEntry.Direction.DEBIT);
+        } else if ("RECEIVED".equalsIgnoreCase(type)) {
+            return List.of(AccountEntry.Direction.CREDIT);
+        }
+        return List.of(AccountEntry.Direction.DEBIT, AccountEntry.Direction.CREDIT);
+    }
+
     private String getCounterpartyName(Transaction transaction, Long myAccountId) {
         if (transaction.getFromAccount() != null &&
                 transaction.getFromAccount().getId().equals(myAccountId)) {
@@ -243,10 +320,4 @@ public class TransactionService {
         }
         return "알 수 없음";
     }
-
-    private String getCurrentUserEmail() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return authentication.getName();
-    }
 }
-
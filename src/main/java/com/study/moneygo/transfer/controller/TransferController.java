@@ -1,7 +1,9 @@
 package com.study.moneygo.transfer.controller;
 
 
+import com.study.moneygo.transfer.dto.request.BatchTransferRequest;
 import com.study.moneygo.transfer.dto.request.TransferRequest;
+import com.study.moneygo.transfer.dto.response.BatchTransferResponse;
 import com.study.moneygo.transfer.dto.response.TransferResponse;
 import com.study.moneygo.transfer.service.TransferService;
 import jakarta.validation.Valid;
@@ -9,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -20,8 +23,16 @@ public class TransferController {
     private final TransferService transferService;
 
     @PostMapping
-    public ResponseEntity<TransferResponse> transfer(@Valid @RequestBody TransferRequest request) {
-        TransferResponse response = transferService.transfer(request);
+    public ResponseEntity<TransferResponse> transfer(
+            @Valid @RequestBody TransferRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        TransferResponse response = transferService.transfer(request, idempotencyKey);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<BatchTransferResponse> transferBatch(@Valid @RequestBody BatchTransferRequest request) {
+        BatchTransferResponse response = transferService.transferBatch(request);
         return ResponseEntity.ok(response);
     }
 }
@@ -0,0 +1,51 @@
+package com.study.moneygo.transfer.dto.request;
+
+import com.study.moneygo.simplepassword.dto.request.PaymentCredential;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchTransferRequest implements PaymentCredential {
+
+    public static final int MAX_ITEMS = 500;
+
+    @NotEmpty(message = "송금 항목은 1건 이상이어야 합니다.")
+    @Size(max = MAX_ITEMS, message = "한 번에 최대 500건까지 송금할 수 있습니다.")
+    @Valid
+    private List<Item> items;
+
+    @Pattern(regexp = "^\\d{6}$", message = "간편 비밀번호는 6자리 숫자여야 합니다.")
+    private String simplePassword; // 간편 비밀번호 (일괄 송금 전체에 1회 확인)
+
+    private String paymentToken; // 결제 인증 토큰 (한도는 전체 합계 기준)
+
+    public BatchTransferRequest(List<Item> items, String simplePassword) {
+        this(items, simplePassword, null);
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        @NotBlank(message = "받는 계좌번호는 필수입니다.")
+        @Pattern(regexp = "^\\d{4}-\\d{4}-\\d{4}$", message = "계좌번호 형식이 올바르지 않습니다. (예: 1001-1234-5678)")
+        private String toAccountNumber;
+
+        @NotNull(message = "금액은 필수입니다.")
+        @DecimalMin(value = "0.01", message = "금액은 0보다 커야합니다.")
+        @DecimalMax(value = "1000000.00", message = "1회 최대 송금액은 100만원입니다.")
+        private BigDecimal amount;
+
+        @Size(max = 200, message = "메모는 200자 이내로 입력해주세요.")
+        private String description;
+    }
+}
@@ -1,5 +1,6 @@
 package com.study.moneygo.transfer.dto.request;
 
+import com.study.moneygo.simplepassword.dto.request.PaymentCredential;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -10,7 +11,7 @@ import java.math.BigDecimal;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-public class TransferRequest {
+public class TransferRequest implements PaymentCredential {
 
     @NotBlank(message = "받는 계좌번호는 필수입니다.")
     @Pattern(regexp = "^\\d{4}-\\d{4}-\\d{4}$", message = "계좌번호 형식이 올바르지 않습니다. (예: 1001-1234-5678)")
@@ -24,7 +25,12 @@ public class TransferRequest {
     @Size(max = 200, message = "메모는 200자 이내로 입력해주세요.")
     private String description;
 
-    @NotBlank(message = "비밀번호는 필수입니다.")
     @Pattern(regexp = "^\\d{6}$", message = "간편 비밀번호는 6자리 숫자여야 합니다.")
     private String simplePassword; // 간편 비밀번호
+
+    private String paymentToken; // 결제 인증 토큰 (간편 비밀번호 대신 사용 가능)
+
+    public TransferRequest(String toAccountNumber, BigDecimal amount, String description, String simplePassword) {
+        this(toAccountNumber, amount, description, simplePassword, null);
+    }
 }
@@ -0,0 +1,37 @@
+package com.study.moneygo.transfer.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchTransferResponse {
+
+    private int totalCount;
+    private int successCount;
+    private int failedCount;
+    private BigDecimal totalAmount; // 실제 송금된 총액
+    private BigDecimal balanceAfter; // 거래 후 잔액
+
+    private List<ItemResult> results;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private int index; // 요청 항목 순서
+        private String toAccountNumber;
+        private BigDecimal amount;
+        private String status; // COMPLETED, FAILED
+        private Long transactionId;
+        private String errorMessage;
+    }
+}
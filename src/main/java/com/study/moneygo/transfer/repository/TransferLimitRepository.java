@@ -1,13 +1,13 @@
 package com.study.moneygo.transfer.repository;
 
 import com.study.moneygo.transfer.entity.TransferLimit;
-import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.Optional;
 
 @Repository
@@ -15,7 +15,37 @@ public interface TransferLimitRepository extends JpaRepository<TransferLimit, Lo
 
     Optional<TransferLimit> findByAccountId(Long accountId);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT tl FROM TransferLimit tl WHERE tl.account.id = :accountId")
-    Optional<TransferLimit> findByAccountIdForUpdate(@Param("accountId") Long accountId);
+    /**
+     * 한도 확인 + 사용량 증가 (조건부 upsert)
+     * 한도를 넘으면 갱신하지 않고 빈 결과를 반환한다.
+     */
+    @Query(value = """
+            INSERT INTO transfer_limits (account_id, daily_limit, per_transaction_limit, today_used,
+                                         last_reset_date, created_at, updated_at)
+            VALUES (:accountId, :defaultDailyLimit, :defaultPerTransactionLimit, :amount, :today, now(), now())
+            ON CONFLICT (account_id) DO UPDATE SET
+                today_used = CASE WHEN transfer_limits.last_reset_date = :today
+                                  THEN transfer_limits.today_used + :amount
+                                  ELSE :amount END,
+                last_reset_date = :today,
+                updated_at = now()
+            WHERE :largestAmount <= transfer_limits.per_transaction_limit
+              AND (CASE WHEN transfer_limits.last_reset_date = :today
+                        THEN transfer_limits.today_used
+                        ELSE 0 END) + :amount <= transfer_limits.daily_limit
+            RETURNING today_used AS "todayUsed", daily_limit AS "dailyLimit",
+                      per_transaction_limit AS "perTransactionLimit"
+            """, nativeQuery = true)
+    Optional<LimitUsage> consumeDailyLimit(@Param("accountId") Long accountId,
+                                           @Param("amount") BigDecimal amount,
+                                           @Param("largestAmount") BigDecimal largestAmount,
+                                           @Param("today") LocalDate today,
+                                           @Param("defaultDailyLimit") BigDecimal defaultDailyLimit,
+                                           @Param("defaultPerTransactionLimit") BigDecimal defaultPerTransactionLimit);
+
+    interface LimitUsage {
+        BigDecimal getTodayUsed();
+        BigDecimal getDailyLimit();
+        BigDecimal getPerTransactionLimit();
+    }
 }
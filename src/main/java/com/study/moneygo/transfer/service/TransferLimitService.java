@@ -0,0 +1,79 @@
+package com.study.moneygo.transfer.service;
+
+import com.study.moneygo.transfer.entity.TransferLimit;
+import com.study.moneygo.transfer.repository.TransferLimitRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 송금 한도 차감
+ * SELECT ... FOR UPDATE 없이 조건부 upsert 한 문장으로 한도 확인과 사용량 증가를 처리한다.
+ * (한도 행이 없으면 기본 한도로 생성, 날짜가 바뀌었으면 사용량을 초기화한 뒤 차감)
+ *
+ * 한도 행은 UPDATE 시점부터 커밋까지 잠기지만, 같은 계좌의 송금은 이미 계좌 행에서
+ * 직렬화되므로 추가 대기가 생기지 않는다. 잠금 순서는 계좌 → 한도를 따른다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TransferLimitService {
+
+    public static final BigDecimal DEFAULT_DAILY_LIMIT = new BigDecimal("3000000.00"); // 일일 한도 300만원
+    public static final BigDecimal DEFAULT_PER_TRANSACTION_LIMIT = new BigDecimal("1000000.00"); // 1회 한도 100만원
+
+    private final TransferLimitRepository transferLimitRepository;
+
+    /**
+     * 단건 송금 한도 차감
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void consume(Long accountId, BigDecimal amount) {
+        consume(accountId, amount, amount);
+    }
+
+    /**
+     * 송금 한도 차감 (한도 초과 시 IllegalArgumentException, 호출자 트랜잭션 롤백)
+     * @param totalAmount 일일 한도에 반영할 총액
+     * @param largestAmount 1회 한도와 비교할 최대 단건 금액
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void consume(Long accountId, BigDecimal totalAmount, BigDecimal largestAmount) {
+        Optional<TransferLimitRepository.LimitUsage> usage = transferLimitRepository.consumeDailyLimit(
+                accountId, totalAmount, largestAmount, LocalDate.now(),
+                DEFAULT_DAILY_LIMIT, DEFAULT_PER_TRANSACTION_LIMIT);
+
+        // 처음 생성된 행은 upsert 조건을 거치지 않으므로 반환값으로 다시 확인
+        boolean withinLimit = usage
+                .filter(u -> u.getTodayUsed().compareTo(u.getDailyLimit()) <= 0)
+                .filter(u -> largestAmount.compareTo(u.getPerTransactionLimit()) <= 0)
+                .isPresent();
+        if (!withinLimit) {
+            throw limitExceeded(accountId);
+        }
+    }
+
+    /**
+     * 1회 한도 조회 (Lock 없음, 한도 행이 없으면 기본 한도)
+     */
+    public BigDecimal getPerTransactionLimit(Long accountId) {
+        return transferLimitRepository.findByAccountId(accountId)
+                .map(TransferLimit::getPerTransactionLimit)
+                .orElse(DEFAULT_PER_TRANSACTION_LIMIT);
+    }
+
+    private IllegalArgumentException limitExceeded(Long accountId) {
+        Optional<TransferLimit> transferLimit = transferLimitRepository.findByAccountId(accountId);
+
+        return new IllegalArgumentException(
+                String.format("송금 한도를 초과했습니다. (1회 한도: %s원, 일일 한도: %s원, 남은 한도: %s원)",
+                        transferLimit.map(TransferLimit::getPerTransactionLimit).orElse(DEFAULT_PER_TRANSACTION_LIMIT),
+                        transferLimit.map(TransferLimit::getDailyLimit).orElse(DEFAULT_DAILY_LIMIT),
+                        transferLimit.map(TransferLimit::getRemainingDailyLimit).orElse(DEFAULT_DAILY_LIMIT))
+        );
+    }
+}
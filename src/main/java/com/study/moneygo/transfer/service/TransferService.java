@@ -1,61 +1,150 @@
 package com.study.moneygo.transfer.service;
 
+import com.study.moneygo.transfer.dto.request.BatchTransferRequest;
 import com.study.moneygo.transfer.dto.request.TransferRequest;
+import com.study.moneygo.transfer.dto.response.BatchTransferResponse;
 import com.study.moneygo.transfer.dto.response.TransferResponse;
 import com.study.moneygo.account.entity.Account;
+import com.study.moneygo.account.service.AccountBalanceService;
+import com.study.moneygo.account.service.AccountLockService;
+import com.study.moneygo.account.service.AccountRequestSerializer;
+import com.study.moneygo.account.service.AccountTransactionExecutor;
+import com.study.moneygo.account.service.HotAccountService;
+import com.study.moneygo.transaction.entity.AccountEntry;
 import com.study.moneygo.transaction.entity.Transaction;
-import com.study.moneygo.transfer.entity.TransferLimit;
 import com.study.moneygo.account.repository.AccountRepository;
+import com.study.moneygo.transaction.repository.TransactionBatchRepository;
 import com.study.moneygo.transaction.repository.TransactionRepository;
-import com.study.moneygo.transfer.repository.TransferLimitRepository;
+import com.study.moneygo.transaction.service.AccountEntryService;
 import com.study.moneygo.notification.service.NotificationService;
-import com.study.moneygo.simplepassword.service.SimplePasswordService;
-import com.study.moneygo.user.entity.User;
-import com.study.moneygo.user.repository.UserRepository;
+import com.study.moneygo.simplepassword.service.PaymentAuthorizationService;
+import com.study.moneygo.util.idempotency.IdempotentRequestExecutor;
+import com.study.moneygo.util.metrics.PaymentStageMetrics;
+import com.study.moneygo.util.security.CurrentUserContext;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TransferService {
 
     private final AccountRepository accountRepository;
+    private final AccountLockService accountLockService;
+    private final AccountBalanceService accountBalanceService;
+    private final HotAccountService hotAccountService;
     private final TransactionRepository transactionRepository;
-    private final TransferLimitRepository transferLimitRepository;
-    private final UserRepository userRepository;
-    private final SimplePasswordService simplePasswordService;
+    private final TransferLimitService transferLimitService;
+    private final CurrentUserContext currentUserContext;
+    private final PaymentAuthorizationService paymentAuthorizationService;
     private final NotificationService notificationService;
+    private final TransactionBatchRepository transactionBatchRepository;
+    private final AccountEntryService accountEntryService;
+    private final IdempotentRequestExecutor idempotentRequestExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final AccountTransactionExecutor accountTransactionExecutor;
+    private final AccountRequestSerializer accountRequestSerializer;
+    private final PaymentStageMetrics paymentStageMetrics;
 
-    @Transactional
     public TransferResponse transfer(TransferRequest request) {
-        // 1. 현재 로그인한 사용자 확인하기
-        String email = getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        return transfer(request, null);
+    }
+
+    /**
+     * 송금
+     * @param clientIdempotencyKey 클라이언트가 보낸 Idempotency-Key (없으면 매번 새 요청으로 처리)
+     */
+    public TransferResponse transfer(TransferRequest request, String clientIdempotencyKey) {
+        return paymentStageMetrics.record(PaymentStageMetrics.TRANSFER, PaymentStageMetrics.TOTAL,
+                () -> processTransfer(request, clientIdempotencyKey));
+    }
 
-        // 2. 보내는 계좌 조회 (비관적 Lock)
-        Account fromAccount = accountRepository.findByUserIdForUpdate(user.getId())
-                .orElseThrow(() -> new IllegalStateException("계좌 정보를 찾을 수 없습니다."));
+    private TransferResponse processTransfer(TransferRequest request, String clientIdempotencyKey) {
+        // 1. 현재 로그인한 사용자 / 보내는 계좌 ID 확인 (토큰 claim, DB 조회 없음)
+        Long userId = paymentStageMetrics.record(PaymentStageMetrics.TRANSFER, PaymentStageMetrics.USER_LOOKUP,
+                currentUserContext::getUserId);
+        Long fromAccountId = currentUserContext.getAccountId();
 
-        // 3. 받는 계좌 조회 (비관적 Lock)
-        Account toAccount = accountRepository.findByAccountNumberForUpdate(request.getToAccountNumber())
+        // 2. 받는 계좌 ID 확인 (Lock 없음)
+        Long toAccountId = accountRepository.findIdByAccountNumber(request.getToAccountNumber())
                 .orElseThrow(() -> new IllegalArgumentException("받는 계좌를 찾을 수 없습니다."));
 
-        // 4. 본인 계좌로 송금 방지
-        if (fromAccount.getId().equals(toAccount.getId())) {
+        // 3. 본인 계좌로 송금 방지
+        if (fromAccountId.equals(toAccountId)) {
             throw new IllegalArgumentException("본인 계좌로는 송금할 수 없습니다.");
         }
 
-        // 5. 간편 비밀번호 확인
-        simplePasswordService.verifySimplePasswordForUser(user.getId(), request.getSimplePassword());
+        if (clientIdempotencyKey == null) {
+            String idempotencyKey = UUID.randomUUID().toString();
+            return runTransfer(userId, fromAccountId, toAccountId, request, idempotencyKey);
+        }
+
+        // 같은 키로 이미 처리된 송금이면 계좌 Lock 없이 원래 응답을 반환
+        String idempotencyKey = IdempotentRequestExecutor.toStoredKey(userId, clientIdempotencyKey);
+        return idempotentRequestExecutor.execute(
+                "TRANSFER:" + idempotencyKey,
+                TransferResponse.class,
+                request.getToAccountNumber() + ":" + request.getAmount().stripTrailingZeros().toPlainString(),
+                () -> findCompletedTransfer(idempotencyKey, request),
+                () -> runTransfer(userId, fromAccountId, toAccountId, request, idempotencyKey)
+        );
+    }
+
+    /**
+     * 간편 비밀번호 / 결제 인증 토큰을 먼저 확인하고,
+     * 같은 계좌 요청은 JVM 안에서 줄 세운 뒤 트랜잭션 시작 (DB 커넥션을 잡은 채 행 잠금 대기 방지)
+     */
+    private TransferResponse runTransfer(Long userId, Long fromAccountId, Long toAccountId,
+                                         TransferRequest request, String idempotencyKey) {
+        verifyPaymentCredential(userId, request);
+
+        long queuedAt = System.nanoTime();
+        return accountRequestSerializer.execute(
+                List.of(fromAccountId, toAccountId),
+                () -> {
+                    paymentStageMetrics.recordSince(
+                            PaymentStageMetrics.TRANSFER, PaymentStageMetrics.SERIALIZER_WAIT, queuedAt);
+                    return accountTransactionExecutor.execute(
+                            () -> executeTransfer(userId, fromAccountId, toAccountId, request, idempotencyKey));
+                }
+        );
+    }
+
+    private TransferResponse executeTransfer(Long userId, Long fromAccountId, Long toAccountId,
+                                             TransferRequest request, String idempotencyKey) {
+        paymentStageMetrics.recordCommit(PaymentStageMetrics.TRANSFER);
 
-        // 6. 계좌 상태 확인
+        // 결제 인증 토큰 차감 (계좌 Lock 전, 송금이 롤백되면 함께 롤백)
+        paymentAuthorizationService.consume(userId, request, request.getAmount());
+
+        // 조건부 UPDATE 모드 (SELECT ... FOR UPDATE 없이 처리)
+        if (accountBalanceService.isConditionalUpdate()) {
+            return transferWithConditionalUpdate(userId, fromAccountId, toAccountId, request, idempotencyKey);
+        }
+
+        // 4. 두 계좌를 id 오름차순으로 한 번에 잠금 (비관적 Lock, 데드락 방지 / OPTIMISTIC_RETRY 모드는 조회만)
+        AccountLockService.AccountPair accounts = paymentStageMetrics.record(
+                PaymentStageMetrics.TRANSFER, PaymentStageMetrics.ACCOUNT_LOCK,
+                () -> accountLockService.lockPair(fromAccountId, toAccountId));
+        Account fromAccount = accounts.getFrom();
+        Account toAccount = accounts.getTo();
+
+        // 5. 계좌 상태 확인
         if (!fromAccount.isActive()) {
             throw new IllegalStateException("송금 가능한 계좌 상태가 아닙니다.");
         }
@@ -63,28 +152,18 @@ public class TransferService {
             throw new IllegalArgumentException("받는 계좌가 활성 상태가 아닙니다.");
         }
 
-        // 7. 잔액 확인
+        // 6. 잔액 확인 (핫 계좌면 합산 대기 금액을 먼저 반영)
+        if (fromAccount.isHotAccount() && !fromAccount.hasEnoughBalance(request.getAmount())) {
+            hotAccountService.rollUpLocked(fromAccount);
+        }
         if (!fromAccount.hasEnoughBalance(request.getAmount())) {
             throw new IllegalArgumentException("잔액이 부족합니다.");
         }
 
-        // 8. 송금 한도 확인
-        TransferLimit transferLimit = transferLimitRepository.findByAccountIdForUpdate(fromAccount.getId())
-                .orElseGet(() -> createDefaultTransferLimit(fromAccount));
-
-        if (!transferLimit.canTransfer(request.getAmount())) {
-            throw new IllegalArgumentException(
-                    String.format("송금 한도를 초과했습니다. (1회 한도: %s원, 일일 한도: %s원, 남은 한도: %s원)",
-                            transferLimit.getPerTransactionLimit(),
-                            transferLimit.getDailyLimit(),
-                            transferLimit.getRemainingDailyLimit())
-            );
-        }
-
-        // 9. 중복 요청 방지 (Idempotency Key)
-        String idempotencyKey = UUID.randomUUID().toString();
+        // 7. 송금 한도 확인 + 사용량 반영 (조건부 upsert, 실패 시 전체 롤백)
+        consumeTransferLimit(fromAccountId, request);
 
-        // 10. 거래 내역 생성
+        // 8. 거래 내역 생성 (Idempotency Key 포함)
         Transaction transaction = Transaction.builder()
                 .fromAccount(fromAccount)
                 .toAccount(toAccount)
@@ -96,26 +175,26 @@ public class TransferService {
                 .build();
 
         try {
-            // 11. 송금 실행
+            // 9. 송금 실행
             fromAccount.withdraw(request.getAmount());
             toAccount.deposit(request.getAmount());
 
-            // 12. 한도 사용량 업데이트
-            transferLimit.addUsage(request.getAmount());
-
-            // 13. 거래 완료 처리
+            // 10. 거래 완료 처리
             transaction.complete();
 
-            // 알림 생성
-            notificationService.createTransferNotification(transaction);
-
-            // 14. 저장
+            // 11. 저장 (거래 + 계좌 원장)
             transactionRepository.save(transaction);
+            accountEntryService.record(transaction, fromAccount.getBalance(), toAccount.getBalance());
             accountRepository.save(fromAccount);
             accountRepository.save(toAccount);
-            transferLimitRepository.save(transferLimit);
+
+            // 12. 알림 생성 (저장 후에 해야 아웃박스에 거래 id가 남음)
+            createNotification(transaction);
 
             return TransferResponse.of(transaction, toAccount.getUser().getName(), fromAccount.getBalance());
+        } catch (OptimisticLockingFailureException e) {
+            // OPTIMISTIC_RETRY 모드 재시도 대상 (그대로 전달)
+            throw e;
         } catch (Exception e) {
             transaction.fail(e.getMessage());
             transactionRepository.save(transaction);
@@ -123,19 +202,251 @@ public class TransferService {
         }
     }
 
-    private TransferLimit createDefaultTransferLimit(Account account) {
-        TransferLimit transferLimit = TransferLimit.builder()
-                .account(account)
-                .dailyLimit(new BigDecimal("3000000.00"))
-                .perTransactionLimit(new BigDecimal("1000000.00"))
-                .todayUsed(BigDecimal.ZERO)
+    /**
+     * 조건부 UPDATE 기반 송금 (moneygo.account.concurrency-strategy=CONDITIONAL_UPDATE)
+     * 잔액 검증과 차감을 UPDATE 한 문장으로 처리해 계좌 행 잠금 시간을 최소화한다.
+     */
+    private TransferResponse transferWithConditionalUpdate(Long userId, Long fromAccountId, Long toAccountId,
+                                                           TransferRequest request, String idempotencyKey) {
+        // 받는 계좌 상태 확인 (Lock 없음, 최종 검증은 UPDATE 조건으로 처리)
+        Account toAccount = accountRepository.findById(toAccountId)
+                .orElseThrow(() -> new IllegalArgumentException("받는 계좌를 찾을 수 없습니다."));
+        if (!toAccount.isActive()) {
+            throw new IllegalArgumentException("받는 계좌가 활성 상태가 아닙니다.");
+        }
+        Account fromAccount = accountRepository.getReferenceById(fromAccountId);
+
+        // 조건부 UPDATE로 출금/입금 (잔액 부족, 비활성 계좌면 예외 발생 후 롤백)
+        paymentStageMetrics.record(PaymentStageMetrics.TRANSFER, PaymentStageMetrics.ACCOUNT_LOCK,
+                () -> accountBalanceService.transfer(fromAccountId, toAccountId, request.getAmount()));
+
+        // 송금 한도 확인 + 사용량 반영 (계좌 → 한도 순서, 한도 초과 시 롤백)
+        consumeTransferLimit(fromAccountId, request);
+
+        Transaction transaction = Transaction.builder()
+                .fromAccount(fromAccount)
+                .toAccount(toAccount)
+                .amount(request.getAmount())
+                .type(Transaction.TransactionType.TRANSFER)
+                .status(Transaction.TransactionStatus.PENDING)
+                .description(request.getDescription())
+                .idempotencyKey(idempotencyKey)
                 .build();
+        transaction.complete();
+
+        // 조건부 UPDATE 이후 잔액은 엔티티에 없으므로 스칼라 조회
+        BigDecimal fromBalanceAfter = accountBalanceService.getBalance(fromAccountId);
+        transactionRepository.save(transaction);
+        accountEntryService.record(transaction, fromBalanceAfter, accountBalanceService.getBalance(toAccountId));
 
-        return transferLimitRepository.save(transferLimit);
+        // 알림 생성
+        createNotification(transaction);
+
+        return TransferResponse.of(transaction, toAccount.getUser().getName(), fromBalanceAfter);
+    }
+
+    private void verifyPaymentCredential(Long userId, TransferRequest request) {
+        paymentStageMetrics.record(PaymentStageMetrics.TRANSFER, PaymentStageMetrics.SIMPLE_PASSWORD,
+                () -> paymentAuthorizationService.verify(userId, request, request.getAmount()));
+    }
+
+    private void consumeTransferLimit(Long fromAccountId, TransferRequest request) {
+        paymentStageMetrics.record(PaymentStageMetrics.TRANSFER, PaymentStageMetrics.TRANSFER_LIMIT,
+                () -> transferLimitService.consume(fromAccountId, request.getAmount()));
+    }
+
+    private void createNotification(Transaction transaction) {
+        paymentStageMetrics.record(PaymentStageMetrics.TRANSFER, PaymentStageMetrics.NOTIFICATION,
+                () -> notificationService.createTransferNotification(transaction));
+    }
+
+    /**
+     * 일괄 송금 (급여 지급 등)
+     * 간편 비밀번호(또는 결제 인증 토큰) 확인, 보내는 계좌 / 한도 잠금은 한 번만 하고
+     * 받는 계좌들은 보내는 계좌와 함께 id 오름차순으로 한 번에 잠근다.
+     * 받는 계좌가 없거나 비활성인 항목은 실패로 기록하고 나머지만 송금한다.
+     * 잔액 또는 일일 한도가 총액에 부족하면 전체가 실패한다.
+     */
+    public BatchTransferResponse transferBatch(BatchTransferRequest request) {
+        return paymentStageMetrics.record(PaymentStageMetrics.BATCH_TRANSFER, PaymentStageMetrics.TOTAL,
+                () -> processTransferBatch(request));
+    }
+
+    private BatchTransferResponse processTransferBatch(BatchTransferRequest request) {
+        Long userId = currentUserContext.getUserId();
+
+        // 간편 비밀번호 / 결제 인증 토큰 1회 확인 (계좌 Lock 전에 처리, 토큰 한도는 요청 총액 기준)
+        BigDecimal requestedTotal = request.getItems().stream()
+                .map(BatchTransferRequest.Item::getAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        paymentAuthorizationService.verify(userId, request, requestedTotal);
+
+        BatchTransferResponse response = accountTransactionExecutor.execute(() -> {
+            // 결제 인증 토큰 차감 (일괄 송금 전체가 실패해 롤백되면 함께 롤백)
+            paymentAuthorizationService.consume(userId, request, requestedTotal);
+            return executeBatchTransfer(userId, request);
+        });
+
+        log.info("일괄 송금 완료: userId={}, total={}, success={}",
+                userId, response.getTotalCount(), response.getSuccessCount());
+        return response;
+    }
+
+    private BatchTransferResponse executeBatchTransfer(Long userId, BatchTransferRequest request) {
+        List<BatchTransferRequest.Item> items = request.getItems();
+
+        // 1. 보내는 계좌 / 받는 계좌 ID 확인 (Lock 없음, 한 번의 쿼리)
+        Long fromAccountId = currentUserContext.getAccountId();
+        Set<String> toAccountNumbers = items.stream()
+                .map(BatchTransferRequest.Item::getToAccountNumber)
+                .collect(Collectors.toSet());
+        Map<String, Long> toAccountIds = new HashMap<>();
+        for (Object[] row : accountRepository.findIdsByAccountNumberIn(toAccountNumbers)) {
+            toAccountIds.put((String) row[0], (Long) row[1]);
+        }
+
+        // 2. 보내는 계좌 + 받는 계좌를 id 오름차순으로 한 번에 잠금 (비관적 Lock, 데드락 방지)
+        Set<Long> accountIds = new HashSet<>(toAccountIds.values());
+        accountIds.add(fromAccountId);
+        Map<Long, Account> lockedAccounts = accountLockService.lockAll(accountIds);
+        Account fromAccount = lockedAccounts.get(fromAccountId);
+        if (fromAccount == null) {
+            throw new IllegalStateException("계좌 정보를 찾을 수 없습니다.");
+        }
+        if (!fromAccount.isActive()) {
+            throw new IllegalStateException("송금 가능한 계좌 상태가 아닙니다.");
+        }
+
+        // 3. 1회 송금 한도 조회 (Lock 없음, 일일 한도는 총액으로 6단계에서 차감)
+        BigDecimal perTransactionLimit = transferLimitService.getPerTransactionLimit(fromAccountId);
+
+        // 4. 항목별 검증 (실패 항목은 결과에만 기록)
+        BatchTransferResponse.ItemResult[] results = new BatchTransferResponse.ItemResult[items.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        BigDecimal largestAmount = BigDecimal.ZERO;
+        for (int i = 0; i < items.size(); i++) {
+            BatchTransferRequest.Item item = items.get(i);
+            Long toAccountId = toAccountIds.get(item.getToAccountNumber());
+
+            String errorMessage = null;
+            if (toAccountId == null) {
+                errorMessage = "받는 계좌를 찾을 수 없습니다.";
+            } else if (toAccountId.equals(fromAccountId)) {
+                errorMessage = "본인 계좌로는 송금할 수 없습니다.";
+            } else if (!lockedAccounts.get(toAccountId).isActive()) {
+                errorMessage = "받는 계좌가 활성 상태가 아닙니다.";
+            } else if (item.getAmount().compareTo(perTransactionLimit) > 0) {
+                errorMessage = String.format("1회 송금 한도를 초과했습니다. (1회 한도: %s원)", perTransactionLimit);
+            }
+
+            if (errorMessage != null) {
+                results[i] = BatchTransferResponse.ItemResult.builder()
+                        .index(i)
+                        .toAccountNumber(item.getToAccountNumber())
+                        .amount(item.getAmount())
+                        .status(Transaction.TransactionStatus.FAILED.name())
+                        .errorMessage(errorMessage)
+                        .build();
+            } else {
+                validIndexes.add(i);
+                totalAmount = totalAmount.add(item.getAmount());
+                largestAmount = largestAmount.max(item.getAmount());
+            }
+        }
+
+        if (!validIndexes.isEmpty()) {
+            // 5. 잔액은 총액 기준으로 확인
+            if (fromAccount.isHotAccount() && !fromAccount.hasEnoughBalance(totalAmount)) {
+                hotAccountService.rollUpLocked(fromAccount);
+            }
+            if (!fromAccount.hasEnoughBalance(totalAmount)) {
+                throw new IllegalArgumentException(
+                        String.format("잔액이 부족합니다. (일괄 송금 총액: %s원)", totalAmount));
+            }
+
+            // 6. 일일 한도는 총액으로 한 번에 차감 (초과 시 전체 롤백)
+            transferLimitService.consume(fromAccountId, totalAmount, largestAmount);
+
+            // 7. 출금 / 입금 반영 (커밋 시 한 번에 UPDATE)
+            BigDecimal fromBalance = fromAccount.getBalance();
+            fromAccount.withdraw(totalAmount);
+            List<TransactionBatchRepository.Row> rows = new ArrayList<>(validIndexes.size());
+            List<BigDecimal> fromBalancesAfter = new ArrayList<>(validIndexes.size());
+            List<BigDecimal> toBalancesAfter = new ArrayList<>(validIndexes.size());
+            for (int index : validIndexes) {
+                BatchTransferRequest.Item item = items.get(index);
+                Long toAccountId = toAccountIds.get(item.getToAccountNumber());
+                Account toAccount = lockedAccounts.get(toAccountId);
+                toAccount.deposit(item.getAmount());
+                fromBalance = fromBalance.subtract(item.getAmount());
+                fromBalancesAfter.add(fromBalance);
+                toBalancesAfter.add(toAccount.getBalance());
+                rows.add(new TransactionBatchRepository.Row(
+                        fromAccountId, toAccountId, item.getAmount(), item.getDescription(),
+                        UUID.randomUUID().toString()));
+            }
+
+            // 8. 거래 내역 일괄 저장 (JDBC batch insert) 후 생성된 거래 조회
+            transactionBatchRepository.insertCompleted(rows, Transaction.TransactionType.TRANSFER);
+            Map<String, Transaction> savedTransactions = transactionRepository.findAllByIdempotencyKeyIn(
+                            rows.stream().map(TransactionBatchRepository.Row::getIdempotencyKey).toList())
+                    .stream()
+                    .collect(Collectors.toMap(Transaction::getIdempotencyKey, Function.identity()));
+
+            // 9. 계좌 원장 일괄 저장 (항목 순서대로 출금 / 입금 행)
+            List<AccountEntry> entries = new ArrayList<>(rows.size() * 2);
+            for (int i = 0; i < rows.size(); i++) {
+                entries.addAll(accountEntryService.toEntries(savedTransactions.get(rows.get(i).getIdempotencyKey()),
+                        fromBalancesAfter.get(i), toBalancesAfter.get(i)));
+            }
+            accountEntryService.recordAll(entries);
+
+            for (int i = 0; i < validIndexes.size(); i++) {
+                int index = validIndexes.get(i);
+                BatchTransferRequest.Item item = items.get(index);
+                Transaction transaction = savedTransactions.get(rows.get(i).getIdempotencyKey());
+
+                // 알림 생성
+                notificationService.createTransferNotification(transaction);
+
+                results[index] = BatchTransferResponse.ItemResult.builder()
+                        .index(index)
+                        .toAccountNumber(item.getToAccountNumber())
+                        .amount(item.getAmount())
+                        .status(transaction.getStatus().name())
+                        .transactionId(transaction.getId())
+                        .build();
+            }
+        }
+
+        return BatchTransferResponse.builder()
+                .totalCount(items.size())
+                .successCount(validIndexes.size())
+                .failedCount(items.size() - validIndexes.size())
+                .totalAmount(totalAmount)
+                .balanceAfter(fromAccount.getBalance())
+                .results(List.of(results))
+                .build();
     }
 
-    private String getCurrentUserEmail() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return authentication.getName();
+    /**
+     * Idempotency-Key로 이미 완료된 송금 조회 (계좌 Lock 없음)
+     * 재전송 응답의 거래 후 잔액은 조회 시점의 잔액이다.
+     */
+    private Optional<TransferResponse> findCompletedTransfer(String idempotencyKey, TransferRequest request) {
+        return transactionTemplate.execute(status -> transactionRepository.findByIdempotencyKey(idempotencyKey)
+                .map(transaction -> {
+                    if (transaction.getType() != Transaction.TransactionType.TRANSFER
+                            || transaction.getAmount().compareTo(request.getAmount()) != 0
+                            || !transaction.getToAccount().getAccountNumber().equals(request.getToAccountNumber())) {
+                        throw new IllegalArgumentException(IdempotentRequestExecutor.KEY_REUSED_MESSAGE);
+                    }
+                    return TransferResponse.of(
+                            transaction,
+                            transaction.getToAccount().getUser().getName(),
+                            hotAccountService.getAvailableBalance(transaction.getFromAccount())
+                    );
+                }));
     }
 }
@@ -0,0 +1,46 @@
+package com.study.moneygo.user.entity;
+
+import com.study.moneygo.util.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 토큰 폐기 기준 시각
+ * 발급 시각(iat)이 revokedBefore 이전인 토큰은 모두 무효로 처리한다.
+ */
+@Entity
+@Table(name = "token_revocations",
+        indexes = @Index(name = "idx_token_revocation_revoked_before", columnList = "revoked_before"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TokenRevocation extends BaseEntity {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "revoked_before", nullable = false)
+    private Long revokedBefore; // epoch millis
+
+    @Column(length = 30)
+    private String reason;
+
+    /** =====================================
+     *              비즈니스 메서드
+     *  ===================================== */
+
+    /**
+     * 기준 시각을 앞으로만 이동
+     */
+    public void moveTo(long revokedBefore, String reason) {
+        if (revokedBefore > this.revokedBefore) {
+            this.revokedBefore = revokedBefore;
+            this.reason = reason;
+        }
+    }
+}
@@ -6,12 +6,16 @@ import lombok.*;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserEntityListener.class)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class User extends BaseEntity {
 
+    public static final int MAX_FAILED_LOGIN_ATTEMPTS = 3;
+    public static final int MAX_FAILED_SIMPLE_PASSWORD_ATTEMPTS = 5;
+
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
@@ -46,9 +50,9 @@ public class User extends BaseEntity {
      *  ===================================== */
 
     public void incrementFailedAttempts() {
-        this.failedLoginAttempts++;
+        this.failedLoginAttempts = getFailedLoginAttemptCount() + 1;
         // 로그인 시도 3회 이상 실패 시 LOCK
-        if (this.failedLoginAttempts >= 3) {
+        if (this.failedLoginAttempts >= MAX_FAILED_LOGIN_ATTEMPTS) {
             this.status = UserStatus.LOCKED;
         }
     }
@@ -58,9 +62,9 @@ public class User extends BaseEntity {
     }
 
     public void incrementFailedSimplePasswordAttempts() {
-        this.failedSimplePasswordAttempts++;
+        this.failedSimplePasswordAttempts = getFailedSimplePasswordAttemptCount() + 1;
         // 간편 비밀번호 5회 이상 실패 시 LOCK
-        if (this.failedSimplePasswordAttempts >= 5) {
+        if (this.failedSimplePasswordAttempts >= MAX_FAILED_SIMPLE_PASSWORD_ATTEMPTS) {
             this.status = UserStatus.LOCKED;
         }
     }
@@ -69,6 +73,14 @@ public class User extends BaseEntity {
         this.failedSimplePasswordAttempts = 0;
     }
 
+    public int getFailedLoginAttemptCount() {
+        return this.failedLoginAttempts == null ? 0 : this.failedLoginAttempts;
+    }
+
+    public int getFailedSimplePasswordAttemptCount() {
+        return this.failedSimplePasswordAttempts == null ? 0 : this.failedSimplePasswordAttempts;
+    }
+
     public boolean hasSimplePassword() {
         return this.simplePassword != null && !this.simplePassword.isEmpty();
     }
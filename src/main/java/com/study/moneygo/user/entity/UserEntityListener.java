@@ -0,0 +1,23 @@
+package com.study.moneygo.user.entity;
+
+import com.study.moneygo.util.security.UserPrincipalCache;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 정보가 DB에 반영되면 (잠금, 탈퇴, 비밀번호 변경 등) 인증 사용자 캐시를 무효화
+ */
+@Component
+@RequiredArgsConstructor
+public class UserEntityListener {
+
+    private final UserPrincipalCache userPrincipalCache;
+
+    @PostUpdate
+    @PostRemove
+    public void evictPrincipal(User user) {
+        userPrincipalCache.invalidate(user.getEmail());
+    }
+}
@@ -0,0 +1,40 @@
+package com.study.moneygo.user.executor;
+
+import com.study.moneygo.user.service.FailedAttemptService;
+import com.study.moneygo.util.security.AttemptThrottle;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FailedAttemptFlushExecutor {
+
+    private final FailedAttemptService failedAttemptService;
+    private final AttemptThrottle attemptThrottle;
+
+    // 모아 둔 로그인 / 간편 비밀번호 실패 횟수를 users 테이블에 반영 (기본 5초)
+    @Scheduled(fixedDelayString = "${moneygo.security.failed-attempt.flush-interval-ms:5000}")
+    public void flushFailedAttempts() {
+        try {
+            int flushed = failedAttemptService.flush();
+            if (flushed > 0) {
+                log.debug("실패 횟수 반영: {}명", flushed);
+            }
+        } catch (Exception e) {
+            log.error("실패 횟수 반영 중 오류 발생", e);
+        }
+    }
+
+    // 사용되지 않는 시도 제한 윈도우 정리 (기본 1분)
+    @Scheduled(fixedDelayString = "${moneygo.security.throttle.evict-interval-ms:60000}")
+    public void evictIdleWindows() {
+        try {
+            attemptThrottle.evictIdle();
+        } catch (Exception e) {
+            log.error("시도 제한 윈도우 정리 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.study.moneygo.user.executor;
+
+import com.study.moneygo.user.service.TokenRevocationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationRefreshExecutor {
+
+    private final TokenRevocationService tokenRevocationService;
+
+    // 다른 서버에서 기록한 토큰 폐기 기준 반영 (기본 5초)
+    @Scheduled(fixedDelayString = "${moneygo.security.token-revocation.refresh-interval-ms:5000}")
+    public void refreshRevocations() {
+        try {
+            int applied = tokenRevocationService.refresh();
+            if (applied > 0) {
+                log.debug("토큰 폐기 기준 반영: {}건", applied);
+            }
+        } catch (Exception e) {
+            log.error("토큰 폐기 기준 반영 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.study.moneygo.user.repository;
+
+import com.study.moneygo.user.entity.TokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Long> {
+
+    // 다른 서버에서 새로 기록된 폐기 기준만 조회
+    List<TokenRevocation> findByRevokedBeforeGreaterThan(Long revokedBefore);
+}
@@ -2,6 +2,9 @@ package com.study.moneygo.user.repository;
 
 import com.study.moneygo.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,5 +14,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
 
+    @Query("SELECT u.id FROM User u WHERE u.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+
     boolean existsByEmail(String email);
+
+    // 실패 횟수가 있을 때만 초기화 (성공 로그인마다 행을 쓰지 않도록)
+    @Modifying
+    @Query("UPDATE User u SET u.failedLoginAttempts = 0 WHERE u.id = :id AND u.failedLoginAttempts <> 0")
+    int resetFailedLoginAttemptsIfNeeded(@Param("id") Long id);
 }
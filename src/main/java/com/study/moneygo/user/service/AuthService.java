@@ -12,21 +12,24 @@ import com.study.moneygo.user.dto.response.SignupResponse;
 import com.study.moneygo.user.entity.User;
 import com.study.moneygo.user.repository.UserRepository;
 import com.study.moneygo.util.account.AccountNumberGenerator;
+import com.study.moneygo.util.security.AttemptThrottle;
+import com.study.moneygo.util.security.AuthenticatedUser;
 import com.study.moneygo.util.security.JwtTokenProvider;
-import com.sun.nio.sctp.IllegalReceiveException;
+import com.study.moneygo.util.security.SimplePasswordEncoder;
+import com.study.moneygo.util.security.UserPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.util.Collections;
 
 @Slf4j
 @Service
@@ -36,8 +39,13 @@ public class AuthService {
     private final UserRepository userRepository;
     private final AccountRepository accountRepository;
     private final PasswordEncoder passwordEncoder;
+    private final SimplePasswordEncoder simplePasswordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
-    private final AuthenticationManager authenticationManager;
+    private final TransactionTemplate transactionTemplate;
+    private final UserPrincipalCache userPrincipalCache;
+    private final AttemptThrottle attemptThrottle;
+    private final FailedAttemptService failedAttemptService;
+    private final TokenRevocationService tokenRevocationService;
 
 
     @Transactional
@@ -78,65 +86,81 @@ public class AuthService {
         );
     }
 
-    @Transactional
+    /**
+     * 로그인
+     * 계좌 + 사용자를 한 번에 조회한 뒤 이미 읽은 해시로 비밀번호를 확인한다.
+     * 사용자 행은 실패 횟수가 실제로 바뀔 때만 쓴다.
+     */
     public LoginResponse login(LoginRequest request) {
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new IllegalArgumentException("해당 계정을 찾을 수 없습니다."));
+        // 이메일 기준 실패 횟수 초과면 조회, BCrypt 비교 전에 거절 (IP 기준은 실패 시 recordFailure에서)
+        attemptThrottle.checkAllowed(AttemptThrottle.LOGIN, request.getEmail());
+
+        Account account = accountRepository.findWithUserByEmail(request.getEmail()).orElse(null);
+        if (account == null) {
+            attemptThrottle.recordFailure(AttemptThrottle.LOGIN, request.getEmail());
+            throw new IllegalArgumentException("해당 계정을 찾을 수 없습니다.");
+        }
+        User user = account.getUser();
+
         // 계정 Lock 체크
         if (user.getStatus() == User.UserStatus.LOCKED) {
             throw new IllegalArgumentException("계정이 잠겨있습니다. 관리자에게 문의하세요.");
         }
+        if (!user.isActive()) {
+            throw new IllegalArgumentException("사용할 수 없는 계정입니다.");
+        }
 
-        try {
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            request.getEmail(),
-                            request.getPassword()
-                    )
-            );
-            // 로그인 성공하면 failedAttempts 초기화 해주기
-            resetFailedAttempts(user.getId());
-
-            String token = jwtTokenProvider.generateToken(authentication);
-            Long expiresIn = jwtTokenProvider.getExpirationTime();
-
-            // 계좌 정보 조회하기
-            Account account = accountRepository.findByUserId(user.getId())
-                    .orElseThrow(() -> new IllegalStateException("계좌 정보를 찾을 수 없습니다."));
-
-            return LoginResponse.of(
-                    token,
-                    expiresIn,
-                    user.getId(),
-                    user.getEmail(),
-                    user.getName(),
-                    account.getAccountNumber()
-            );
-        } catch (BadCredentialsException e) {
-            // 로그인 로직에 실패했으니 failedAttempts 카운트 증가
-            incrementFailedAttempts(user.getId());
-
-            System.out.println("===== 로그인 실패 : " + user.getEmail() + " , 실패 횟수 : " + user.getFailedLoginAttempts() + " =====");
+        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+            // 로그인 실패했으니 failedAttempts 카운트 증가 (모아서 반영, 잠금 기준 도달 시 즉시 반영)
+            int failedAttempts = failedAttemptService.recordLoginFailure(user);
+            log.info("로그인 실패: userId={}, 실패 횟수={}", user.getId(), failedAttempts);
+            attemptThrottle.recordFailure(AttemptThrottle.LOGIN, request.getEmail());
             throw new IllegalArgumentException("이메일 또는 비밀번호가 올바르지 않습니다.");
         }
-    }
 
-    @Transactional
-    public void incrementFailedAttempts(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalReceiveException("사용자를 찾을 수 없습니다."));
-        user.incrementFailedAttempts();
-        userRepository.save(user);
+        // 로그인 성공하면 failedAttempts 초기화 (0이 아닐 때만 UPDATE)
+        attemptThrottle.clear(AttemptThrottle.LOGIN, request.getEmail());
+        failedAttemptService.clearLoginFailures(user.getId());
+        if (user.getFailedLoginAttemptCount() != 0) {
+            transactionTemplate.executeWithoutResult(status -> userRepository.resetFailedLoginAttemptsIfNeeded(user.getId()));
+        }
+
+        // 예전 설정(알고리즘 / 비용)으로 저장된 해시면 새 설정으로 다시 해시
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            rehashPassword(user.getId(), request.getPassword());
+        }
 
-        System.out.println("===== 로그인 실패 : "+ user.getEmail() + ", 실패 횟수 : " + user.getFailedLoginAttempts() + ", 상태 : " + user.getStatus() + " =====");
+        AuthenticatedUser principal = new AuthenticatedUser(
+                user.getId(),
+                account.getId(),
+                user.getEmail(),
+                user.getPassword(),
+                true,
+                true,
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
+        );
+        Authentication authentication = UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, principal.getAuthorities());
+
+        // 사용자 ID / 계좌 ID를 claim으로 넣어 이후 요청에서 다시 조회하지 않도록 함
+        String token = jwtTokenProvider.generateToken(authentication, account.getId());
+        Long expiresIn = jwtTokenProvider.getExpirationTime();
+
+        return LoginResponse.of(
+                token,
+                expiresIn,
+                user.getId(),
+                user.getEmail(),
+                user.getName(),
+                account.getAccountNumber()
+        );
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void resetFailedAttempts(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        user.resetFailedAttempts();
-        userRepository.save(user);
+    private void rehashPassword(Long userId, String rawPassword) {
+        String encodedPassword = passwordEncoder.encode(rawPassword);
+        transactionTemplate.executeWithoutResult(status -> userRepository.findById(userId)
+                .ifPresent(user -> user.updatePassword(encodedPassword)));
+        log.info("비밀번호 해시 갱신: userId={}", userId);
     }
 
     /**
@@ -152,6 +176,9 @@ public class AuthService {
 
         user.updatePassword(passwordEncoder.encode(request.getNewPassword()));
         userRepository.save(user);
+        userPrincipalCache.invalidate(user.getEmail());
+        // 기존에 발급된 토큰 모두 무효화
+        tokenRevocationService.revokeAll(user.getId(), TokenRevocationService.PASSWORD_CHANGED);
 
         log.info("비밀번호 변경 완료: userId={}", user.getId());
     }
@@ -167,11 +194,13 @@ public class AuthService {
             throw new IllegalArgumentException("간편 비밀번호가 등록되어 있지 않습니다.");
         }
 
-        validateCurrentPassword(request.getCurrentSimplePassword(), user.getSimplePassword());
+        if (!simplePasswordEncoder.matches(request.getCurrentSimplePassword(), user.getSimplePassword())) {
+            throw new IllegalArgumentException("현재 비밀번호가 일치하지 않습니다.");
+        }
         validateNewPasswordMatch(request.getNewSimplePassword(), request.getNewSimplePasswordConfirm());
         validatePasswordNotSame(request.getCurrentSimplePassword(), request.getNewSimplePassword());
 
-        user.setSimplePassword(passwordEncoder.encode(request.getNewSimplePassword()));
+        user.setSimplePassword(simplePasswordEncoder.encode(request.getNewSimplePassword()));
         userRepository.save(user);
 
         log.info("간편 비밀번호 변경 완료: userId={}", user.getId());
@@ -195,6 +224,7 @@ public class AuthService {
         // 사용자 계정 정지
         user.deactivate();
         userRepository.save(user);
+        tokenRevocationService.revokeAll(user.getId(), TokenRevocationService.ACCOUNT_DELETED);
 
         log.info("계정 탈퇴 완료: userId={}, reason={}", user.getId(), request.getReason());
     }
@@ -0,0 +1,142 @@
+package com.study.moneygo.user.service;
+
+import com.study.moneygo.user.entity.User;
+import com.study.moneygo.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그인 / 간편 비밀번호 실패 횟수 집계
+ * 실패마다 users 행을 쓰지 않고 메모리에 모았다가 주기적으로 한 번에 반영한다.
+ * 단, 누적 실패가 잠금 기준에 도달하면 계정 잠금이 늦어지지 않도록 바로 반영한다.
+ *
+ * 반영은 항상 새 트랜잭션에서 하므로, 호출한 쪽이 예외로 롤백돼도 실패 횟수는 남는다.
+ */
+@Slf4j
+@Service
+public class FailedAttemptService {
+
+    private final UserRepository userRepository;
+    private final TokenRevocationService tokenRevocationService;
+    private final TransactionTemplate requiresNewTemplate;
+
+    // 사용자 ID -> 반영 대기 실패 횟수 (merge / remove가 키 단위로 원자적이라 반영 중 들어온 실패도 사라지지 않음)
+    private final Map<Long, Integer> pendingLoginFailures = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> pendingSimplePasswordFailures = new ConcurrentHashMap<>();
+
+    public FailedAttemptService(UserRepository userRepository, TokenRevocationService tokenRevocationService,
+                                PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.tokenRevocationService = tokenRevocationService;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 로그인 실패 기록
+     * @param user 실패한 사용자 (조회 시점의 실패 횟수 사용)
+     * @return 반영 대기분을 포함한 누적 실패 횟수
+     */
+    public int recordLoginFailure(User user) {
+        int pending = pendingLoginFailures.merge(user.getId(), 1, Integer::sum);
+        int failedAttempts = user.getFailedLoginAttemptCount() + pending;
+        if (failedAttempts >= User.MAX_FAILED_LOGIN_ATTEMPTS) {
+            flushUser(user.getId());
+        }
+        return failedAttempts;
+    }
+
+    /**
+     * 간편 비밀번호 실패 기록
+     * @param user 실패한 사용자 (조회 시점의 실패 횟수 사용)
+     * @return 반영 대기분을 포함한 누적 실패 횟수
+     */
+    public int recordSimplePasswordFailure(User user) {
+        int pending = pendingSimplePasswordFailures.merge(user.getId(), 1, Integer::sum);
+        int failedAttempts = user.getFailedSimplePasswordAttemptCount() + pending;
+        if (failedAttempts >= User.MAX_FAILED_SIMPLE_PASSWORD_ATTEMPTS) {
+            flushUser(user.getId());
+        }
+        return failedAttempts;
+    }
+
+    /**
+     * 성공 시 반영 대기 중인 실패 기록 폐기 (DB 값 초기화는 호출한 쪽에서 처리)
+     */
+    public void clearLoginFailures(Long userId) {
+        pendingLoginFailures.remove(userId);
+    }
+
+    public void clearSimplePasswordFailures(Long userId) {
+        pendingSimplePasswordFailures.remove(userId);
+    }
+
+    /**
+     * 반영 대기 중인 실패 횟수를 모두 DB에 반영
+     * @return 반영한 사용자 수
+     */
+    public int flush() {
+        Set<Long> userIds = new HashSet<>(pendingLoginFailures.keySet());
+        userIds.addAll(pendingSimplePasswordFailures.keySet());
+
+        int flushed = 0;
+        for (Long userId : userIds) {
+            try {
+                flushUser(userId);
+                flushed++;
+            } catch (RuntimeException e) {
+                log.error("실패 횟수 반영 실패: userId={}, error={}", userId, e.getMessage(), e);
+            }
+        }
+        return flushed;
+    }
+
+    private void flushUser(Long userId) {
+        int loginFailures = drain(pendingLoginFailures, userId);
+        int simplePasswordFailures = drain(pendingSimplePasswordFailures, userId);
+        if (loginFailures == 0 && simplePasswordFailures == 0) {
+            return;
+        }
+
+        try {
+            requiresNewTemplate.executeWithoutResult(status -> userRepository.findById(userId).ifPresent(user -> {
+                boolean wasLocked = user.getStatus() == User.UserStatus.LOCKED;
+                for (int i = 0; i < loginFailures; i++) {
+                    user.incrementFailedAttempts();
+                }
+                for (int i = 0; i < simplePasswordFailures; i++) {
+                    user.incrementFailedSimplePasswordAttempts();
+                }
+                log.info("실패 횟수 반영: userId={}, 로그인 실패={}, 간편 비밀번호 실패={}, 상태={}",
+                        userId, user.getFailedLoginAttempts(), user.getFailedSimplePasswordAttempts(), user.getStatus());
+
+                // 이번 반영으로 잠긴 경우 이미 발급된 토큰도 무효화
+                if (!wasLocked && user.getStatus() == User.UserStatus.LOCKED) {
+                    tokenRevocationService.revokeAll(userId, TokenRevocationService.ACCOUNT_LOCKED);
+                }
+            }));
+        } catch (RuntimeException e) {
+            // 반영 실패분은 다음 주기에 다시 시도
+            if (loginFailures > 0) {
+                pendingLoginFailures.merge(userId, loginFailures, Integer::sum);
+            }
+            if (simplePasswordFailures > 0) {
+                pendingSimplePasswordFailures.merge(userId, simplePasswordFailures, Integer::sum);
+            }
+            throw e;
+        }
+    }
+
+    private static int drain(Map<Long, Integer> pending, Long userId) {
+        Integer count = pending.remove(userId);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,111 @@
+package com.study.moneygo.user.service;
+
+import com.study.moneygo.user.entity.TokenRevocation;
+import com.study.moneygo.user.repository.TokenRevocationRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JWT 폐기 (사용자별 "이 시각 이전에 발급된 토큰은 무효" 기준)
+ * 기준 시각은 token_revocations 테이블에 저장하고 메모리 맵에 올려 두어,
+ * JwtAuthenticationFilter가 요청마다 DB 조회 없이 O(1)로 확인한다.
+ * 다른 서버에서 기록한 폐기는 refresh()로 주기적으로 가져온다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    // reason
+    public static final String PASSWORD_CHANGED = "PASSWORD_CHANGED";
+    public static final String ACCOUNT_LOCKED = "ACCOUNT_LOCKED";
+    public static final String ACCOUNT_DELETED = "ACCOUNT_DELETED";
+
+    // 커밋 지연 / 서버 간 시계 차이로 늦게 보이는 기록을 놓치지 않도록 겹쳐서 조회
+    private static final long REFRESH_OVERLAP_MILLIS = 60_000L;
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+
+    private final Map<Long, Long> revokedBefore = new ConcurrentHashMap<>();
+    private volatile long lastSeenRevokedBefore = 0L;
+
+    @PostConstruct
+    public void loadAll() {
+        refresh();
+        log.info("토큰 폐기 기준 로드: {}명", revokedBefore.size());
+    }
+
+    /**
+     * 사용자의 현재까지 발급된 토큰을 모두 폐기
+     * JWT iat은 초 단위라서 기준을 다음 초로 올린다. (같은 초에 새로 발급된 토큰도 무효, 1초 뒤 재로그인 필요)
+     */
+    @Transactional
+    public void revokeAll(Long userId, String reason) {
+        long watermark = (System.currentTimeMillis() / 1000 + 1) * 1000;
+
+        TokenRevocation revocation = tokenRevocationRepository.findById(userId)
+                .orElseGet(() -> TokenRevocation.builder()
+                        .userId(userId)
+                        .revokedBefore(watermark)
+                        .reason(reason)
+                        .build());
+        revocation.moveTo(watermark, reason);
+        tokenRevocationRepository.save(revocation);
+
+        // 커밋된 뒤에 메모리 반영 (롤백되면 폐기하지 않음)
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(userId, revocation.getRevokedBefore());
+                }
+            });
+        } else {
+            apply(userId, revocation.getRevokedBefore());
+        }
+        log.info("토큰 폐기: userId={}, reason={}", userId, reason);
+    }
+
+    /**
+     * @param userId 토큰의 사용자 ID (uid claim)
+     * @param issuedAt 토큰 발급 시각 (iat claim)
+     */
+    public boolean isRevoked(Long userId, Date issuedAt) {
+        Long watermark = revokedBefore.get(userId);
+        if (watermark == null) {
+            return false;
+        }
+        return issuedAt == null || issuedAt.getTime() < watermark;
+    }
+
+    /**
+     * 마지막으로 본 기준(여유 1분) 이후에 기록된 폐기만 가져와 메모리에 반영
+     * @return 반영한 건수
+     */
+    @Transactional(readOnly = true)
+    public int refresh() {
+        int applied = 0;
+        long since = lastSeenRevokedBefore == 0L ? 0L : lastSeenRevokedBefore - REFRESH_OVERLAP_MILLIS;
+        for (TokenRevocation revocation : tokenRevocationRepository.findByRevokedBeforeGreaterThan(since)) {
+            apply(revocation.getUserId(), revocation.getRevokedBefore());
+            applied++;
+        }
+        return applied;
+    }
+
+    private void apply(Long userId, long watermark) {
+        revokedBefore.merge(userId, watermark, Math::max);
+        if (watermark > lastSeenRevokedBefore) {
+            lastSeenRevokedBefore = watermark;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.study.moneygo.util.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * 전체 건수 없는 페이지 응답 (무한 스크롤용)
+ * size + 1건만 조회해서 다음 페이지 여부를 판단하므로 COUNT 쿼리가 없다.
+ */
+@Getter
+@AllArgsConstructor
+public class SliceResponse<T> {
+
+    private List<T> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+
+    public static <T> SliceResponse<T> of(Slice<T> slice) {
+        return new SliceResponse<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext());
+    }
+}
@@ -0,0 +1,145 @@
+package com.study.moneygo.util.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 기반 중복 요청 처리
+ * 1. 최근 완료된 응답은 메모리 캐시(LRU)에서 바로 반환
+ * 2. 같은 키로 처리 중인 요청이 있으면 새로 실행하지 않고 그 결과를 기다림
+ * 3. 캐시에 없으면 DB(Transaction.idempotencyKey)에서 원래 거래를 찾아 응답을 재구성
+ * 1, 2는 요청 내용(fingerprint)이 원래 요청과 같을 때만 재사용한다. (3은 replay에서 같은 기준으로 확인)
+ */
+@Slf4j
+@Component
+public class IdempotentRequestExecutor {
+
+    public static final int MAX_KEY_LENGTH = 64;
+    public static final String KEY_REUSED_MESSAGE = "이미 다른 요청에 사용된 Idempotency-Key입니다.";
+
+    private final Map<String, CompletedResponse> completedResponses;
+    private final Map<String, InFlightRequest> inFlightRequests = new ConcurrentHashMap<>();
+    private final long inFlightWaitMillis;
+
+    public IdempotentRequestExecutor(
+            @Value("${moneygo.idempotency.cache-size:10000}") int cacheSize,
+            @Value("${moneygo.idempotency.in-flight-wait-ms:30000}") long inFlightWaitMillis
+    ) {
+        this.completedResponses = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompletedResponse> eldest) {
+                return size() > cacheSize;
+            }
+        });
+        this.inFlightWaitMillis = inFlightWaitMillis;
+    }
+
+    /**
+     * 클라이언트 키를 사용자 단위로 구분된 저장용 키로 변환
+     * (다른 사용자가 같은 키를 보내도 서로의 응답을 받지 않도록)
+     */
+    public static String toStoredKey(Long userId, String clientKey) {
+        if (clientKey.isBlank() || clientKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+        }
+        return userId + ":" + clientKey;
+    }
+
+    /**
+     * @param cacheKey 요청 종류 + 저장용 키
+     * @param responseType 응답 타입
+     * @param fingerprint 요청 내용 (받는 계좌 + 금액, QR 코드 등). 같은 키에 다른 내용이면 거절
+     * @param replay DB에서 원래 응답을 재구성 (계좌 Lock 없이 조회만)
+     * @param action 실제 처리
+     */
+    public <T> T execute(String cacheKey, Class<T> responseType, String fingerprint,
+                         Supplier<Optional<T>> replay, Supplier<T> action) {
+        CompletedResponse cached = completedResponses.get(cacheKey);
+        if (cached != null) {
+            checkSameRequest(cached.getFingerprint(), fingerprint);
+            log.info("중복 요청 캐시 응답 반환: key={}", cacheKey);
+            return responseType.cast(cached.getResponse());
+        }
+
+        InFlightRequest request = new InFlightRequest(fingerprint, new CompletableFuture<>());
+        InFlightRequest inFlight = inFlightRequests.putIfAbsent(cacheKey, request);
+        if (inFlight != null) {
+            checkSameRequest(inFlight.getFingerprint(), fingerprint);
+            log.info("처리 중인 동일 요청 결과 대기: key={}", cacheKey);
+            return responseType.cast(await(inFlight.getFuture()));
+        }
+
+        try {
+            T response = replay.get().orElseGet(() -> runOrReplay(replay, action));
+            completedResponses.put(cacheKey, new CompletedResponse(fingerprint, response));
+            request.getFuture().complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            request.getFuture().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRequests.remove(cacheKey, request);
+        }
+    }
+
+    private void checkSameRequest(String original, String fingerprint) {
+        if (!original.equals(fingerprint)) {
+            throw new IllegalArgumentException(KEY_REUSED_MESSAGE);
+        }
+    }
+
+    /**
+     * 다른 서버에서 같은 키가 먼저 커밋된 경우 (unique 제약 위반 등) 원래 응답으로 대체
+     */
+    private <T> T runOrReplay(Supplier<Optional<T>> replay, Supplier<T> action) {
+        try {
+            return action.get();
+        } catch (RuntimeException e) {
+            return replay.get().orElseThrow(() -> e);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.get(inFlightWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("요청 처리 중 오류가 발생했습니다.", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("동일한 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("요청 처리가 중단되었습니다.");
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class CompletedResponse {
+        private final String fingerprint;
+        private final Object response;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class InFlightRequest {
+        private final String fingerprint;
+        private final CompletableFuture<Object> future;
+    }
+}
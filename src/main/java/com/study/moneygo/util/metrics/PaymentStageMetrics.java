@@ -0,0 +1,125 @@
+package com.study.moneygo.util.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 송금 / QR 결제 단계별 소요 시간 측정
+ * moneygo.payment.stage{flow, stage, outcome} 타이머로 기록되고 관리 포트의 /actuator/prometheus 로 노출된다.
+ *
+ * outcome
+ * - success : 정상 처리
+ * - rejected : 비즈니스 검증 실패 (IllegalArgumentException / IllegalStateException)
+ * - error : 그 외 예외, 커밋 실패(롤백)
+ */
+@Component
+public class PaymentStageMetrics {
+
+    public static final String METRIC_NAME = "moneygo.payment.stage";
+
+    // flow
+    public static final String TRANSFER = "transfer";
+    public static final String QR_PAYMENT = "qr_payment";
+    public static final String BATCH_TRANSFER = "batch_transfer";
+
+    // stage
+    public static final String TOTAL = "total";
+    public static final String USER_LOOKUP = "user_lookup";
+    public static final String SERIALIZER_WAIT = "serializer_wait";
+    public static final String ACCOUNT_LOCK = "account_lock";
+    public static final String SIMPLE_PASSWORD = "simple_password";
+    public static final String TRANSFER_LIMIT = "transfer_limit";
+    public static final String NOTIFICATION = "notification";
+    public static final String COMMIT = "commit";
+
+    private static final String SUCCESS = "success";
+    private static final String REJECTED = "rejected";
+    private static final String ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+
+    public PaymentStageMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T record(String flow, String stage, Supplier<T> action) {
+        long startedAt = System.nanoTime();
+        String outcome = ERROR;
+        try {
+            T result = action.get();
+            outcome = SUCCESS;
+            return result;
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            outcome = REJECTED;
+            throw e;
+        } finally {
+            recordSince(flow, stage, outcome, startedAt);
+        }
+    }
+
+    public void record(String flow, String stage, Runnable action) {
+        record(flow, stage, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * startedAt(System.nanoTime) 부터 지금까지를 성공으로 기록 (대기 시간 등)
+     */
+    public void recordSince(String flow, String stage, long startedAt) {
+        recordSince(flow, stage, SUCCESS, startedAt);
+    }
+
+    /**
+     * 현재 트랜잭션의 커밋 (flush + COMMIT) 소요 시간 기록
+     * 다른 beforeCommit 콜백이 끝난 뒤부터 재도록 가장 마지막 순서로 등록한다.
+     */
+    public void recordCommit(String flow) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean committing;
+            private long startedAt;
+
+            @Override
+            public int getOrder() {
+                return Ordered.LOWEST_PRECEDENCE;
+            }
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                committing = true;
+                startedAt = System.nanoTime();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                // beforeCommit 전에 롤백된 경우는 커밋 단계가 아님
+                if (!committing) {
+                    return;
+                }
+                recordSince(flow, COMMIT, status == STATUS_COMMITTED ? SUCCESS : ERROR, startedAt);
+            }
+        });
+    }
+
+    private void recordSince(String flow, String stage, String outcome, long startedAt) {
+        Timer.builder(METRIC_NAME)
+                .description("송금 / QR 결제 단계별 소요 시간")
+                .tag("flow", flow)
+                .tag("stage", stage)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,262 @@
+package com.study.moneygo.util.security;
+
+import com.study.moneygo.exception.TooManyAttemptsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * 로그인 / 간편 비밀번호 실패 횟수 제한 (메모리, 슬라이딩 윈도우)
+ * 대상(이메일 또는 사용자 ID) 기준 최근 실패 횟수가 한도를 넘으면 BCrypt 비교(PasswordEncoder.matches) 전에 429로 거절한다.
+ *
+ * 클라이언트 IP 기준 한도는 실패에만 적용한다 (recordFailure에서 429).
+ * 같은 NAT / 프록시 뒤의 다른 사용자는 실패가 쌓여도 올바른 비밀번호로는 계속 로그인할 수 있다.
+ * IP는 trusted-proxies에 등록된 프록시에서 온 요청일 때만 X-Forwarded-For에서 꺼낸다.
+ *
+ * 윈도우는 고정 크기 시간 버킷 배열이며, 버킷마다 (버킷 번호, 횟수)를 long 하나에 담아 CAS로 갱신한다.
+ * 오래 사용되지 않은 윈도우는 evictIdle()로 정리한다.
+ */
+@Slf4j
+@Component
+public class AttemptThrottle {
+
+    // action
+    public static final String LOGIN = "login";
+    public static final String SIMPLE_PASSWORD = "simple_password";
+
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
+    private final Map<String, SlidingWindow> windows = new ConcurrentHashMap<>();
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final int maxFailuresPerSubject;
+    private final int maxFailuresPerIp;
+    private final Set<String> trustedProxies;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier clock;
+
+    @Autowired
+    public AttemptThrottle(
+            MeterRegistry meterRegistry,
+            @Value("${moneygo.security.throttle.window-ms:60000}") long windowMillis,
+            @Value("${moneygo.security.throttle.bucket-count:6}") int bucketCount,
+            @Value("${moneygo.security.throttle.max-failures-per-subject:5}") int maxFailuresPerSubject,
+            @Value("${moneygo.security.throttle.max-failures-per-ip:30}") int maxFailuresPerIp,
+            @Value("${moneygo.security.throttle.trusted-proxies:}") List<String> trustedProxies
+    ) {
+        this(meterRegistry, windowMillis, bucketCount, maxFailuresPerSubject, maxFailuresPerIp, trustedProxies,
+                System::currentTimeMillis);
+    }
+
+    /**
+     * @param maxFailuresPerIp 0 이하면 IP 기준 제한을 쓰지 않음
+     * @param trustedProxies X-Forwarded-For를 믿을 프록시 주소 (비어 있으면 항상 접속 주소 사용)
+     * @param clock 현재 시각 (ms)
+     */
+    AttemptThrottle(MeterRegistry meterRegistry, long windowMillis, int bucketCount,
+                    int maxFailuresPerSubject, int maxFailuresPerIp, List<String> trustedProxies, LongSupplier clock) {
+        this.meterRegistry = meterRegistry;
+        this.bucketCount = bucketCount;
+        this.bucketMillis = Math.max(1, windowMillis / bucketCount);
+        this.maxFailuresPerSubject = maxFailuresPerSubject;
+        this.maxFailuresPerIp = maxFailuresPerIp;
+        this.trustedProxies = trustedProxies.stream()
+                .map(String::trim)
+                .filter(proxy -> !proxy.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        this.clock = clock;
+        meterRegistry.gauge("moneygo.security.throttle.windows", windows, Map::size);
+    }
+
+    /**
+     * 시도 가능 여부 확인 (비밀번호 비교 전에 호출)
+     * @param action LOGIN / SIMPLE_PASSWORD
+     * @param subject 이메일 또는 사용자 ID
+     */
+    public void checkAllowed(String action, String subject) {
+        if (failuresOf(subjectKey(action, subject), currentEpoch()) >= maxFailuresPerSubject) {
+            reject(action, "subject");
+        }
+    }
+
+    /**
+     * 실패 기록
+     * 클라이언트 IP의 실패가 한도를 넘으면 429로 거절한다 (실패 처리를 모두 끝낸 뒤 호출할 것).
+     */
+    public void recordFailure(String action, String subject) {
+        long epoch = currentEpoch();
+        increment(subjectKey(action, subject), epoch);
+        if (maxFailuresPerIp <= 0) {
+            return;
+        }
+        String clientIp = currentClientIp();
+        if (clientIp != null && increment(ipKey(action, clientIp), epoch) > maxFailuresPerIp) {
+            reject(action, "ip");
+        }
+    }
+
+    /**
+     * 성공 시 대상 기준 실패 기록 삭제 (IP 기준 기록은 유지)
+     */
+    public void clear(String action, String subject) {
+        windows.remove(subjectKey(action, subject));
+    }
+
+    /**
+     * 윈도우 전체가 지난 항목 정리
+     * 기록 중인 윈도우가 지워지지 않도록 키 단위로 increment()와 같은 잠금 안에서 확인 후 삭제한다.
+     * @return 정리된 항목 수
+     */
+    public int evictIdle() {
+        long epoch = currentEpoch();
+        int evicted = 0;
+        for (String key : windows.keySet()) {
+            boolean[] removed = new boolean[1];
+            windows.computeIfPresent(key, (k, window) -> {
+                removed[0] = window.isIdle(epoch, bucketCount);
+                return removed[0] ? null : window;
+            });
+            if (removed[0]) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * 요청한 클라이언트 IP
+     * 접속 주소가 신뢰하는 프록시일 때만 X-Forwarded-For를 오른쪽부터 읽어 처음 나오는 신뢰하지 않는 주소를 쓴다.
+     */
+    String clientIpOf(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!trustedProxies.contains(remoteAddr)) {
+            return remoteAddr;
+        }
+        String forwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+        if (forwardedFor == null || forwardedFor.isBlank()) {
+            return remoteAddr;
+        }
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!hop.isEmpty() && !trustedProxies.contains(hop)) {
+                return hop;
+            }
+        }
+        return hops[0].trim().isEmpty() ? remoteAddr : hops[0].trim();
+    }
+
+    private void reject(String action, String key) {
+        Counter.builder("moneygo.security.throttle.rejected")
+                .description("시도 횟수 초과로 거절된 요청")
+                .tag("action", action)
+                .tag("key", key)
+                .register(meterRegistry)
+                .increment();
+        long retryAfterSeconds = Math.max(1, bucketMillis * bucketCount / 1000);
+        throw new TooManyAttemptsException("시도 횟수가 너무 많습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+    }
+
+    private int failuresOf(String key, long epoch) {
+        SlidingWindow window = windows.get(key);
+        return window == null ? 0 : window.sum(epoch, bucketCount);
+    }
+
+    /**
+     * 실패 1건 기록 후 윈도우 안의 실패 횟수 반환
+     * evictIdle()과 겹쳐도 기록이 사라지지 않도록 compute 안에서 증가시킨다.
+     */
+    private int increment(String key, long epoch) {
+        int[] total = new int[1];
+        windows.compute(key, (k, window) -> {
+            SlidingWindow target = window != null ? window : new SlidingWindow(bucketCount);
+            target.increment(epoch);
+            total[0] = target.sum(epoch, bucketCount);
+            return target;
+        });
+        return total[0];
+    }
+
+    private long currentEpoch() {
+        return clock.getAsLong() / bucketMillis;
+    }
+
+    private static String subjectKey(String action, String subject) {
+        return action + ":s:" + subject;
+    }
+
+    private static String ipKey(String action, String clientIp) {
+        return action + ":ip:" + clientIp;
+    }
+
+    private String currentClientIp() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletRequestAttributes) {
+            return clientIpOf(servletRequestAttributes.getRequest());
+        }
+        return null; // 요청 스레드가 아닌 경우 (스케줄러 등)
+    }
+
+    /**
+     * 시간 버킷 링 버퍼
+     * 버킷마다 (버킷 번호 << COUNT_BITS | 횟수)를 long 하나로 저장하므로
+     * "다른 번호면 0부터 다시 세기"와 "횟수 증가"가 한 번의 CAS로 처리되어 경계에서도 실패가 사라지지 않는다.
+     */
+    static class SlidingWindow {
+        private static final int COUNT_BITS = 20;
+        private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+        private final AtomicLongArray buckets;
+        private volatile long lastEpoch;
+
+        SlidingWindow(int bucketCount) {
+            this.buckets = new AtomicLongArray(bucketCount);
+        }
+
+        void increment(long epoch) {
+            int index = (int) (epoch % buckets.length());
+            while (true) {
+                long current = buckets.get(index);
+                long seen = current >>> COUNT_BITS;
+                // 시계가 되돌아간 경우에도 더 최근 버킷에 더해 한도 쪽으로 기록 (fail closed)
+                long bucketEpoch = Math.max(seen, epoch);
+                long count = seen == bucketEpoch ? current & COUNT_MASK : 0;
+                long next = (bucketEpoch << COUNT_BITS) | Math.min(count + 1, COUNT_MASK);
+                if (buckets.compareAndSet(index, current, next)) {
+                    break;
+                }
+            }
+            lastEpoch = Math.max(lastEpoch, epoch);
+        }
+
+        int sum(long epoch, int bucketCount) {
+            int total = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                long bucket = buckets.get(i);
+                if ((bucket >>> COUNT_BITS) > epoch - bucketCount) {
+                    total += (int) (bucket & COUNT_MASK);
+                }
+            }
+            return total;
+        }
+
+        boolean isIdle(long epoch, int bucketCount) {
+            return lastEpoch <= epoch - bucketCount;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.study.moneygo.util.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+
+/**
+ * 인증된 사용자 (SecurityContext principal)
+ * 로그인 시 JWT claim(uid, aid)에 넣어 둔 사용자 ID / 계좌 ID를 함께 들고 다녀서
+ * 서비스에서 매번 이메일로 사용자 / 계좌를 다시 조회하지 않도록 한다.
+ */
+@Getter
+public class AuthenticatedUser implements UserDetails {
+
+    private final Long userId;
+    private final Long accountId; // 토큰에 aid claim이 없으면 null
+    private final String email;
+    private final String password;
+    private final boolean enabled;
+    private final boolean accountNonLocked;
+    private final Collection<? extends GrantedAuthority> authorities;
+
+    public AuthenticatedUser(Long userId, Long accountId, String email, String password,
+                             boolean enabled, boolean accountNonLocked,
+                             Collection<? extends GrantedAuthority> authorities) {
+        this.userId = userId;
+        this.accountId = accountId;
+        this.email = email;
+        this.password = password;
+        this.enabled = enabled;
+        this.accountNonLocked = accountNonLocked;
+        this.authorities = authorities;
+    }
+
+    /**
+     * 토큰의 계좌 ID를 붙인 복사본 (캐시된 원본은 그대로 둠)
+     */
+    public AuthenticatedUser withAccountId(Long accountId) {
+        return new AuthenticatedUser(userId, accountId, email, password, enabled, accountNonLocked, authorities);
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
@@ -0,0 +1,59 @@
+package com.study.moneygo.util.security;
+
+import com.study.moneygo.account.repository.AccountRepository;
+import com.study.moneygo.user.entity.User;
+import com.study.moneygo.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재 요청의 인증 사용자 정보
+ * JwtAuthenticationFilter가 SecurityContext에 넣어 둔 AuthenticatedUser에서 ID를 바로 꺼내고,
+ * 엔티티가 실제로 필요할 때만 DB에서 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserContext {
+
+    private final UserRepository userRepository;
+    private final AccountRepository accountRepository;
+
+    public String getEmail() {
+        return getAuthentication().getName();
+    }
+
+    public Long getUserId() {
+        if (getAuthentication().getPrincipal() instanceof AuthenticatedUser authenticatedUser) {
+            return authenticatedUser.getUserId();
+        }
+        return userRepository.findIdByEmail(getEmail())
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+    }
+
+    public Long getAccountId() {
+        if (getAuthentication().getPrincipal() instanceof AuthenticatedUser authenticatedUser
+                && authenticatedUser.getAccountId() != null) {
+            return authenticatedUser.getAccountId();
+        }
+        return accountRepository.findIdByUserId(getUserId())
+                .orElseThrow(() -> new IllegalStateException("계좌 정보를 찾을 수 없습니다."));
+    }
+
+    /**
+     * 사용자 엔티티가 필요한 경우에만 사용 (이름, 상태, 비밀번호 등)
+     */
+    public User getUser() {
+        return userRepository.findById(getUserId())
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+    }
+
+    private Authentication getAuthentication() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            throw new IllegalStateException("인증 정보가 없습니다.");
+        }
+        return authentication;
+    }
+}
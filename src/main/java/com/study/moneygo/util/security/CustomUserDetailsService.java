@@ -25,12 +25,12 @@ public class CustomUserDetailsService implements UserDetailsService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다 : " + email));
 
-        return new org.springframework.security.core.userdetails.User(
+        return new AuthenticatedUser(
+                user.getId(),
+                null,
                 user.getEmail(),
                 user.getPassword(),
                 user.isActive(),
-                true,
-                true,
                 !user.getStatus().equals(User.UserStatus.LOCKED),
                 Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
         );
@@ -1,12 +1,15 @@
 package com.study.moneygo.util.security;
 
 
+import com.study.moneygo.user.service.TokenRevocationService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -16,6 +19,8 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
@@ -23,22 +28,59 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final TokenRevocationService tokenRevocationService;
+
+    private static final List<SimpleGrantedAuthority> USER_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         try {
             String token = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-                String email = jwtTokenProvider.getEmailFromToken(token);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+            // 서명 검증과 claims 추출을 한 번의 파싱으로 처리
+            Optional<Claims> claims = StringUtils.hasText(token)
+                    ? jwtTokenProvider.parseValidClaims(token)
+                    : Optional.empty();
+
+            if (claims.isPresent()) {
+                String email = claims.get().getSubject();
+                Long tokenUserId = claims.get().get(JwtTokenProvider.USER_ID_CLAIM, Long.class);
+                Long tokenAccountId = claims.get().get(JwtTokenProvider.ACCOUNT_ID_CLAIM, Long.class);
 
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails, null, userDetails.getAuthorities()
+                UserDetails userDetails = null;
+                if (tokenUserId != null) {
+                    // 폐기 기준(잠금, 탈퇴, 비밀번호 변경) 이전에 발급된 토큰이면 인증하지 않음 (메모리 조회)
+                    // 사용자 상태 변경은 토큰 폐기로 반영되므로 DB 조회 없이 claim으로 principal 구성
+                    if (!tokenRevocationService.isRevoked(tokenUserId, claims.get().getIssuedAt())) {
+                        userDetails = new AuthenticatedUser(
+                                tokenUserId,
+                                tokenAccountId,
+                                email,
+                                null,
+                                true,
+                                true,
+                                USER_AUTHORITIES
                         );
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                    }
+                } else {
+                    // uid claim이 없는 예전 토큰: 캐시에 없을 때만 DB 조회 (사용자 상태 / 폐기 기준은 매번 확인)
+                    UserDetails loaded = userPrincipalCache.get(email, userDetailsService::loadUserByUsername);
+                    Long userId = ((AuthenticatedUser) loaded).getUserId();
+                    if (loaded.isEnabled() && loaded.isAccountNonLocked()
+                            && !tokenRevocationService.isRevoked(userId, claims.get().getIssuedAt())) {
+                        userDetails = loaded;
+                    }
+                }
+
+                if (userDetails != null) {
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(
+                                    userDetails, null, userDetails.getAuthorities()
+                            );
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
         } catch (Exception e) {
             logger.error("Could not set user authentication in security context", e);
@@ -2,6 +2,7 @@ package com.study.moneygo.util.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.Getter;
@@ -12,7 +13,14 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 
 @Component
 public class JwtTokenProvider {
@@ -20,13 +28,48 @@ public class JwtTokenProvider {
     private final SecretKey secretKey;
     @Getter
     private final long expirationTime;
+    // 스레드 안전한 불변 객체라 한 번만 생성해서 재사용
+    private final JwtParser jwtParser;
+    // 토큰 SHA-256 digest → 검증된 claims (토큰 만료 시각까지만 유효)
+    private final Map<String, Claims> verifiedClaims;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.expiration}") long expirationTime
+            @Value("${jwt.expiration}") long expirationTime,
+            @Value("${jwt.claims-cache-size:10000}") int claimsCacheSize
     ) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.expirationTime = expirationTime;
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedClaims = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Claims> eldest) {
+                return size() > claimsCacheSize;
+            }
+        });
+    }
+
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ACCOUNT_ID_CLAIM = "aid";
+
+    /**
+     * 로그인 토큰 발급 (사용자 ID / 계좌 ID를 claim으로 포함)
+     */
+    public String generateToken(Authentication authentication, Long accountId) {
+        AuthenticatedUser authenticatedUser = (AuthenticatedUser) authentication.getPrincipal();
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + expirationTime);
+
+        return Jwts.builder()
+                .subject(authenticatedUser.getUsername())
+                .claim(USER_ID_CLAIM, authenticatedUser.getUserId())
+                .claim(ACCOUNT_ID_CLAIM, accountId)
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .signWith(secretKey, Jwts.SIG.HS512)
+                .compact();
     }
 
     public String generateToken(Authentication authentication) {
@@ -54,26 +97,56 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * 토큰 검증 + claims 추출을 한 번에 처리
+     * 같은 토큰이 다시 들어오면 서명 검증 없이 캐시된 claims를 반환한다. (만료 시각은 매번 확인)
+     * @return 유효하지 않은 토큰이면 Optional.empty()
+     */
+    public Optional<Claims> parseValidClaims(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        String digest = digest(token);
+        Claims cached = verifiedClaims.get(digest);
+        if (cached != null) {
+            if (!isExpired(cached)) {
+                return Optional.of(cached);
+            }
+            verifiedClaims.remove(digest);
+            return Optional.empty();
+        }
+
+        try {
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            if (claims.getExpiration() != null) {
+                verifiedClaims.put(digest, claims);
+            }
+            return Optional.of(claims);
+        } catch (JwtException | IllegalArgumentException exception) {
+            return Optional.empty();
+        }
+    }
 
-        return claims.getSubject();
+    public String getEmailFromToken(String token) {
+        return parseValidClaims(token)
+                .map(Claims::getSubject)
+                .orElseThrow(() -> new JwtException("유효하지 않은 토큰입니다."));
     }
 
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
+        return parseValidClaims(token).isPresent();
+    }
 
-            return true;
-        } catch (JwtException | IllegalArgumentException exception) {
-            return false;
+    private boolean isExpired(Claims claims) {
+        return claims.getExpiration().getTime() <= System.currentTimeMillis();
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
         }
     }
 
@@ -0,0 +1,105 @@
+package com.study.moneygo.util.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 비밀번호 해시 인코더 생성
+ * 저장 형식은 {알고리즘}해시 이며, 접두어 없는 기존 BCrypt 해시도 그대로 검증한다.
+ * PBKDF2는 해시에 반복 횟수가 남지 않으므로 id에 넣는다 ({pbkdf2@310000}해시).
+ * 저장된 해시가 현재 설정과 다르면 (알고리즘 / PBKDF2 반복 횟수가 다르거나 BCrypt strength가 낮으면)
+ * upgradeEncoding()이 true를 반환하므로, 검증에 성공했을 때 새 설정으로 다시 해시해 저장한다.
+ * 반복 횟수를 바꾸기 전에 저장된 {pbkdf2@N} / 반복 횟수 없는 예전 {pbkdf2} 해시도 계속 검증한다.
+ */
+public final class PasswordEncoderFactory {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String PBKDF2 = "pbkdf2";
+
+    private static final String PBKDF2_ITERATIONS_PREFIX = "{" + PBKDF2 + "@";
+    private static final int PBKDF2_SALT_LENGTH = 16;
+
+    private PasswordEncoderFactory() {
+    }
+
+    /**
+     * @param algorithm 새로 해시할 때 사용할 알고리즘 (bcrypt / pbkdf2)
+     * @param bcryptStrength BCrypt 비용 (4~31, 1 증가할 때마다 2배)
+     * @param pbkdf2Iterations PBKDF2 반복 횟수
+     */
+    public static PasswordEncoder create(String algorithm, int bcryptStrength, int pbkdf2Iterations) {
+        if (!BCRYPT.equals(algorithm) && !PBKDF2.equals(algorithm)) {
+            throw new IllegalArgumentException("지원하지 않는 비밀번호 해시 알고리즘입니다: " + algorithm);
+        }
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        String pbkdf2Id = pbkdf2Id(pbkdf2Iterations);
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, bcrypt);
+        encoders.put(pbkdf2Id, pbkdf2(pbkdf2Iterations));
+        // 반복 횟수를 id에 넣기 전 형식 (당시 설정 값으로 저장됐으므로 현재 설정으로 검증)
+        encoders.put(PBKDF2, pbkdf2(pbkdf2Iterations));
+
+        String idForEncode = PBKDF2.equals(algorithm) ? pbkdf2Id : BCRYPT;
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(idForEncode, encoders);
+        // 등록되지 않은 id: 예전 반복 횟수의 {pbkdf2@N} 해시이거나 접두어 없이 저장된 BCrypt 해시
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(new PreviousSettingsMatcher(bcrypt));
+        return delegatingPasswordEncoder;
+    }
+
+    public static String pbkdf2Id(int iterations) {
+        return PBKDF2 + "@" + iterations;
+    }
+
+    private static Pbkdf2PasswordEncoder pbkdf2(int iterations) {
+        return new Pbkdf2PasswordEncoder("", PBKDF2_SALT_LENGTH, iterations,
+                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+    }
+
+    /**
+     * 현재 설정에 없는 해시 검증 전용 (새 해시는 만들지 않음)
+     * {pbkdf2@N}해시는 저장된 반복 횟수로, 접두어가 없으면 BCrypt로 검증한다.
+     */
+    private static class PreviousSettingsMatcher implements PasswordEncoder {
+
+        private final PasswordEncoder bcrypt;
+        private final Map<Integer, PasswordEncoder> pbkdf2ByIterations = new ConcurrentHashMap<>();
+
+        PreviousSettingsMatcher(PasswordEncoder bcrypt) {
+            this.bcrypt = bcrypt;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            throw new UnsupportedOperationException("검증 전용 인코더입니다.");
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String prefixEncodedPassword) {
+            if (prefixEncodedPassword == null || !prefixEncodedPassword.startsWith(PBKDF2_ITERATIONS_PREFIX)) {
+                return bcrypt.matches(rawPassword, prefixEncodedPassword);
+            }
+            int end = prefixEncodedPassword.indexOf('}');
+            if (end < 0) {
+                return false;
+            }
+            int iterations;
+            try {
+                iterations = Integer.parseInt(prefixEncodedPassword.substring(PBKDF2_ITERATIONS_PREFIX.length(), end));
+            } catch (NumberFormatException e) {
+                return false;
+            }
+            if (iterations <= 0) {
+                return false;
+            }
+            return pbkdf2ByIterations.computeIfAbsent(iterations, PasswordEncoderFactory::pbkdf2)
+                    .matches(rawPassword, prefixEncodedPassword.substring(end + 1));
+        }
+    }
+}
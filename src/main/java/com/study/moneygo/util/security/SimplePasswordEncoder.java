@@ -0,0 +1,28 @@
+package com.study.moneygo.util.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 간편 비밀번호(6자리 PIN) 전용 인코더
+ * 로그인 비밀번호와 알고리즘 / 비용을 따로 설정하기 위해 PasswordEncoder 빈과 구분한다.
+ */
+public class SimplePasswordEncoder {
+
+    private final PasswordEncoder delegate;
+
+    public SimplePasswordEncoder(PasswordEncoder delegate) {
+        this.delegate = delegate;
+    }
+
+    public String encode(CharSequence rawSimplePassword) {
+        return delegate.encode(rawSimplePassword);
+    }
+
+    public boolean matches(CharSequence rawSimplePassword, String encodedSimplePassword) {
+        return delegate.matches(rawSimplePassword, encodedSimplePassword);
+    }
+
+    public boolean upgradeEncoding(String encodedSimplePassword) {
+        return delegate.upgradeEncoding(encodedSimplePassword);
+    }
+}
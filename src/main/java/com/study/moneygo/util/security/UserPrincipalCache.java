@@ -0,0 +1,105 @@
+package com.study.moneygo.util.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 인증된 사용자 정보(UserDetails) 캐시
+ * JwtAuthenticationFilter가 요청마다 users 테이블을 조회하지 않도록 이메일(JWT subject) 기준으로 보관한다.
+ * 최대 개수(LRU)와 TTL로 제한되며, 사용자 상태 / 비밀번호가 바뀌면 즉시 무효화한다.
+ *
+ * uid / aid claim이 있는 토큰은 claim으로 principal을 만들고 폐기 기준(TokenRevocationService)으로 검증하므로
+ * 이 캐시를 거치지 않는다. uid claim이 없는 예전 토큰이 만료될 때까지만 쓰인다.
+ * 무효화는 이 서버에만 반영되므로, 다른 서버의 잠금 / 비밀번호 변경은 폐기 기준 확인으로 막는다.
+ */
+@Slf4j
+@Component
+public class UserPrincipalCache {
+
+    private final Map<String, CachedPrincipal> principals;
+    private final long ttlMillis;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public UserPrincipalCache(
+            MeterRegistry meterRegistry,
+            @Value("${moneygo.security.principal-cache.max-size:10000}") int maxSize,
+            @Value("${moneygo.security.principal-cache.ttl-ms:60000}") long ttlMillis
+    ) {
+        this.principals = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedPrincipal> eldest) {
+                return size() > maxSize;
+            }
+        });
+        this.ttlMillis = ttlMillis;
+        this.hitCounter = Counter.builder("moneygo.security.principal.cache")
+                .description("인증 사용자 캐시 조회 결과")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("moneygo.security.principal.cache")
+                .description("인증 사용자 캐시 조회 결과")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        meterRegistry.gauge("moneygo.security.principal.cache.size", principals, Map::size);
+    }
+
+    public UserDetails get(String email, Function<String, UserDetails> loader) {
+        long now = System.currentTimeMillis();
+        CachedPrincipal cached = principals.get(email);
+        if (cached != null && cached.getExpiresAt() > now) {
+            hitCounter.increment();
+            return cached.getUserDetails();
+        }
+
+        missCounter.increment();
+        UserDetails userDetails = loader.apply(email);
+        principals.put(email, new CachedPrincipal(userDetails, now + ttlMillis));
+        return userDetails;
+    }
+
+    /**
+     * 캐시 무효화
+     * 트랜잭션 안이면 커밋 후에 한 번 더 지워서, 커밋 전에 다른 요청이 옛 정보를 다시 캐시하는 경우를 막는다.
+     */
+    public void invalidate(String email) {
+        principals.remove(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    principals.remove(email);
+                }
+            });
+        }
+        log.debug("인증 사용자 캐시 무효화: email={}", email);
+    }
+
+    public long getHitCount() {
+        return (long) hitCounter.count();
+    }
+
+    public long getMissCount() {
+        return (long) missCounter.count();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class CachedPrincipal {
+        private final UserDetails userDetails;
+        private final long expiresAt;
+    }
+}
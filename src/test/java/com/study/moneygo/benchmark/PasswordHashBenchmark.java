@@ -0,0 +1,80 @@
+package com.study.moneygo.benchmark;
+
+import com.study.moneygo.util.security.PasswordEncoderFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 비밀번호 해시 설정별 처리량 측정 (CPU 산정용)
+ * 검증(matches) 기준으로 1스레드 / 전체 코어의 초당 해시 수를 출력한다.
+ *
+ * 실행: ./gradlew passwordHashBenchmark -Pconfigs=bcrypt:10,bcrypt:12,pbkdf2:310000 -PdurationMs=3000
+ */
+public class PasswordHashBenchmark {
+
+    private static final String DEFAULT_CONFIGS = "bcrypt:8,bcrypt:10,bcrypt:12,pbkdf2:100000,pbkdf2:310000,pbkdf2:600000";
+    private static final String SAMPLE_PASSWORD = "Test1234!";
+
+    public static void main(String[] args) throws Exception {
+        String configs = args.length > 0 ? args[0] : DEFAULT_CONFIGS;
+        long durationMillis = args.length > 1 ? Long.parseLong(args[1]) : 3000;
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        System.out.printf("%-18s %14s %14s%n", "config", "1 thread/s", threads + " threads/s");
+        for (String config : configs.split(",")) {
+            String[] parts = config.trim().split(":");
+            String algorithm = parts[0];
+            int cost = Integer.parseInt(parts[1]);
+            PasswordEncoder encoder = PasswordEncoderFactory.create(
+                    algorithm,
+                    PasswordEncoderFactory.BCRYPT.equals(algorithm) ? cost : 10,
+                    PasswordEncoderFactory.PBKDF2.equals(algorithm) ? cost : 310000
+            );
+            String encoded = encoder.encode(SAMPLE_PASSWORD);
+
+            // 워밍업
+            measure(encoder, encoded, 1, Math.min(1000, durationMillis));
+
+            double singleThread = measure(encoder, encoded, 1, durationMillis);
+            double allThreads = measure(encoder, encoded, threads, durationMillis);
+            System.out.printf("%-18s %14.1f %14.1f%n", config.trim(), singleThread, allThreads);
+        }
+    }
+
+    private static double measure(PasswordEncoder encoder, String encoded, int threads, long durationMillis)
+            throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            long startedAt = System.nanoTime();
+            long deadline = startedAt + durationMillis * 1_000_000;
+
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executorService.submit(() -> {
+                    long count = 0;
+                    while (System.nanoTime() < deadline) {
+                        if (!encoder.matches(SAMPLE_PASSWORD, encoded)) {
+                            throw new IllegalStateException("해시 검증 실패");
+                        }
+                        count++;
+                    }
+                    return count;
+                }));
+            }
+
+            long total = 0;
+            for (Future<Long> future : futures) {
+                total += future.get();
+            }
+            double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+            return total / elapsedSeconds;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
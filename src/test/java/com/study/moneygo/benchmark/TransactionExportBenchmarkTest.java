@@ -0,0 +1,216 @@
+package com.study.moneygo.benchmark;
+
+import com.study.moneygo.account.entity.Account;
+import com.study.moneygo.support.TestFixtures;
+import com.study.moneygo.transaction.entity.Transaction;
+import com.study.moneygo.transaction.repository.TransactionRepository;
+import com.study.moneygo.transaction.service.AccountEntryService;
+import com.study.moneygo.transaction.service.TransactionExportService;
+import com.study.moneygo.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래 내역 내보내기 힙 사용량 측정
+ * 2일치 / 전체 기간을 내보내는 동안 1MB 출력마다 GC 후 힙 사용량을 재서,
+ * 건수가 10배 이상 늘어도 최대 힙 증가량이 같은 상한 안에 있는지 확인한다.
+ * 실행: ./gradlew benchmark --tests '*TransactionExportBenchmarkTest'
+ */
+@Tag("benchmark")
+@SpringBootTest
+@Import(TestFixtures.class)
+public class TransactionExportBenchmarkTest {
+
+    private static final int TRANSACTION_COUNT = 200_000;
+    private static final int INSERT_BATCH_SIZE = 10_000;
+    private static final int INTERVAL_SECONDS = 10;
+    private static final long SAMPLE_BYTES = 1024 * 1024;
+    private static final long HEAP_CEILING_BYTES = 16L * 1024 * 1024;
+
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    @Autowired
+    private TransactionExportService transactionExportService;
+
+    @Autowired
+    private AccountEntryService accountEntryService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Account myAccount;
+    private LocalDate today;
+
+    @BeforeEach
+    public void setUp() {
+        fixtures.deleteAll();
+
+        User me = fixtures.saveUser("me@test.com", "나");
+        myAccount = fixtures.saveAccount(me, "1001-0001-0001");
+        Account otherAccount = fixtures.saveAccount(fixtures.saveUser("other@test.com", "상대방"), "1001-0002-0002");
+
+        // 어제 23:59:59부터 10초 간격으로 과거로, 보낸 / 받은 거래를 번갈아 생성 (약 23일치)
+        today = LocalDate.now();
+        LocalDateTime base = today.atStartOfDay().minusSeconds(1);
+        for (int from = 0; from < TRANSACTION_COUNT; from += INSERT_BATCH_SIZE) {
+            List<Object[]> rows = new ArrayList<>();
+            for (int i = from; i < Math.min(from + INSERT_BATCH_SIZE, TRANSACTION_COUNT); i++) {
+                boolean sent = i % 2 == 0;
+                Timestamp createdAt = Timestamp.valueOf(base.minusSeconds((long) i * INTERVAL_SECONDS));
+                rows.add(new Object[]{
+                        sent ? myAccount.getId() : otherAccount.getId(),
+                        sent ? otherAccount.getId() : myAccount.getId(),
+                        new BigDecimal("1000.00"),
+                        "TRANSFER",
+                        "COMPLETED",
+                        "월세, \"" + i + "\"번째",
+                        createdAt,
+                        createdAt
+                });
+            }
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO transactions (from_account_id, to_account_id, amount, type, status, description, " +
+                            "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                    rows);
+        }
+        // 직접 넣은 거래의 계좌 원장 생성
+        accountEntryService.backfill();
+
+        fixtures.loginAs(me, myAccount);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        fixtures.logout();
+    }
+
+    @Test
+    @DisplayName("내보내기 건수가 늘어도 최대 힙 증가량은 일정")
+    public void exportHeapStaysFlat() throws Exception {
+        // 워밍업 (클래스 로딩, 쿼리 플랜 캐시 등이 측정에 섞이지 않도록)
+        export(today.minusDays(1), today.minusDays(1), "csv", false);
+
+        int smallCount = 2 * 24 * 60 * 60 / INTERVAL_SECONDS;
+        ExportResult small = export(today.minusDays(2), today.minusDays(1), "csv", false);
+        ExportResult full = export(today.minusDays(30), today.minusDays(1), "csv", false);
+        ExportResult fullGzip = export(today.minusDays(30), today.minusDays(1), "ndjson", true);
+
+        // 비교용: 같은 기간을 List<Transaction>으로 한 번에 읽었을 때 남아 있는 힙
+        long baseline = usedHeapAfterGc();
+        List<Transaction> materialized = transactionRepository.findByAccountAndDateRangeList(
+                myAccount.getId(), today.minusDays(30).atStartOfDay(), today.atStartOfDay());
+        long materializedHeap = usedHeapAfterGc() - baseline;
+
+        System.out.println("===== 거래 내역 내보내기 최대 힙 증가량 =====");
+        System.out.println(small.describe("csv 2일"));
+        System.out.println(full.describe("csv 전체"));
+        System.out.println(fullGzip.describe("ndjson.gz 전체"));
+        System.out.printf("List<Transaction> %d건 보유 시 힙 %.1fMB%n",
+                materialized.size(), materializedHeap / 1024.0 / 1024.0);
+
+        assertThat(small.count).isEqualTo(smallCount);
+        assertThat(full.count).isEqualTo(TRANSACTION_COUNT);
+        assertThat(fullGzip.count).isEqualTo(TRANSACTION_COUNT);
+
+        // 건수가 10배 넘게 늘어도 같은 상한 안
+        assertThat(small.peakHeapGrowth).isLessThan(HEAP_CEILING_BYTES);
+        assertThat(full.peakHeapGrowth).isLessThan(HEAP_CEILING_BYTES);
+        assertThat(fullGzip.peakHeapGrowth).isLessThan(HEAP_CEILING_BYTES);
+    }
+
+    private ExportResult export(LocalDate startDate, LocalDate endDate, String format, boolean gzip) throws Exception {
+        TransactionExportService.TransactionExport export =
+                transactionExportService.prepare(startDate, endDate, format, gzip);
+
+        HeapSamplingOutputStream out = new HeapSamplingOutputStream(usedHeapAfterGc());
+        long count = transactionExportService.write(export, out);
+        out.sample();
+
+        return new ExportResult(count, out.bytes, out.peak - out.baseline);
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        System.gc();
+        return MEMORY.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * 출력은 버리고, SAMPLE_BYTES마다 GC 후 힙 사용량의 최댓값을 기록
+     */
+    private static class HeapSamplingOutputStream extends OutputStream {
+        private final long baseline;
+        private long peak;
+        private long bytes;
+        private long nextSampleAt = SAMPLE_BYTES;
+
+        HeapSamplingOutputStream(long baseline) {
+            this.baseline = baseline;
+            this.peak = baseline;
+        }
+
+        @Override
+        public void write(int b) {
+            written(1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            written(len);
+        }
+
+        private void written(int length) {
+            bytes += length;
+            if (bytes >= nextSampleAt) {
+                sample();
+                nextSampleAt = bytes + SAMPLE_BYTES;
+            }
+        }
+
+        void sample() {
+            peak = Math.max(peak, usedHeapAfterGc());
+        }
+    }
+
+    private static class ExportResult {
+        private final long count;
+        private final long bytes;
+        private final long peakHeapGrowth;
+
+        ExportResult(long count, long bytes, long peakHeapGrowth) {
+            this.count = count;
+            this.bytes = bytes;
+            this.peakHeapGrowth = peakHeapGrowth;
+        }
+
+        String describe(String label) {
+            return String.format("%-14s %7d건  %8.1fKB  최대 힙 증가 %6.1fMB",
+                    label, count, bytes / 1024.0, peakHeapGrowth / 1024.0 / 1024.0);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.study.moneygo.benchmark;
+
+import com.study.moneygo.account.entity.Account;
+import com.study.moneygo.support.TestFixtures;
+import com.study.moneygo.transaction.dto.response.TransactionCursorResponse;
+import com.study.moneygo.transaction.dto.response.TransactionResponse;
+import com.study.moneygo.transaction.service.AccountEntryService;
+import com.study.moneygo.transaction.service.TransactionService;
+import com.study.moneygo.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래 내역 OFFSET 페이지 vs 커서 페이지 조회 시간 비교
+ * 실행: ./gradlew benchmark --tests '*TransactionPaginationBenchmarkTest'
+ */
+@Tag("benchmark")
+@SpringBootTest
+@Import(TestFixtures.class)
+public class TransactionPaginationBenchmarkTest {
+
+    private static final int TRANSACTION_COUNT = 20_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int[] CHECKPOINT_PAGES = {0, 10, 100, 500, 999};
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountEntryService accountEntryService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Account myAccount;
+    private Account otherAccount;
+
+    @BeforeEach
+    public void setUp() {
+        fixtures.deleteAll();
+
+        User me = fixtures.saveUser("me@test.com", "나");
+        myAccount = fixtures.saveAccount(me, "1001-0001-0001");
+        otherAccount = fixtures.saveAccount(fixtures.saveUser("other@test.com", "상대방"), "1001-0002-0002");
+
+        // 보낸 / 받은 거래를 번갈아 1초 간격으로 생성
+        LocalDateTime base = LocalDateTime.now().minusDays(1);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < TRANSACTION_COUNT; i++) {
+            boolean sent = i % 2 == 0;
+            Timestamp createdAt = Timestamp.valueOf(base.minusSeconds(i));
+            rows.add(new Object[]{
+                    sent ? myAccount.getId() : otherAccount.getId(),
+                    sent ? otherAccount.getId() : myAccount.getId(),
+                    new BigDecimal("1000.00"),
+                    "TRANSFER",
+                    "COMPLETED",
+                    createdAt,
+                    createdAt
+            });
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO transactions (from_account_id, to_account_id, amount, type, status, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                rows);
+        // 직접 넣은 거래의 계좌 원장 생성
+        accountEntryService.backfill();
+
+        fixtures.loginAs(me, myAccount);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        fixtures.logout();
+    }
+
+    @Test
+    @DisplayName("깊은 페이지에서 OFFSET 조회 시간은 늘어나고 커서 조회 시간은 일정")
+    public void offsetVsCursorPageLatency() {
+        // 워밍업
+        transactionService.getTransactions(null, null, null, offsetPage(0));
+        transactionService.getTransactionsByCursor(null, null, null, null, null, PAGE_SIZE);
+
+        // OFFSET 페이지
+        List<String> report = new ArrayList<>();
+        for (int page : CHECKPOINT_PAGES) {
+            long startedAt = System.nanoTime();
+            transactionService.getTransactions(null, null, null, offsetPage(page));
+            report.add(String.format("page %4d  offset=%7.2fms", page, elapsedMillis(startedAt)));
+        }
+
+        // 커서 페이지 (처음부터 끝까지 순서대로 넘기면서 같은 페이지 번호의 시간 기록)
+        Set<Long> seenIds = new HashSet<>();
+        LocalDateTime previousCreatedAt = null;
+        String cursor = null;
+        int page = 0;
+        int checkpoint = 0;
+        do {
+            long startedAt = System.nanoTime();
+            TransactionCursorResponse response = transactionService.getTransactionsByCursor(
+                    null, null, null, null, cursor, PAGE_SIZE);
+            double elapsed = elapsedMillis(startedAt);
+
+            if (checkpoint < CHECKPOINT_PAGES.length && CHECKPOINT_PAGES[checkpoint] == page) {
+                report.set(checkpoint, report.get(checkpoint) + String.format("  cursor=%7.2fms", elapsed));
+                checkpoint++;
+            }
+
+            for (TransactionResponse transaction : response.getContent()) {
+                assertThat(seenIds.add(transaction.getTransactionId())).isTrue();
+                if (previousCreatedAt != null) {
+                    assertThat(transaction.getCreatedAt()).isBeforeOrEqualTo(previousCreatedAt);
+                }
+                previousCreatedAt = transaction.getCreatedAt();
+            }
+            cursor = response.getNextCursor();
+            page++;
+        } while (cursor != null);
+
+        System.out.println("===== 거래 내역 페이지 조회 시간 (" + TRANSACTION_COUNT + "건, " + PAGE_SIZE + "건/페이지) =====");
+        report.forEach(System.out::println);
+
+        // 커서로 넘긴 결과는 빠짐 / 중복 없이 전체 거래와 같아야 함
+        assertThat(seenIds).hasSize(TRANSACTION_COUNT);
+    }
+
+    private PageRequest offsetPage(int page) {
+        return PageRequest.of(page, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"));
+    }
+
+    private double elapsedMillis(long startedAt) {
+        return (System.nanoTime() - startedAt) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,140 @@
+package com.study.moneygo.benchmark;
+
+import com.study.moneygo.account.entity.Account;
+import com.study.moneygo.support.TestFixtures;
+import com.study.moneygo.transaction.dto.response.TransactionCursorResponse;
+import com.study.moneygo.transaction.dto.response.TransactionResponse;
+import com.study.moneygo.transaction.service.AccountEntryService;
+import com.study.moneygo.transaction.service.TransactionService;
+import com.study.moneygo.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래 내역 메모 / 상대방 이름 검색 시간 측정
+ * 한 계좌에 거래 200만 건을 넣고, 흔한 검색어 / 드문 검색어 / 없는 검색어의 첫 페이지 조회 시간(중앙값)을 잰다.
+ * 실행: ./gradlew benchmark --tests '*TransactionSearchBenchmarkTest'
+ */
+@Tag("benchmark")
+@SpringBootTest
+@Import(TestFixtures.class)
+public class TransactionSearchBenchmarkTest {
+
+    private static final int TRANSACTION_COUNT = 2_000_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int RUNS = 11;
+    private static final double MAX_MEDIAN_MILLIS = 50.0;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountEntryService accountEntryService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        fixtures.deleteAll();
+
+        User me = fixtures.saveUser("me@test.com", "나");
+        Account myAccount = fixtures.saveAccount(me, "1001-0001-0001");
+        Account landlord = fixtures.saveAccount(fixtures.saveUser("landlord@test.com", "김집주인"), "1001-0002-0002");
+        Account friend = fixtures.saveAccount(fixtures.saveUser("friend@test.com", "이친구"), "1001-0003-0003");
+        Account coworker = fixtures.saveAccount(fixtures.saveUser("coworker@test.com", "박동료"), "1001-0004-0004");
+
+        // 1초 간격으로 과거로, 보낸 / 받은 거래를 번갈아 생성 (상대방 3명, 메모 5종 + 거래별 고유 번호)
+        String counterparty = String.format("(ARRAY[%d, %d, %d])[g %% 3 + 1]",
+                landlord.getId(), friend.getId(), coworker.getId());
+        jdbcTemplate.update(
+                "INSERT INTO transactions (from_account_id, to_account_id, amount, type, status, description, " +
+                        "created_at, updated_at) " +
+                        "SELECT CASE WHEN g % 2 = 0 THEN " + myAccount.getId() + " ELSE " + counterparty + " END, " +
+                        "CASE WHEN g % 2 = 0 THEN " + counterparty + " ELSE " + myAccount.getId() + " END, " +
+                        "1000.00, 'TRANSFER', 'COMPLETED', " +
+                        "(ARRAY['월세 납부', '[예약송금] 관리비', '점심 더치페이', 'rent', '용돈'])[g % 5 + 1] || ' #' || g, " +
+                        "?::timestamp - g * interval '1 second', ?::timestamp - g * interval '1 second' " +
+                        "FROM generate_series(1, ?) g",
+                Timestamp.valueOf(LocalDateTime.now()), Timestamp.valueOf(LocalDateTime.now()), TRANSACTION_COUNT);
+
+        // 직접 넣은 거래의 계좌 원장 + 검색 인덱스
+        accountEntryService.backfill();
+        accountEntryService.createSearchIndex();
+        jdbcTemplate.execute("ANALYZE account_entries");
+        jdbcTemplate.execute("ANALYZE transactions");
+
+        fixtures.loginAs(me, myAccount);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        fixtures.logout();
+    }
+
+    @Test
+    @DisplayName("200만 건 계좌에서 메모 / 상대방 이름 검색 첫 페이지가 50ms 이내")
+    public void searchLatency() {
+        String[] keywords = {"월세", "예약송금", "RENT", "김집주인", "#1234567", "없는검색어"};
+
+        List<String> report = new ArrayList<>();
+        for (String keyword : keywords) {
+            // 워밍업
+            search(keyword, null);
+
+            double[] elapsed = new double[RUNS];
+            TransactionCursorResponse response = null;
+            for (int i = 0; i < RUNS; i++) {
+                long startedAt = System.nanoTime();
+                response = search(keyword, null);
+                elapsed[i] = (System.nanoTime() - startedAt) / 1_000_000.0;
+            }
+            Arrays.sort(elapsed);
+            double median = elapsed[RUNS / 2];
+            report.add(String.format("%-10s  %2d건  median=%7.2fms  max=%7.2fms",
+                    keyword, response.getContent().size(), median, elapsed[RUNS - 1]));
+
+            // 결과는 모두 검색어를 포함해야 함 (대소문자 무시)
+            for (TransactionResponse transaction : response.getContent()) {
+                String searchable = (transaction.getDescription() + " " + transaction.getCounterpartyName()).toLowerCase();
+                assertThat(searchable).contains(keyword.toLowerCase());
+            }
+            assertThat(median).as(keyword).isLessThan(MAX_MEDIAN_MILLIS);
+        }
+
+        System.out.println("===== 거래 내역 검색 시간 (" + TRANSACTION_COUNT + "건, " + PAGE_SIZE + "건/페이지) =====");
+        report.forEach(System.out::println);
+
+        // 흔한 검색어는 다음 페이지도 이어서, 드문 / 없는 검색어는 정확히
+        TransactionCursorResponse firstPage = search("예약송금", null);
+        assertThat(firstPage.isHasNext()).isTrue();
+        TransactionCursorResponse secondPage = search("예약송금", firstPage.getNextCursor());
+        assertThat(secondPage.getContent()).hasSize(PAGE_SIZE);
+        assertThat(secondPage.getContent().get(0).getCreatedAt())
+                .isBeforeOrEqualTo(firstPage.getContent().get(PAGE_SIZE - 1).getCreatedAt());
+        assertThat(search("#1234567", null).getContent()).hasSize(1);
+        assertThat(search("없는검색어", null).getContent()).isEmpty();
+    }
+
+    private TransactionCursorResponse search(String keyword, String cursor) {
+        return transactionService.getTransactionsByCursor(null, null, null, keyword, cursor, PAGE_SIZE);
+    }
+}
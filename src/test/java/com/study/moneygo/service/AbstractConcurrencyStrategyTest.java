@@ -0,0 +1,141 @@
+package com.study.moneygo.service;
+
+import com.study.moneygo.account.entity.Account;
+import com.study.moneygo.account.repository.AccountRepository;
+import com.study.moneygo.account.service.AccountBalanceService;
+import com.study.moneygo.account.service.AccountConcurrencyStrategy;
+import com.study.moneygo.account.service.AccountTransactionExecutor;
+import com.study.moneygo.support.TestFixtures;
+import com.study.moneygo.transfer.dto.request.TransferRequest;
+import com.study.moneygo.transfer.service.TransferService;
+import com.study.moneygo.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시성 제어 방식별 낮은 경합 / 높은 경합 송금 비교
+ * 방식은 설정(moneygo.account.concurrency-strategy)으로만 정해지므로
+ * 하위 클래스마다 @SpringBootTest(properties = ...)로 별도 컨텍스트를 띄운다.
+ */
+@Import(TestFixtures.class)
+public abstract class AbstractConcurrencyStrategyTest {
+
+    private static final String SIMPLE_PASSWORD = "123456";
+    private static final BigDecimal TRANSFER_AMOUNT = new BigDecimal("1000");
+
+    @Autowired
+    private TransferService transferService;
+
+    @Autowired
+    private AccountBalanceService accountBalanceService;
+
+    @Autowired
+    private AccountTransactionExecutor accountTransactionExecutor;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private User sender;
+    private Account senderAccount;
+    private Account receiverAccount;
+
+    protected abstract AccountConcurrencyStrategy expectedStrategy();
+
+    @BeforeEach
+    public void setUp() {
+        fixtures.deleteAll();
+
+        sender = fixtures.saveUser(fixtures.user("sender@test.com", "송금자")
+                .simplePassword(passwordEncoder.encode(SIMPLE_PASSWORD)));
+        User receiver = fixtures.saveUser("receiver@test.com", "수신자");
+        senderAccount = fixtures.saveAccount(sender, "1001-0001-0001", new BigDecimal("1000000.00"));
+        receiverAccount = fixtures.saveAccount(receiver, "1001-0002-0002");
+    }
+
+    @Test
+    @DisplayName("낮은 경합 - 잔액 음수 없이 총액 보존")
+    public void lowContentionTest() throws InterruptedException {
+        runContention("낮은 경합", 2, 10);
+    }
+
+    @Test
+    @DisplayName("높은 경합 - 잔액 음수 없이 총액 보존")
+    public void highContentionTest() throws InterruptedException {
+        runContention("높은 경합", 20, 5);
+    }
+
+    private void runContention(String label, int threadCnt, int transfersPerThread) throws InterruptedException {
+        // given
+        assertThat(accountBalanceService.getStrategy()).isEqualTo(expectedStrategy());
+        BigDecimal totalBefore = senderAccount.getBalance().add(receiverAccount.getBalance());
+        long retriesBefore = accountTransactionExecutor.getRetryCount();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCnt);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(threadCnt);
+        AtomicInteger successCnt = new AtomicInteger(0);
+        AtomicInteger failCnt = new AtomicInteger(0);
+
+        // when
+        for (int i = 0; i < threadCnt; i++) {
+            executorService.submit(() -> {
+                try {
+                    fixtures.loginAs(sender, senderAccount);
+                    startLatch.await();
+                    for (int j = 0; j < transfersPerThread; j++) {
+                        try {
+                            transferService.transfer(new TransferRequest(
+                                    receiverAccount.getAccountNumber(), TRANSFER_AMOUNT, "방식 비교", SIMPLE_PASSWORD));
+                            successCnt.incrementAndGet();
+                        } catch (Exception e) {
+                            failCnt.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    fixtures.logout();
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        long start = System.nanoTime();
+        startLatch.countDown();
+        doneLatch.await();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        executorService.shutdown();
+
+        // then
+        System.out.println(String.format("%-18s %s (스레드 %2d) : 성공 %3d, 실패 %3d, 재시도 %3d, 소요 %5dms",
+                expectedStrategy(), label, threadCnt, successCnt.get(), failCnt.get(),
+                accountTransactionExecutor.getRetryCount() - retriesBefore, elapsedMillis));
+
+        Account updatedSenderAccount = accountRepository.findById(senderAccount.getId()).orElseThrow();
+        Account updatedReceiverAccount = accountRepository.findById(receiverAccount.getId()).orElseThrow();
+        assertThat(successCnt.get() + failCnt.get()).isEqualTo(threadCnt * transfersPerThread);
+        assertThat(updatedSenderAccount.getBalance().compareTo(BigDecimal.ZERO)).isGreaterThanOrEqualTo(0);
+        assertThat(updatedSenderAccount.getBalance().add(updatedReceiverAccount.getBalance()))
+                .isEqualByComparingTo(totalBefore);
+        assertThat(updatedReceiverAccount.getBalance())
+                .isEqualByComparingTo(TRANSFER_AMOUNT.multiply(new BigDecimal(successCnt.get())));
+    }
+}
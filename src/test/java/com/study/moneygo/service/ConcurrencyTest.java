@@ -1,15 +1,23 @@
 package com.study.moneygo.service;
 
+import com.study.moneygo.transfer.dto.request.BatchTransferRequest;
 import com.study.moneygo.transfer.dto.request.TransferRequest;
+import com.study.moneygo.transfer.dto.response.BatchTransferResponse;
 import com.study.moneygo.transfer.dto.response.TransferResponse;
 import com.study.moneygo.account.entity.Account;
 import com.study.moneygo.account.repository.AccountRepository;
+import com.study.moneygo.notification.repository.NotificationOutboxRepository;
+import com.study.moneygo.notification.repository.NotificationRepository;
 import com.study.moneygo.transaction.repository.TransactionRepository;
 import com.study.moneygo.transfer.repository.TransferLimitRepository;
 import com.study.moneygo.transfer.service.TransferService;
 import com.study.moneygo.qrpayment.repository.QrPaymentRepository;
 import com.study.moneygo.user.entity.User;
 import com.study.moneygo.user.repository.UserRepository;
+import com.study.moneygo.util.idempotency.IdempotentRequestExecutor;
+import com.study.moneygo.util.metrics.PaymentStageMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,15 +32,22 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.*;
 
 @SpringBootTest
 public class ConcurrencyTest {
+
+    private static final String SIMPLE_PASSWORD = "123456";
+
     @Autowired
     private TransferService transferService;
 
@@ -51,9 +66,18 @@ public class ConcurrencyTest {
     @Autowired
     private TransactionRepository transactionRepository;
 
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationOutboxRepository notificationOutboxRepository;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Autowired
     private UserDetailsService userDetailsService;
 
@@ -65,6 +89,8 @@ public class ConcurrencyTest {
     @BeforeEach
     @Transactional
     public void setUp() {
+        notificationOutboxRepository.deleteAll();
+        notificationRepository.deleteAll();
         qrPaymentRepository.deleteAll();
         transactionRepository.deleteAll();
         transferLimitRepository.deleteAll();
@@ -79,6 +105,8 @@ public class ConcurrencyTest {
                 .phone("010-1111-1111")
                 .status(User.UserStatus.ACTIVE)
                 .failedLoginAttempts(0)
+                .simplePassword(passwordEncoder.encode(SIMPLE_PASSWORD))
+                .failedSimplePasswordAttempts(0)
                 .build();
         sender = userRepository.save(sender);
 
@@ -90,6 +118,8 @@ public class ConcurrencyTest {
                 .phone("010-2222-2222")
                 .status(User.UserStatus.ACTIVE)
                 .failedLoginAttempts(0)
+                .simplePassword(passwordEncoder.encode(SIMPLE_PASSWORD))
+                .failedSimplePasswordAttempts(0)
                 .build();
         receiver = userRepository.save(receiver);
 
@@ -138,7 +168,7 @@ public class ConcurrencyTest {
                             receiverAccount.getAccountNumber(),
                             transferAmount,
                             "동시성 테스트",
-                            "Test1234!"
+                            SIMPLE_PASSWORD
                     );
 
                     TransferResponse response = transferService.transfer(request);
@@ -178,6 +208,278 @@ public class ConcurrencyTest {
         assertThat(updatedReceiverAccount.getBalance()).isEqualTo(expectedReceiverBalance);
         assertThat(updatedSenderAccount.getBalance().compareTo(BigDecimal.ZERO)).isGreaterThanOrEqualTo(0);
         assertThat(successCnt.get()).isEqualTo(10);
+
+        // 알림은 송금 트랜잭션 안에서 발송 대기열에만 저장됨 (송금 1건당 보낸 사람 / 받는 사람 2건)
+        assertThat(notificationOutboxRepository.count()).isEqualTo(successCnt.get() * 2L);
+
+        // 단계별 소요 시간 (같은 컨텍스트의 다른 테스트 기록이 누적될 수 있음)
+        System.out.println("===== 송금 단계별 소요 시간 =====");
+        meterRegistry.find(PaymentStageMetrics.METRIC_NAME).tag("flow", PaymentStageMetrics.TRANSFER).timers()
+                .forEach(timer -> System.out.println(timer.getId().getTag("stage")
+                        + " (" + timer.getId().getTag("outcome") + ") : count=" + timer.count()
+                        + ", mean=" + timer.mean(TimeUnit.MILLISECONDS) + "ms"));
+        Timer commitTimer = meterRegistry.find(PaymentStageMetrics.METRIC_NAME)
+                .tags("flow", PaymentStageMetrics.TRANSFER, "stage", PaymentStageMetrics.COMMIT, "outcome", "success")
+                .timer();
+        assertThat(commitTimer).isNotNull();
+        assertThat(commitTimer.count()).isGreaterThanOrEqualTo(successCnt.get());
+    }
+
+    @Test
+    @DisplayName("A→B, B→A 양방향 동시 송금 - 데드락 없이 모두 성공하고 총액 보존")
+    public void bidirectionalTransferTest() throws InterruptedException {
+        // given
+        // 수신자 계좌에도 잔액을 넣어 양방향 송금이 가능하도록 함
+        Account receiverWithBalance = accountRepository.findById(receiverAccount.getId()).orElseThrow();
+        receiverWithBalance.deposit(new BigDecimal("1000000.00"));
+        accountRepository.save(receiverWithBalance);
+
+        int threadCnt = 20; // 절반은 A→B, 절반은 B→A
+        int transfersPerThread = 5;
+        BigDecimal transferAmount = new BigDecimal("10000");
+        BigDecimal totalBefore = new BigDecimal("2000000.00");
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCnt);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(threadCnt);
+
+        AtomicInteger successCnt = new AtomicInteger(0);
+        AtomicInteger failCnt = new AtomicInteger(0);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+
+        // when
+        for (int i = 0; i < threadCnt; i++) {
+            boolean forward = i % 2 == 0;
+            executorService.submit(() -> {
+                try {
+                    setAuthentication(forward ? "sender@test.com" : "receiver@test.com");
+                    String toAccountNumber = forward
+                            ? receiverAccount.getAccountNumber()
+                            : senderAccount.getAccountNumber();
+                    startLatch.await();
+
+                    for (int j = 0; j < transfersPerThread; j++) {
+                        long start = System.nanoTime();
+                        try {
+                            transferService.transfer(new TransferRequest(
+                                    toAccountNumber, transferAmount, "양방향 동시성 테스트", SIMPLE_PASSWORD));
+                            successCnt.incrementAndGet();
+                        } catch (Exception e) {
+                            failCnt.incrementAndGet();
+                            System.out.println("=== 송금 실패 : " + e.getMessage() + " ===");
+                        } finally {
+                            latencies.add(System.nanoTime() - start);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    SecurityContextHolder.clearContext();
+                    doneLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        doneLatch.await();
+        executorService.shutdown();
+
+        // then
+        Account updatedSenderAccount = accountRepository.findById(senderAccount.getId()).orElseThrow();
+        Account updatedReceiverAccount = accountRepository.findById(receiverAccount.getId()).orElseThrow();
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        long p50 = sorted.get((int) (sorted.size() * 0.50)) / 1_000_000;
+        long p99 = sorted.get(Math.min(sorted.size() - 1, (int) (sorted.size() * 0.99))) / 1_000_000;
+
+        System.out.println("\n===== 양방향 송금 테스트 결과 =====");
+        System.out.println("성공 횟수 : " + successCnt.get());
+        System.out.println("실패 횟수 : " + failCnt.get());
+        System.out.println("p50 지연(ms) : " + p50 + ", p99 지연(ms) : " + p99);
+        System.out.println("==================================\n");
+
+        assertThat(failCnt.get()).isZero();
+        assertThat(successCnt.get()).isEqualTo(threadCnt * transfersPerThread);
+        assertThat(updatedSenderAccount.getBalance().add(updatedReceiverAccount.getBalance()))
+                .isEqualByComparingTo(totalBefore);
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key로 동시에 10번 송금 - 한 번만 처리되고 같은 응답 반환")
+    public void duplicateIdempotencyKeyTest() throws InterruptedException {
+        // given
+        int threadCnt = 10;
+        BigDecimal transferAmount = new BigDecimal("100000");
+        String idempotencyKey = "retry-" + System.nanoTime();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCnt);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(threadCnt);
+        List<Long> transactionIds = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger failCnt = new AtomicInteger(0);
+
+        // when
+        for (int i = 0; i < threadCnt; i++) {
+            executorService.submit(() -> {
+                try {
+                    setAuthentication("sender@test.com");
+                    startLatch.await();
+                    TransferResponse response = transferService.transfer(new TransferRequest(
+                            receiverAccount.getAccountNumber(), transferAmount, "재시도 테스트", SIMPLE_PASSWORD),
+                            idempotencyKey);
+                    transactionIds.add(response.getTransactionId());
+                } catch (Exception e) {
+                    failCnt.incrementAndGet();
+                    System.out.println("=== 송금 실패 : " + e.getMessage() + " ===");
+                } finally {
+                    SecurityContextHolder.clearContext();
+                    doneLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        doneLatch.await();
+        executorService.shutdown();
+
+        // then
+        Account updatedSenderAccount = accountRepository.findById(senderAccount.getId()).orElseThrow();
+
+        assertThat(failCnt.get()).isZero();
+        assertThat(transactionIds).hasSize(threadCnt);
+        assertThat(transactionIds.stream().distinct().count()).isEqualTo(1);
+        assertThat(transactionRepository.count()).isEqualTo(1);
+        assertThat(updatedSenderAccount.getBalance())
+                .isEqualByComparingTo(senderAccount.getBalance().subtract(transferAmount));
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key를 다른 금액에 재사용 - 캐시된 응답 대신 거절")
+    public void reusedIdempotencyKeyWithDifferentAmountTest() {
+        // given
+        String idempotencyKey = "reuse-" + System.nanoTime();
+        setAuthentication("sender@test.com");
+
+        try {
+            TransferResponse first = transferService.transfer(new TransferRequest(
+                    receiverAccount.getAccountNumber(), new BigDecimal("100000"), "첫 송금", SIMPLE_PASSWORD),
+                    idempotencyKey);
+
+            // when & then (같은 내용이면 캐시 응답, 금액이 다르면 거절)
+            TransferResponse replayed = transferService.transfer(new TransferRequest(
+                    receiverAccount.getAccountNumber(), new BigDecimal("100000.00"), "첫 송금", SIMPLE_PASSWORD),
+                    idempotencyKey);
+            assertThat(replayed.getTransactionId()).isEqualTo(first.getTransactionId());
+
+            assertThatThrownBy(() -> transferService.transfer(new TransferRequest(
+                    receiverAccount.getAccountNumber(), new BigDecimal("200000"), "다른 송금", SIMPLE_PASSWORD),
+                    idempotencyKey))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage(IdempotentRequestExecutor.KEY_REUSED_MESSAGE);
+
+            assertThat(transactionRepository.count()).isEqualTo(1);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key로 다른 금액을 동시에 송금 - 처리 중인 요청에 합류하지 않고 거절")
+    public void concurrentReusedIdempotencyKeyTest() throws InterruptedException {
+        // given
+        int threadCnt = 10;
+        String idempotencyKey = "reuse-" + System.nanoTime();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCnt);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(threadCnt);
+        List<BigDecimal> succeededAmounts = Collections.synchronizedList(new ArrayList<>());
+        List<String> failMessages = Collections.synchronizedList(new ArrayList<>());
+
+        // when (절반은 10만원, 절반은 20만원)
+        for (int i = 0; i < threadCnt; i++) {
+            BigDecimal amount = new BigDecimal(i % 2 == 0 ? "100000" : "200000");
+            executorService.submit(() -> {
+                try {
+                    setAuthentication("sender@test.com");
+                    startLatch.await();
+                    transferService.transfer(new TransferRequest(
+                            receiverAccount.getAccountNumber(), amount, "재사용 테스트", SIMPLE_PASSWORD),
+                            idempotencyKey);
+                    succeededAmounts.add(amount);
+                } catch (Exception e) {
+                    failMessages.add(e.getMessage());
+                } finally {
+                    SecurityContextHolder.clearContext();
+                    doneLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        doneLatch.await();
+        executorService.shutdown();
+
+        // then (먼저 처리된 금액의 요청만 성공, 다른 금액은 모두 키 재사용으로 거절)
+        assertThat(transactionRepository.count()).isEqualTo(1);
+        BigDecimal processedAmount = transactionRepository.findAll().get(0).getAmount();
+        assertThat(succeededAmounts).hasSize(threadCnt / 2)
+                .allMatch(amount -> amount.compareTo(processedAmount) == 0);
+        assertThat(failMessages).hasSize(threadCnt / 2)
+                .allMatch(IdempotentRequestExecutor.KEY_REUSED_MESSAGE::equals);
+
+        Account updatedSenderAccount = accountRepository.findById(senderAccount.getId()).orElseThrow();
+        assertThat(updatedSenderAccount.getBalance())
+                .isEqualByComparingTo(senderAccount.getBalance().subtract(processedAmount));
+    }
+
+    @Test
+    @DisplayName("일괄 송금 50건 - 단건 송금 50회와 처리량 비교")
+    public void batchTransferThroughputTest() {
+        // given
+        int itemCnt = 50;
+        BigDecimal transferAmount = new BigDecimal("10000");
+        setAuthentication("sender@test.com");
+
+        try {
+            // when
+            // 1. 단건 송금 50회
+            long singleStart = System.nanoTime();
+            for (int i = 0; i < itemCnt; i++) {
+                transferService.transfer(new TransferRequest(
+                        receiverAccount.getAccountNumber(), transferAmount, "단건 송금", SIMPLE_PASSWORD));
+            }
+            long singleMillis = Math.max(1, (System.nanoTime() - singleStart) / 1_000_000);
+
+            // 2. 일괄 송금 50건
+            List<BatchTransferRequest.Item> items = new ArrayList<>();
+            for (int i = 0; i < itemCnt; i++) {
+                items.add(new BatchTransferRequest.Item(receiverAccount.getAccountNumber(), transferAmount, "일괄 송금"));
+            }
+            long batchStart = System.nanoTime();
+            BatchTransferResponse response = transferService.transferBatch(new BatchTransferRequest(items, SIMPLE_PASSWORD));
+            long batchMillis = Math.max(1, (System.nanoTime() - batchStart) / 1_000_000);
+
+            // then
+            Account updatedSenderAccount = accountRepository.findById(senderAccount.getId()).orElseThrow();
+            Account updatedReceiverAccount = accountRepository.findById(receiverAccount.getId()).orElseThrow();
+            BigDecimal totalTransferred = transferAmount.multiply(new BigDecimal(itemCnt * 2));
+
+            System.out.println("\n===== 일괄 송금 처리량 비교 =====");
+            System.out.println("단건 송금 " + itemCnt + "회 : " + singleMillis + "ms ("
+                    + String.format("%.1f", itemCnt * 1000.0 / singleMillis) + " tps)");
+            System.out.println("일괄 송금 " + itemCnt + "건 : " + batchMillis + "ms ("
+                    + String.format("%.1f", itemCnt * 1000.0 / batchMillis) + " tps)");
+            System.out.println("================================\n");
+
+            assertThat(response.getSuccessCount()).isEqualTo(itemCnt);
+            assertThat(response.getFailedCount()).isZero();
+            assertThat(response.getResults()).allMatch(result -> result.getTransactionId() != null);
+            assertThat(transactionRepository.count()).isEqualTo(itemCnt * 2L);
+            assertThat(updatedSenderAccount.getBalance())
+                    .isEqualByComparingTo(senderAccount.getBalance().subtract(totalTransferred));
+            assertThat(updatedReceiverAccount.getBalance()).isEqualByComparingTo(totalTransferred);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
     }
 
     private void setAuthentication(String email) {
@@ -0,0 +1,16 @@
+package com.study.moneygo.service;
+
+import com.study.moneygo.account.service.AccountConcurrencyStrategy;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 조건부 UPDATE 방식 동시 송금
+ */
+@SpringBootTest(properties = "moneygo.account.concurrency-strategy=CONDITIONAL_UPDATE")
+public class ConditionalUpdateConcurrencyStrategyTest extends AbstractConcurrencyStrategyTest {
+
+    @Override
+    protected AccountConcurrencyStrategy expectedStrategy() {
+        return AccountConcurrencyStrategy.CONDITIONAL_UPDATE;
+    }
+}
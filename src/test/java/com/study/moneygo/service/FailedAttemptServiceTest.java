@@ -0,0 +1,118 @@
+package com.study.moneygo.service;
+
+import com.study.moneygo.support.TestFixtures;
+import com.study.moneygo.user.entity.User;
+import com.study.moneygo.user.repository.UserRepository;
+import com.study.moneygo.user.service.FailedAttemptService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실패 횟수 집계 / 잠금 반영 확인
+ */
+@SpringBootTest
+@Import(TestFixtures.class)
+public class FailedAttemptServiceTest {
+
+    @Autowired
+    private FailedAttemptService failedAttemptService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        fixtures.deleteAll();
+        user = fixtures.saveUser("me@test.com", "나");
+    }
+
+    @Test
+    @DisplayName("로그인 실패가 정확히 MAX_FAILED_LOGIN_ATTEMPTS에 도달하면 바로 잠김")
+    public void locksAtExactlyMaxLoginFailures() {
+        for (int i = 1; i < User.MAX_FAILED_LOGIN_ATTEMPTS; i++) {
+            assertThat(failedAttemptService.recordLoginFailure(user)).isEqualTo(i);
+        }
+        // 한도 전에는 DB에 쓰지 않고 잠기지도 않음
+        assertThat(reload().getStatus()).isEqualTo(User.UserStatus.ACTIVE);
+        assertThat(reload().getFailedLoginAttemptCount()).isZero();
+
+        assertThat(failedAttemptService.recordLoginFailure(user)).isEqualTo(User.MAX_FAILED_LOGIN_ATTEMPTS);
+        assertThat(reload().getStatus()).isEqualTo(User.UserStatus.LOCKED);
+        assertThat(reload().getFailedLoginAttemptCount()).isEqualTo(User.MAX_FAILED_LOGIN_ATTEMPTS);
+    }
+
+    @Test
+    @DisplayName("간편 비밀번호 실패가 정확히 MAX_FAILED_SIMPLE_PASSWORD_ATTEMPTS에 도달하면 바로 잠김")
+    public void locksAtExactlyMaxSimplePasswordFailures() {
+        for (int i = 1; i < User.MAX_FAILED_SIMPLE_PASSWORD_ATTEMPTS; i++) {
+            assertThat(failedAttemptService.recordSimplePasswordFailure(user)).isEqualTo(i);
+        }
+        assertThat(reload().getStatus()).isEqualTo(User.UserStatus.ACTIVE);
+
+        assertThat(failedAttemptService.recordSimplePasswordFailure(user))
+                .isEqualTo(User.MAX_FAILED_SIMPLE_PASSWORD_ATTEMPTS);
+        assertThat(reload().getStatus()).isEqualTo(User.UserStatus.LOCKED);
+        assertThat(reload().getFailedSimplePasswordAttemptCount()).isEqualTo(User.MAX_FAILED_SIMPLE_PASSWORD_ATTEMPTS);
+    }
+
+    @Test
+    @DisplayName("주기 반영과 동시에 실패가 기록돼도 횟수가 사라지지 않음")
+    public void concurrentFailuresAndFlushAreNotLost() throws InterruptedException {
+        int threadCnt = 8;
+        int failuresPerThread = 50;
+        // 잠금 기준에 닿지 않도록 실패 횟수를 음수에서 시작 (모두 반영되면 정확히 0)
+        User neverLocks = fixtures.saveUser(fixtures.user("many@test.com", "다수").failedLoginAttempts(-threadCnt * failuresPerThread));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCnt + 1);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(threadCnt);
+        for (int i = 0; i < threadCnt; i++) {
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    for (int j = 0; j < failuresPerThread; j++) {
+                        failedAttemptService.recordLoginFailure(neverLocks);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        executorService.submit(() -> {
+            while (doneLatch.getCount() > 0) {
+                failedAttemptService.flush();
+            }
+        });
+        startLatch.countDown();
+        doneLatch.await();
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        failedAttemptService.flush();
+
+        User reloaded = userRepository.findById(neverLocks.getId()).orElseThrow();
+        assertThat(reloaded.getFailedLoginAttemptCount()).isZero();
+        assertThat(reloaded.getStatus()).isEqualTo(User.UserStatus.ACTIVE);
+    }
+
+    private User reload() {
+        return userRepository.findById(user.getId()).orElseThrow();
+    }
+}
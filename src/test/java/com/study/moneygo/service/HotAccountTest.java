@@ -0,0 +1,161 @@
+package com.study.moneygo.service;
+
+import com.study.moneygo.account.entity.Account;
+import com.study.moneygo.account.repository.AccountRepository;
+import com.study.moneygo.account.service.HotAccountService;
+import com.study.moneygo.qrpayment.dto.request.QrGenerateRequest;
+import com.study.moneygo.qrpayment.dto.request.QrPayRequest;
+import com.study.moneygo.qrpayment.service.QrPaymentService;
+import com.study.moneygo.support.TestFixtures;
+import com.study.moneygo.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 핫 계좌 입금 저널 / 합산 확인
+ */
+@SpringBootTest
+@Import(TestFixtures.class)
+public class HotAccountTest {
+
+    private static final String SIMPLE_PASSWORD = "123456";
+    private static final BigDecimal PAYMENT_AMOUNT = new BigDecimal("1000");
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private QrPaymentService qrPaymentService;
+
+    @Autowired
+    private HotAccountService hotAccountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private User merchantA;
+    private User merchantB;
+    private Account accountA;
+    private Account accountB;
+
+    @BeforeEach
+    public void setUp() {
+        fixtures.deleteAll();
+
+        merchantA = fixtures.saveUser(fixtures.user("a@test.com", "가게A")
+                .simplePassword(passwordEncoder.encode(SIMPLE_PASSWORD)));
+        merchantB = fixtures.saveUser(fixtures.user("b@test.com", "가게B")
+                .simplePassword(passwordEncoder.encode(SIMPLE_PASSWORD)));
+        accountA = fixtures.saveAccount(merchantA, "1001-0001-0001");
+        accountB = fixtures.saveAccount(merchantB, "1001-0002-0002");
+        hotAccountService.enable(accountA.getId());
+        hotAccountService.enable(accountB.getId());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        fixtures.logout();
+    }
+
+    @Test
+    @DisplayName("입금 저널 합산 - 합산 전에는 조회 잔액에만 보이고, 합산 후 계좌 잔액으로 이동")
+    public void creditIsRolledUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            hotAccountService.credit(accountA.getId(), new BigDecimal("3000"));
+            hotAccountService.credit(accountA.getId(), new BigDecimal("2000"));
+        });
+
+        Account before = accountRepository.findById(accountA.getId()).orElseThrow();
+        assertThat(before.getBalance()).isEqualByComparingTo("0");
+        assertThat(hotAccountService.getAvailableBalance(before)).isEqualByComparingTo("5000");
+
+        assertThat(hotAccountService.rollUp(accountA.getId())).isEqualByComparingTo("5000");
+        Account after = accountRepository.findById(accountA.getId()).orElseThrow();
+        assertThat(after.getBalance()).isEqualByComparingTo("5000");
+        assertThat(hotAccountService.getPendingBalance(accountA.getId())).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("두 핫 계좌가 서로에게 동시에 QR 결제 (합산 필요) - 교착 없이 총액 보존")
+    public void hotMerchantsPayEachOther() throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        List<String> failures = Collections.synchronizedList(new ArrayList<>());
+        BigDecimal seeded = BigDecimal.ZERO;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            // 계좌 행 잔액이 아니라 입금 저널에만 돈이 있도록 적립 (결제 시 구매자 합산이 필요)
+            transactionTemplate.executeWithoutResult(status -> {
+                hotAccountService.credit(accountA.getId(), PAYMENT_AMOUNT);
+                hotAccountService.credit(accountB.getId(), PAYMENT_AMOUNT);
+            });
+            seeded = seeded.add(PAYMENT_AMOUNT.multiply(new BigDecimal("2")));
+
+            String qrOfA = generateQr(merchantA, accountA);
+            String qrOfB = generateQr(merchantB, accountB);
+
+            CountDownLatch startLatch = new CountDownLatch(1);
+            CountDownLatch doneLatch = new CountDownLatch(2);
+            executorService.submit(() -> pay(merchantA, accountA, qrOfB, startLatch, doneLatch, failures));
+            executorService.submit(() -> pay(merchantB, accountB, qrOfA, startLatch, doneLatch, failures));
+            startLatch.countDown();
+            assertThat(doneLatch.await(30, TimeUnit.SECONDS)).isTrue();
+        }
+        executorService.shutdown();
+
+        assertThat(failures).isEmpty();
+        BigDecimal total = availableBalance(accountA).add(availableBalance(accountB));
+        assertThat(total).isEqualByComparingTo(seeded);
+    }
+
+    private String generateQr(User seller, Account sellerAccount) {
+        fixtures.loginAs(seller, sellerAccount);
+        try {
+            return qrPaymentService.generateQrCode(new QrGenerateRequest(PAYMENT_AMOUNT, "핫 계좌 테스트")).getQrCode();
+        } finally {
+            fixtures.logout();
+        }
+    }
+
+    private void pay(User buyer, Account buyerAccount, String qrCode,
+                     CountDownLatch startLatch, CountDownLatch doneLatch, List<String> failures) {
+        try {
+            fixtures.loginAs(buyer, buyerAccount);
+            startLatch.await();
+            qrPaymentService.payWithQrCode(new QrPayRequest(qrCode, SIMPLE_PASSWORD, null));
+        } catch (Exception e) {
+            failures.add(e.getMessage());
+        } finally {
+            fixtures.logout();
+            doneLatch.countDown();
+        }
+    }
+
+    private BigDecimal availableBalance(Account account) {
+        return hotAccountService.getAvailableBalance(accountRepository.findById(account.getId()).orElseThrow());
+    }
+}
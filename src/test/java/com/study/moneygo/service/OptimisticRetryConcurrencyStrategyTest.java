@@ -0,0 +1,16 @@
+package com.study.moneygo.service;
+
+import com.study.moneygo.account.service.AccountConcurrencyStrategy;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 낙관적 Lock + 재시도 방식 동시 송금
+ */
+@SpringBootTest(properties = "moneygo.account.concurrency-strategy=OPTIMISTIC_RETRY")
+public class OptimisticRetryConcurrencyStrategyTest extends AbstractConcurrencyStrategyTest {
+
+    @Override
+    protected AccountConcurrencyStrategy expectedStrategy() {
+        return AccountConcurrencyStrategy.OPTIMISTIC_RETRY;
+    }
+}
@@ -0,0 +1,88 @@
+package com.study.moneygo.service;
+
+import com.study.moneygo.support.TestFixtures;
+import com.study.moneygo.user.dto.request.LoginRequest;
+import com.study.moneygo.user.entity.User;
+import com.study.moneygo.user.repository.UserRepository;
+import com.study.moneygo.user.service.AuthService;
+import com.study.moneygo.util.security.PasswordEncoderFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 성공 시 예전 설정으로 저장된 비밀번호 해시를 현재 설정으로 다시 저장하는지 확인
+ */
+@SpringBootTest(properties = {
+        "moneygo.security.password.algorithm=pbkdf2",
+        "moneygo.security.password.pbkdf2-iterations=2000"
+})
+@Import(TestFixtures.class)
+public class PasswordRehashTest {
+
+    private static final String EMAIL = "me@test.com";
+    private static final String RAW_PASSWORD = "password1!";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @BeforeEach
+    public void setUp() {
+        fixtures.deleteAll();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        fixtures.logout();
+    }
+
+    @Test
+    @DisplayName("PBKDF2 반복 횟수를 바꾼 뒤 로그인하면 새 반복 횟수로 재해시")
+    public void loginRehashesAfterIterationChange() {
+        String stored = PasswordEncoderFactory.create(PasswordEncoderFactory.PBKDF2, 4, 1000).encode(RAW_PASSWORD);
+        User user = saveUserWithPassword(stored);
+
+        authService.login(new LoginRequest(EMAIL, RAW_PASSWORD));
+
+        String rehashed = reload(user).getPassword();
+        assertThat(rehashed).startsWith("{" + PasswordEncoderFactory.pbkdf2Id(2000) + "}");
+
+        // 현재 설정으로 저장된 해시는 다시 쓰지 않음
+        authService.login(new LoginRequest(EMAIL, RAW_PASSWORD));
+        assertThat(reload(user).getPassword()).isEqualTo(rehashed);
+    }
+
+    @Test
+    @DisplayName("반복 횟수 없는 예전 {pbkdf2} 해시도 로그인되고 재해시")
+    public void loginRehashesLegacyPbkdf2Id() {
+        String stored = PasswordEncoderFactory.create(PasswordEncoderFactory.PBKDF2, 4, 2000).encode(RAW_PASSWORD)
+                .replace("{" + PasswordEncoderFactory.pbkdf2Id(2000) + "}", "{pbkdf2}");
+        User user = saveUserWithPassword(stored);
+
+        authService.login(new LoginRequest(EMAIL, RAW_PASSWORD));
+
+        assertThat(reload(user).getPassword()).startsWith("{" + PasswordEncoderFactory.pbkdf2Id(2000) + "}");
+    }
+
+    private User saveUserWithPassword(String encodedPassword) {
+        User user = fixtures.saveUser(fixtures.user(EMAIL, "나").password(encodedPassword));
+        fixtures.saveAccount(user, "1001-0001-0001");
+        return user;
+    }
+
+    private User reload(User user) {
+        return userRepository.findById(user.getId()).orElseThrow();
+    }
+}
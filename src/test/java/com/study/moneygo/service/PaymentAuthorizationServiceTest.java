@@ -0,0 +1,206 @@
+package com.study.moneygo.service;
+
+import com.study.moneygo.account.entity.Account;
+import com.study.moneygo.simplepassword.dto.request.PaymentAuthorizeRequest;
+import com.study.moneygo.simplepassword.dto.response.PaymentAuthorizeResponse;
+import com.study.moneygo.simplepassword.entity.PaymentAuthorization;
+import com.study.moneygo.simplepassword.repository.PaymentAuthorizationRepository;
+import com.study.moneygo.simplepassword.service.PaymentAuthorizationService;
+import com.study.moneygo.support.TestFixtures;
+import com.study.moneygo.transfer.dto.request.TransferRequest;
+import com.study.moneygo.transfer.service.TransferService;
+import com.study.moneygo.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.IllegalTransactionStateException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 결제 인증 토큰 발급 / 차감 / 만료 / 금액 한도 확인
+ * 차감은 결제 트랜잭션 안에서 일어나므로 송금으로 검증한다.
+ */
+@SpringBootTest
+@Import(TestFixtures.class)
+public class PaymentAuthorizationServiceTest {
+
+    private static final String SIMPLE_PASSWORD = "123456";
+    private static final String RECEIVER_ACCOUNT_NUMBER = "1001-0002-0002";
+
+    @Autowired
+    private PaymentAuthorizationService paymentAuthorizationService;
+
+    @Autowired
+    private PaymentAuthorizationRepository paymentAuthorizationRepository;
+
+    @Autowired
+    private TransferService transferService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private User sender;
+    private Account senderAccount;
+
+    @BeforeEach
+    public void setUp() {
+        fixtures.deleteAll();
+
+        sender = fixtures.saveUser(fixtures.user("sender@test.com", "송금자")
+                .simplePassword(passwordEncoder.encode(SIMPLE_PASSWORD)));
+        senderAccount = fixtures.saveAccount(sender, "1001-0001-0001", new BigDecimal("100000.00"));
+        fixtures.saveAccount(fixtures.saveUser("receiver@test.com", "수신자"), RECEIVER_ACCOUNT_NUMBER);
+
+        fixtures.loginAs(sender, senderAccount);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        fixtures.logout();
+    }
+
+    @Test
+    @DisplayName("발급한 토큰은 원문 없이 digest로 저장되고 요청한 한도를 가짐")
+    public void issueStoresDigestOnly() {
+        PaymentAuthorizeResponse response = authorize("50000", 2);
+
+        assertThat(response.getMaxUses()).isEqualTo(2);
+        assertThat(response.getExpiresAt()).isAfter(LocalDateTime.now());
+
+        PaymentAuthorization stored = stored();
+        assertThat(stored.getTokenHash()).isNotEqualTo(response.getPaymentToken());
+        assertThat(stored.getUserId()).isEqualTo(sender.getId());
+        assertThat(stored.getRemainingAmount()).isEqualByComparingTo("50000");
+        assertThat(stored.getRemainingUses()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("설정된 최대 사용 횟수를 넘으면 줄이지 않고 거부")
+    public void maxUsesAboveConfiguredLimitIsRejected() {
+        assertThatThrownBy(() -> authorize("50000", 11))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("사용 횟수는 최대 10회입니다.");
+        assertThat(paymentAuthorizationRepository.count()).isZero();
+
+        assertThat(authorize("50000", 10).getMaxUses()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("송금할 때마다 횟수 / 금액이 차감되고, 횟수를 다 쓰면 거부")
+    public void consumeUntilUsesExhausted() {
+        String token = authorize("50000", 2).getPaymentToken();
+
+        transfer("10000", token);
+        transfer("10000", token);
+
+        PaymentAuthorization stored = stored();
+        assertThat(stored.getRemainingUses()).isZero();
+        assertThat(stored.getRemainingAmount()).isEqualByComparingTo("30000");
+
+        assertThatThrownBy(() -> transfer("10000", token))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("결제 인증 토큰");
+    }
+
+    @Test
+    @DisplayName("남은 금액보다 큰 결제는 거부하고 토큰은 그대로")
+    public void amountCapIsEnforced() {
+        String token = authorize("15000", 3).getPaymentToken();
+
+        transfer("10000", token);
+        assertThatThrownBy(() -> transfer("10000", token))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("결제 인증 토큰");
+
+        PaymentAuthorization stored = stored();
+        assertThat(stored.getRemainingUses()).isEqualTo(2);
+        assertThat(stored.getRemainingAmount()).isEqualByComparingTo("5000");
+        transfer("5000", token);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 거부하고 정리 대상")
+    public void expiredTokenIsRejectedAndPurged() {
+        String token = authorize("50000", 1).getPaymentToken();
+        jdbcTemplate.update("UPDATE payment_authorizations SET expires_at = ?", LocalDateTime.now().minusSeconds(1));
+
+        assertThatThrownBy(() -> transfer("10000", token))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("결제 인증 토큰");
+
+        assertThat(paymentAuthorizationService.purgeExpired()).isEqualTo(1);
+        assertThat(paymentAuthorizationRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("송금이 실패해 롤백되면 토큰 차감도 롤백")
+    public void failedPaymentDoesNotSpendToken() {
+        String token = authorize("200000", 1).getPaymentToken();
+
+        // 잔액(10만원)보다 큰 송금
+        assertThatThrownBy(() -> transfer("150000", token))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("잔액이 부족합니다");
+
+        PaymentAuthorization stored = stored();
+        assertThat(stored.getRemainingUses()).isEqualTo(1);
+        assertThat(stored.getRemainingAmount()).isEqualByComparingTo("200000");
+        transfer("10000", token);
+    }
+
+    @Test
+    @DisplayName("다른 사용자가 발급받은 토큰은 사용할 수 없음")
+    public void tokenIsBoundToUser() {
+        String token = authorize("50000", 1).getPaymentToken();
+
+        User other = fixtures.saveUser("other@test.com", "다른사용자");
+        fixtures.loginAs(other, fixtures.saveAccount(other, "1001-0003-0003", new BigDecimal("100000.00")));
+
+        assertThatThrownBy(() -> transfer("10000", token))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("결제 인증 토큰");
+        assertThat(stored().getRemainingUses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰 차감은 결제 트랜잭션 밖에서 호출할 수 없음")
+    public void consumeRequiresTransaction() {
+        String token = authorize("50000", 1).getPaymentToken();
+
+        assertThatThrownBy(() -> paymentAuthorizationService.consume(sender.getId(),
+                new TransferRequest(RECEIVER_ACCOUNT_NUMBER, new BigDecimal("10000"), null, null, token),
+                new BigDecimal("10000")))
+                .isInstanceOf(IllegalTransactionStateException.class);
+        assertThat(stored().getRemainingUses()).isEqualTo(1);
+    }
+
+    private PaymentAuthorizeResponse authorize(String maxAmount, int maxUses) {
+        return paymentAuthorizationService.authorize(
+                new PaymentAuthorizeRequest(SIMPLE_PASSWORD, new BigDecimal(maxAmount), maxUses));
+    }
+
+    private void transfer(String amount, String token) {
+        transferService.transfer(new TransferRequest(RECEIVER_ACCOUNT_NUMBER, new BigDecimal(amount), null, null, token));
+    }
+
+    private PaymentAuthorization stored() {
+        return paymentAuthorizationRepository.findAll().get(0);
+    }
+}
@@ -0,0 +1,16 @@
+package com.study.moneygo.service;
+
+import com.study.moneygo.account.service.AccountConcurrencyStrategy;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 비관적 Lock 방식 동시 송금
+ */
+@SpringBootTest(properties = "moneygo.account.concurrency-strategy=PESSIMISTIC")
+public class PessimisticConcurrencyStrategyTest extends AbstractConcurrencyStrategyTest {
+
+    @Override
+    protected AccountConcurrencyStrategy expectedStrategy() {
+        return AccountConcurrencyStrategy.PESSIMISTIC;
+    }
+}
@@ -0,0 +1,192 @@
+package com.study.moneygo.service;
+
+import com.study.moneygo.account.entity.Account;
+import com.study.moneygo.support.TestFixtures;
+import com.study.moneygo.user.entity.User;
+import com.study.moneygo.user.repository.TokenRevocationRepository;
+import com.study.moneygo.user.repository.UserRepository;
+import com.study.moneygo.user.service.TokenRevocationService;
+import com.study.moneygo.util.security.AuthenticatedUser;
+import com.study.moneygo.util.security.JwtAuthenticationFilter;
+import com.study.moneygo.util.security.JwtTokenProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 폐기 기준(watermark) / 서버 간 동기화 / JWT 필터 인증 확인
+ */
+@SpringBootTest
+@Import(TestFixtures.class)
+public class TokenRevocationTest {
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private TokenRevocationRepository tokenRevocationRepository;
+
+    @Autowired
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Account account;
+
+    @BeforeEach
+    public void setUp() {
+        fixtures.deleteAll();
+        user = fixtures.saveUser("me@test.com", "나");
+        account = fixtures.saveAccount(user, "1001-0001-0001");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        fixtures.logout();
+    }
+
+    @Test
+    @DisplayName("기준 이전에 발급된 토큰은 거부, 기준 이후에 발급된 토큰은 통과")
+    public void revokedBeforeWatermarkOnly() throws Exception {
+        String before = issueToken();
+        assertThat(authenticate(before)).isNotNull();
+
+        tokenRevocationService.revokeAll(user.getId(), TokenRevocationService.PASSWORD_CHANGED);
+        long watermark = watermarkOf(user);
+
+        assertThat(tokenRevocationService.isRevoked(user.getId(), new Date(watermark - 1))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(user.getId(), new Date(watermark))).isFalse();
+        assertThat(authenticate(before)).isNull();
+
+        // 기준 시각이 지난 뒤 재로그인한 토큰은 통과
+        sleepUntil(watermark);
+        String after = issueToken();
+        Authentication authentication = authenticate(after);
+        assertThat(authentication).isNotNull();
+        assertThat(((AuthenticatedUser) authentication.getPrincipal()).getUserId()).isEqualTo(user.getId());
+    }
+
+    @Test
+    @DisplayName("폐기와 같은 초에 발급된 토큰도 거부 (iat은 초 단위)")
+    public void sameSecondIssuanceIsRevoked() throws Exception {
+        // 폐기 직후 발급이 다음 초로 넘어가지 않도록 초의 앞부분에서 시작
+        while (System.currentTimeMillis() % 1000 > 500) {
+            Thread.sleep(10);
+        }
+        tokenRevocationService.revokeAll(user.getId(), TokenRevocationService.ACCOUNT_LOCKED);
+        String sameSecond = issueToken();
+
+        assertThat(jwtTokenProvider.parseValidClaims(sameSecond).orElseThrow().getIssuedAt().getTime())
+                .isLessThan(watermarkOf(user));
+        assertThat(authenticate(sameSecond)).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 서버가 기록한 폐기가 마지막 기준보다 조금 이르더라도 refresh()로 가져옴")
+    public void refreshPicksUpRowInsideOverlapWindow() throws Exception {
+        User other = fixtures.saveUser("other@test.com", "상대방");
+        Account otherAccount = fixtures.saveAccount(other, "1001-0002-0002");
+        String otherToken = jwtTokenProvider.generateToken(fixtures.authentication(other, otherAccount), otherAccount.getId());
+
+        // 이 서버가 먼저 더 늦은 기준을 반영
+        tokenRevocationService.revokeAll(user.getId(), TokenRevocationService.PASSWORD_CHANGED);
+        long lastSeen = watermarkOf(user);
+
+        // 다른 서버의 커밋이 늦게 보이는 경우: 기준이 마지막으로 본 값보다 30초 이른 행
+        long otherWatermark = lastSeen - 30_000;
+        jdbcTemplate.update(
+                "INSERT INTO token_revocations (user_id, revoked_before, reason, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?)",
+                other.getId(), otherWatermark, TokenRevocationService.ACCOUNT_DELETED,
+                Timestamp.valueOf(LocalDateTime.now()), Timestamp.valueOf(LocalDateTime.now()));
+        assertThat(tokenRevocationService.isRevoked(other.getId(), new Date(otherWatermark - 1))).isFalse();
+
+        assertThat(tokenRevocationService.refresh()).isGreaterThanOrEqualTo(2);
+
+        assertThat(tokenRevocationService.isRevoked(other.getId(), new Date(otherWatermark - 1))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(other.getId(), new Date(otherWatermark))).isFalse();
+        // 토큰 발급(현재)은 30초 이른 기준보다 뒤이므로 그대로 통과
+        assertThat(authenticate(otherToken)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("uid claim이 없는 예전 토큰은 DB에서 사용자 상태를 확인해 인증")
+    public void legacyTokenFallsBackToDatabase() throws Exception {
+        String legacy = jwtTokenProvider.generateToken(user.getEmail());
+        assertThat(jwtTokenProvider.parseValidClaims(legacy).orElseThrow()
+                .get(JwtTokenProvider.USER_ID_CLAIM, Long.class)).isNull();
+
+        Authentication authentication = authenticate(legacy);
+        assertThat(authentication).isNotNull();
+        assertThat(((AuthenticatedUser) authentication.getPrincipal()).getUserId()).isEqualTo(user.getId());
+
+        // 잠긴 사용자는 예전 토큰으로도 인증되지 않음 (사용자 변경 시 캐시 무효화)
+        User locked = userRepository.findById(user.getId()).orElseThrow();
+        locked.lock();
+        userRepository.save(locked);
+        assertThat(authenticate(legacy)).isNull();
+    }
+
+    @Test
+    @DisplayName("uid claim이 없는 예전 토큰도 폐기 기준을 따름")
+    public void legacyTokenRespectsRevocation() throws Exception {
+        String legacy = jwtTokenProvider.generateToken(user.getEmail());
+        assertThat(authenticate(legacy)).isNotNull();
+
+        tokenRevocationService.revokeAll(user.getId(), TokenRevocationService.PASSWORD_CHANGED);
+        assertThat(authenticate(legacy)).isNull();
+    }
+
+    private String issueToken() {
+        return jwtTokenProvider.generateToken(fixtures.authentication(user, account), account.getId());
+    }
+
+    private long watermarkOf(User target) {
+        return tokenRevocationRepository.findById(target.getId()).orElseThrow().getRevokedBefore();
+    }
+
+    /**
+     * 토큰 하나로 JWT 필터를 통과시키고 SecurityContext에 들어간 인증 정보를 반환 (거부되면 null)
+     */
+    private Authentication authenticate(String token) throws Exception {
+        fixtures.logout();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/accounts/me");
+        request.addHeader("Authorization", "Bearer " + token);
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static void sleepUntil(long epochMillis) throws InterruptedException {
+        long remaining = epochMillis - System.currentTimeMillis();
+        if (remaining > 0) {
+            Thread.sleep(remaining);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.study.moneygo.service;
+
+import com.study.moneygo.account.entity.Account;
+import com.study.moneygo.support.TestFixtures;
+import com.study.moneygo.transaction.service.AccountEntryService;
+import com.study.moneygo.transaction.service.TransactionExportService;
+import com.study.moneygo.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 거래 내역 내보내기 API (비동기 스트리밍 응답, 제한 시간, 동시 실행 제한)
+ */
+@SpringBootTest
+@Import(TestFixtures.class)
+public class TransactionExportTest {
+
+    private static final int TRANSACTION_COUNT = 30;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private TransactionExportService transactionExportService;
+
+    @Autowired
+    private AccountEntryService accountEntryService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${moneygo.transaction.export.timeout-ms:3600000}")
+    private long exportTimeoutMillis;
+
+    private MockMvc mockMvc;
+    private User me;
+    private Account myAccount;
+
+    @BeforeEach
+    public void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+        fixtures.deleteAll();
+
+        me = fixtures.saveUser("me@test.com", "나");
+        myAccount = fixtures.saveAccount(me, "1001-0001-0001");
+        Account otherAccount = fixtures.saveAccount(fixtures.saveUser("other@test.com", "상대방"), "1001-0002-0002");
+
+        // 어제 보낸 / 받은 거래를 번갈아 생성
+        LocalDateTime base = LocalDate.now().atStartOfDay().minusHours(1);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < TRANSACTION_COUNT; i++) {
+            boolean sent = i % 2 == 0;
+            Timestamp createdAt = Timestamp.valueOf(base.minusMinutes(i));
+            rows.add(new Object[]{sent ? myAccount.getId() : otherAccount.getId(),
+                    sent ? otherAccount.getId() : myAccount.getId(),
+                    new BigDecimal("1000.00"), "TRANSFER", "COMPLETED", "메모 " + i, createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO transactions (from_account_id, to_account_id, amount, type, status, description, " +
+                        "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                rows);
+        accountEntryService.backfill();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        fixtures.logout();
+    }
+
+    @Test
+    @DisplayName("CSV 내보내기는 비동기로 시작되고, 설정한 제한 시간으로 스트리밍된다")
+    public void exportCsvAsync() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/transactions/export")
+                        .param("format", "csv")
+                        .with(authentication(fixtures.authentication(me, myAccount))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // 서블릿 컨테이너 기본값(30초)이 아니라 내보내기 제한 시간
+        MockAsyncContext asyncContext = (MockAsyncContext) started.getRequest().getAsyncContext();
+        assertThat(asyncContext.getTimeout()).isEqualTo(exportTimeoutMillis);
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", containsString("attachment")))
+                .andReturn();
+
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        List<String> lines = body.lines().toList();
+        assertThat(lines.get(0)).startsWith("\uFEFFtransaction_id,");
+        assertThat(lines).hasSize(TRANSACTION_COUNT + 1);
+        assertThat(body).contains("메모 0").contains("상대방");
+    }
+
+    @Test
+    @DisplayName("gzip NDJSON 내보내기는 끝까지 압축이 마무리된다")
+    public void exportGzipNdjsonAsync() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/transactions/export")
+                        .param("format", "ndjson")
+                        .param("gzip", "true")
+                        .with(authentication(fixtures.authentication(me, myAccount))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/gzip"))
+                .andReturn();
+
+        List<String> lines = gunzip(result.getResponse().getContentAsByteArray()).lines().toList();
+        assertThat(lines).hasSize(TRANSACTION_COUNT);
+        assertThat(lines).allMatch(line -> line.startsWith("{\"transactionId\":") && line.endsWith("}"));
+    }
+
+    @Test
+    @DisplayName("같은 계좌의 내보내기가 진행 중이면 409, 끝나면 다시 가능")
+    public void rejectsConcurrentExportForSameAccount() throws Exception {
+        fixtures.loginAs(me, myAccount);
+        TransactionExportService.TransactionExport running =
+                transactionExportService.prepare(null, null, "csv", false);
+
+        mockMvc.perform(get("/api/transactions/export")
+                        .with(authentication(fixtures.authentication(me, myAccount))))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isConflict());
+
+        // 진행 중이던 내보내기가 끝나면 자리가 반납됨
+        transactionExportService.write(running, new ByteArrayOutputStream());
+        MvcResult started = mockMvc.perform(get("/api/transactions/export")
+                        .with(authentication(fixtures.authentication(me, myAccount))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
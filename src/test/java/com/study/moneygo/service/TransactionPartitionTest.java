@@ -0,0 +1,210 @@
+package com.study.moneygo.service;
+
+import com.study.moneygo.account.entity.Account;
+import com.study.moneygo.support.TestFixtures;
+import com.study.moneygo.transaction.entity.Transaction;
+import com.study.moneygo.transaction.repository.TransactionPartitionRepository;
+import com.study.moneygo.transaction.repository.TransactionRepository;
+import com.study.moneygo.transaction.service.AccountEntryService;
+import com.study.moneygo.transaction.service.TransactionPartitionService;
+import com.study.moneygo.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 거래 테이블 월별 파티션 변환 + 파티션 pruning 확인 (로컬 PostgreSQL 필요)
+ * 테스트 DB의 transactions 테이블을 파티션 테이블로 변환하므로 기본 test에서는 제외한다.
+ * 실행: ./gradlew partitionTest
+ */
+@Tag("partition")
+@SpringBootTest
+@Import(TestFixtures.class)
+public class TransactionPartitionTest {
+
+    private static final int TRANSACTIONS_PER_MONTH = 50;
+
+    @Autowired
+    private TransactionPartitionService transactionPartitionService;
+
+    @Autowired
+    private TransactionPartitionRepository transactionPartitionRepository;
+
+    @Autowired
+    private AccountEntryService accountEntryService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Account myAccount;
+    private LocalDate firstMonth;
+    private LocalDate secondMonth;
+
+    @BeforeEach
+    public void setUp() {
+        fixtures.deleteAll();
+
+        transactionPartitionService.convertIfNeeded();
+        transactionPartitionService.ensureFuturePartitions();
+
+        myAccount = fixtures.saveAccount(fixtures.saveUser("me@test.com", "나"), "1001-0001-0001");
+        Account otherAccount = fixtures.saveAccount(fixtures.saveUser("other@test.com", "상대방"), "1001-0002-0002");
+
+        // 미리 만들어진 다음 달 / 다다음 달 파티션에 거래 생성
+        firstMonth = LocalDate.now().withDayOfMonth(1).plusMonths(1);
+        secondMonth = firstMonth.plusMonths(1);
+        List<Object[]> rows = new ArrayList<>();
+        for (LocalDate month : List.of(firstMonth, secondMonth)) {
+            for (int i = 0; i < TRANSACTIONS_PER_MONTH; i++) {
+                Timestamp createdAt = Timestamp.valueOf(month.plusDays(9).atStartOfDay().plusMinutes(i));
+                rows.add(new Object[]{myAccount.getId(), otherAccount.getId(), new BigDecimal("1000.00"),
+                        "TRANSFER", "COMPLETED", createdAt, createdAt});
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO transactions (from_account_id, to_account_id, amount, type, status, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                rows);
+        accountEntryService.backfill();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        // 미래 날짜 거래는 다른 테스트에 남기지 않음
+        jdbcTemplate.update("DELETE FROM account_entries");
+        jdbcTemplate.update("DELETE FROM transactions");
+    }
+
+    @Test
+    @DisplayName("변환 후 transactions는 파티션 테이블이고 앞으로의 월 파티션이 미리 생성됨")
+    public void convertsAndCreatesFuturePartitions() {
+        assertThat(transactionPartitionService.isPartitioned()).isTrue();
+        assertThat(transactionPartitionRepository.findPartitions())
+                .extracting(TransactionPartitionRepository.Partition::getName)
+                .contains(TransactionPartitionRepository.monthlyPartitionName(firstMonth),
+                        TransactionPartitionRepository.monthlyPartitionName(secondMonth));
+
+        // 다시 호출해도 변환 / 생성은 한 번만
+        assertThat(transactionPartitionService.convertIfNeeded()).isFalse();
+        assertThat(transactionPartitionService.ensureFuturePartitions()).isZero();
+    }
+
+    @Test
+    @DisplayName("명세서 조회(계좌 원장 + 거래 조인)는 해당 월 파티션만 읽음")
+    public void statementQueryPrunesPartitions() {
+        LocalDateTime start = firstMonth.atStartOfDay();
+        LocalDateTime end = firstMonth.plusMonths(1).atStartOfDay().minusSeconds(1);
+
+        String plan = explain(
+                "SELECT t.* FROM account_entries e " +
+                        "JOIN transactions t ON t.id = e.transaction_id AND t.created_at = e.created_at " +
+                        "WHERE e.account_id = ? AND e.created_at BETWEEN ? AND ? AND t.created_at BETWEEN ? AND ? " +
+                        "ORDER BY e.created_at, e.transaction_id",
+                myAccount.getId(), Timestamp.valueOf(start), Timestamp.valueOf(end),
+                Timestamp.valueOf(start), Timestamp.valueOf(end));
+
+        assertPrunedTo(plan, firstMonth);
+        assertThat(transactionRepository.findByAccountAndDateRangeList(myAccount.getId(), start, end))
+                .hasSize(TRANSACTIONS_PER_MONTH);
+    }
+
+    @Test
+    @DisplayName("보낸 거래 날짜 범위 조회는 해당 월 파티션만 읽음")
+    public void historyQueryPrunesPartitions() {
+        LocalDateTime start = secondMonth.atStartOfDay();
+        LocalDateTime end = secondMonth.plusMonths(1).atStartOfDay().minusSeconds(1);
+
+        String plan = explain(
+                "SELECT t.* FROM transactions t " +
+                        "WHERE t.from_account_id = ? AND t.created_at BETWEEN ? AND ? " +
+                        "ORDER BY t.created_at DESC, t.id DESC LIMIT 20",
+                myAccount.getId(), Timestamp.valueOf(start), Timestamp.valueOf(end));
+
+        assertPrunedTo(plan, secondMonth);
+    }
+
+    @Test
+    @DisplayName("Idempotency Key는 파티션이 달라도 전역으로 unique")
+    public void idempotencyKeyIsGloballyUnique() {
+        String sql = "INSERT INTO transactions (to_account_id, amount, type, status, idempotency_key, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)";
+        Timestamp first = Timestamp.valueOf(firstMonth.atStartOfDay());
+        Timestamp second = Timestamp.valueOf(secondMonth.atStartOfDay());
+        jdbcTemplate.update(sql, myAccount.getId(), BigDecimal.ONE, "DEPOSIT", "COMPLETED", "partition-key", first, first);
+
+        assertThatThrownBy(() -> jdbcTemplate.update(sql, myAccount.getId(), BigDecimal.ONE, "DEPOSIT", "COMPLETED",
+                "partition-key", second, second))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(transactionRepository.findByIdempotencyKey("partition-key"))
+                .map(Transaction::getAmount)
+                .hasValueSatisfying(amount -> assertThat(amount).isEqualByComparingTo(BigDecimal.ONE));
+    }
+
+    @Test
+    @DisplayName("변환 후에도 같은 Idempotency Key로 거래를 다시 저장하면 실패 (트리거 테이블이 unique 보장)")
+    public void duplicateIdempotencyKeyIsRejectedAfterConversion() {
+        assertThat(transactionPartitionService.isPartitioned()).isTrue();
+        // 파티션 테이블에서는 일반 테이블용 unique 인덱스를 만들지 않음
+        assertThat(transactionPartitionService.ensureIdempotencyKeyUnique()).isFalse();
+
+        transactionRepository.saveAndFlush(deposit("partition-jpa-key"));
+
+        assertThatThrownBy(() -> transactionRepository.saveAndFlush(deposit("partition-jpa-key")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM transactions WHERE idempotency_key = ?", Long.class, "partition-jpa-key"))
+                .isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + TransactionPartitionRepository.IDEMPOTENCY_KEY_TABLE + " WHERE idempotency_key = ?",
+                Long.class, "partition-jpa-key"))
+                .isEqualTo(1);
+    }
+
+    private Transaction deposit(String idempotencyKey) {
+        return Transaction.builder()
+                .toAccount(myAccount)
+                .amount(BigDecimal.ONE)
+                .type(Transaction.TransactionType.DEPOSIT)
+                .status(Transaction.TransactionStatus.COMPLETED)
+                .idempotencyKey(idempotencyKey)
+                .build();
+    }
+
+    private String explain(String sql, Object... params) {
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, params));
+        System.out.println(plan);
+        return plan;
+    }
+
+    private void assertPrunedTo(String plan, LocalDate month) {
+        assertThat(plan).contains(TransactionPartitionRepository.monthlyPartitionName(month));
+        for (TransactionPartitionRepository.Partition partition : transactionPartitionRepository.findPartitions()) {
+            if (!partition.getName().equals(TransactionPartitionRepository.monthlyPartitionName(month))) {
+                assertThat(plan).doesNotContain(partition.getName() + " ");
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.study.moneygo.service;
+
+import com.study.moneygo.account.entity.Account;
+import com.study.moneygo.support.TestFixtures;
+import com.study.moneygo.transaction.dto.response.TransactionResponse;
+import com.study.moneygo.transaction.service.AccountEntryService;
+import com.study.moneygo.transaction.service.TransactionService;
+import com.study.moneygo.user.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래 내역 목록 조회 시 페이지 크기와 관계없이 쿼리 수가 일정한지 확인 (N+1 방지)
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(TestFixtures.class)
+public class TransactionQueryCountTest {
+
+    private static final int COUNTERPARTY_COUNT = 5;
+    private static final int TRANSACTION_COUNT = 60;
+    private static final int[] PAGE_SIZES = {5, 20, 50};
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountEntryService accountEntryService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        fixtures.deleteAll();
+
+        User me = fixtures.saveUser("me@test.com", "나");
+        Account myAccount = fixtures.saveAccount(me, "1001-0000-0000");
+
+        // 상대방마다 계좌 / 사용자가 달라야 지연 로딩 시 행마다 추가 쿼리가 발생
+        List<Account> counterparties = new ArrayList<>();
+        for (int i = 1; i <= COUNTERPARTY_COUNT; i++) {
+            User other = fixtures.saveUser("other" + i + "@test.com", "상대방" + i);
+            counterparties.add(fixtures.saveAccount(other, "1001-0000-000" + i));
+        }
+
+        // 보낸 / 받은 / 충전 거래를 섞어서 생성
+        LocalDateTime base = LocalDateTime.now().minusHours(1);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < TRANSACTION_COUNT; i++) {
+            Long counterpartyId = counterparties.get(i % COUNTERPARTY_COUNT).getId();
+            Long fromAccountId = switch (i % 3) {
+                case 0 -> myAccount.getId();
+                case 1 -> counterpartyId;
+                default -> null;
+            };
+            Long toAccountId = i % 3 == 0 ? counterpartyId : myAccount.getId();
+            Timestamp createdAt = Timestamp.valueOf(base.minusSeconds(i));
+            rows.add(new Object[]{fromAccountId, toAccountId, new BigDecimal("1000.00"),
+                    fromAccountId == null ? "DEPOSIT" : "TRANSFER", "COMPLETED", createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO transactions (from_account_id, to_account_id, amount, type, status, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                rows);
+        // 직접 넣은 거래의 계좌 원장 생성
+        accountEntryService.backfill();
+
+        fixtures.loginAs(me, myAccount);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        fixtures.logout();
+    }
+
+    @Test
+    @DisplayName("전체 거래 내역 페이지 조회는 페이지 크기와 관계없이 목록 1번 + COUNT 1번")
+    public void getTransactionsQueryCountIsConstant() {
+        for (int size : PAGE_SIZES) {
+            long queries = countQueries(() -> transactionService.getTransactions(null, null, null, page(size)).getContent());
+            assertThat(queries).as("page size %d", size).isEqualTo(2);
+        }
+
+        // 상대방 이름 / 계좌번호는 projection에서 바로 채워짐
+        List<TransactionResponse> content = transactionService.getTransactions(null, null, null, page(10)).getContent();
+        assertThat(content).allSatisfy(response -> {
+            assertThat(response.getCounterpartyName()).isNotNull();
+            assertThat(response.getToAccount()).isNotNull();
+        });
+    }
+
+    @Test
+    @DisplayName("보낸 / 받은 거래 페이지 조회도 쿼리 수가 일정")
+    public void getSentAndReceivedQueryCountIsConstant() {
+        for (int size : PAGE_SIZES) {
+            assertThat(countQueries(() -> transactionService.getTransactions("SENT", null, null, page(size)).getContent()))
+                    .as("SENT page size %d", size).isLessThanOrEqualTo(2);
+            assertThat(countQueries(() -> transactionService.getTransactions("RECEIVED", null, null, page(size)).getContent()))
+                    .as("RECEIVED page size %d", size).isLessThanOrEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("필터 조회는 페이지 크기와 관계없이 목록 1번 + COUNT 1번")
+    public void getFilteredTransactionsQueryCountIsConstant() {
+        for (int size : PAGE_SIZES) {
+            long queries = countQueries(() -> transactionService.getFilteredTransactions(null, null, null, page(size)).getContent());
+            assertThat(queries).as("page size %d", size).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("커서 조회는 계좌 원장 seek 1번 (COUNT 없음)")
+    public void getTransactionsByCursorQueryCountIsConstant() {
+        for (int size : PAGE_SIZES) {
+            long queries = countQueries(() -> transactionService.getTransactionsByCursor(null, null, null, null, null, size).getContent());
+            assertThat(queries).as("page size %d", size).isEqualTo(1);
+        }
+    }
+
+    private long countQueries(Supplier<List<TransactionResponse>> query) {
+        statistics.clear();
+        assertThat(query.get()).isNotEmpty();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private PageRequest page(int size) {
+        return PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+    }
+}
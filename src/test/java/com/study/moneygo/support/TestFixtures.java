@@ -0,0 +1,116 @@
+package com.study.moneygo.support;
+
+import com.study.moneygo.account.entity.Account;
+import com.study.moneygo.account.repository.AccountRepository;
+import com.study.moneygo.user.entity.User;
+import com.study.moneygo.user.repository.UserRepository;
+import com.study.moneygo.util.security.AuthenticatedUser;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 통합 테스트 공통 데이터 준비 / 정리
+ * 테스트 클래스에서 @Import(TestFixtures.class) 후 주입받아 사용한다.
+ * 테이블이 추가되면 DELETE_ORDER에만 넣으면 된다.
+ */
+@TestComponent
+public class TestFixtures {
+
+    // FK 방향을 고려한 삭제 순서 (참조하는 쪽 먼저)
+    private static final List<String> DELETE_ORDER = List.of(
+            "notification_outbox",
+            "notification",
+            "notification_settings",
+            "favorites",
+            "qr_payments",
+            "scheduled_transfers",
+            "account_entries",
+            "hot_account_credits",
+            "transactions",
+            "transfer_limits",
+            "token_revocations",
+            "payment_authorizations",
+            "accounts",
+            "users"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final AccountRepository accountRepository;
+
+    public TestFixtures(JdbcTemplate jdbcTemplate, UserRepository userRepository, AccountRepository accountRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRepository = userRepository;
+        this.accountRepository = accountRepository;
+    }
+
+    /**
+     * 모든 테스트 데이터 삭제
+     */
+    public void deleteAll() {
+        for (String table : DELETE_ORDER) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+    }
+
+    /**
+     * 기본값이 채워진 활성 사용자 (비밀번호 등은 필요한 테스트에서 덮어씀)
+     */
+    public User.UserBuilder user(String email, String name) {
+        return User.builder()
+                .email(email)
+                .password("unused")
+                .name(name)
+                .status(User.UserStatus.ACTIVE)
+                .failedLoginAttempts(0)
+                .failedSimplePasswordAttempts(0);
+    }
+
+    public User saveUser(String email, String name) {
+        return saveUser(user(email, name));
+    }
+
+    public User saveUser(User.UserBuilder user) {
+        return userRepository.save(user.build());
+    }
+
+    public Account saveAccount(User user, String accountNumber) {
+        return saveAccount(user, accountNumber, BigDecimal.ZERO);
+    }
+
+    public Account saveAccount(User user, String accountNumber, BigDecimal balance) {
+        return accountRepository.save(Account.builder()
+                .user(user)
+                .accountNumber(accountNumber)
+                .balance(balance)
+                .status(Account.AccountStatus.ACTIVE)
+                .build());
+    }
+
+    /**
+     * 현재 스레드를 해당 사용자로 로그인 (JwtAuthenticationFilter가 넣는 것과 같은 principal)
+     */
+    public void loginAs(User user, Account account) {
+        SecurityContextHolder.getContext().setAuthentication(authentication(user, account));
+    }
+
+    /**
+     * MockMvc 요청용 인증 정보 (.with(authentication(...)))
+     */
+    public Authentication authentication(User user, Account account) {
+        AuthenticatedUser principal = new AuthenticatedUser(user.getId(), account.getId(), user.getEmail(), null,
+                true, true, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    public void logout() {
+        SecurityContextHolder.clearContext();
+    }
+}
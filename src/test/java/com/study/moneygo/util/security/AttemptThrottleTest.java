@@ -0,0 +1,235 @@
+package com.study.moneygo.util.security;
+
+import com.study.moneygo.exception.TooManyAttemptsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 실패 횟수 제한 (슬라이딩 윈도우 / 클라이언트 IP) 단위 테스트
+ * 시각은 clock으로 직접 움직인다 (윈도우 60초, 버킷 10초).
+ */
+public class AttemptThrottleTest {
+
+    private static final long WINDOW_MILLIS = 60_000;
+    private static final int BUCKET_COUNT = 6;
+    private static final int MAX_PER_SUBJECT = 5;
+    private static final int MAX_PER_IP = 3;
+    private static final String PROXY = "10.0.0.1";
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    @AfterEach
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("대상 기준 실패가 정확히 한도에 도달하면 거절")
+    public void rejectsAtExactlySubjectLimit() {
+        AttemptThrottle throttle = throttle(MAX_PER_SUBJECT, 0);
+
+        for (int i = 0; i < MAX_PER_SUBJECT - 1; i++) {
+            throttle.recordFailure(AttemptThrottle.LOGIN, "me@test.com");
+        }
+        assertThatCode(() -> throttle.checkAllowed(AttemptThrottle.LOGIN, "me@test.com")).doesNotThrowAnyException();
+
+        throttle.recordFailure(AttemptThrottle.LOGIN, "me@test.com");
+        assertThatThrownBy(() -> throttle.checkAllowed(AttemptThrottle.LOGIN, "me@test.com"))
+                .isInstanceOf(TooManyAttemptsException.class);
+        // 다른 대상 / 다른 action은 영향 없음
+        assertThatCode(() -> throttle.checkAllowed(AttemptThrottle.LOGIN, "other@test.com")).doesNotThrowAnyException();
+        assertThatCode(() -> throttle.checkAllowed(AttemptThrottle.SIMPLE_PASSWORD, "me@test.com")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("윈도우가 지나면 오래된 버킷의 실패부터 빠짐")
+    public void windowRollsOver() {
+        AttemptThrottle throttle = throttle(MAX_PER_SUBJECT, 0);
+
+        // 0초에 3건, 30초에 2건 -> 한도 도달
+        for (int i = 0; i < 3; i++) {
+            throttle.recordFailure(AttemptThrottle.LOGIN, "me@test.com");
+        }
+        now.addAndGet(30_000);
+        for (int i = 0; i < 2; i++) {
+            throttle.recordFailure(AttemptThrottle.LOGIN, "me@test.com");
+        }
+        assertThatThrownBy(() -> throttle.checkAllowed(AttemptThrottle.LOGIN, "me@test.com"))
+                .isInstanceOf(TooManyAttemptsException.class);
+
+        // 60초: 0초 버킷만 빠지고 30초 버킷 2건은 남음
+        now.addAndGet(30_000);
+        assertThatCode(() -> throttle.checkAllowed(AttemptThrottle.LOGIN, "me@test.com")).doesNotThrowAnyException();
+        for (int i = 0; i < 2; i++) {
+            throttle.recordFailure(AttemptThrottle.LOGIN, "me@test.com");
+        }
+        assertThatCode(() -> throttle.checkAllowed(AttemptThrottle.LOGIN, "me@test.com")).doesNotThrowAnyException();
+        throttle.recordFailure(AttemptThrottle.LOGIN, "me@test.com");
+        assertThatThrownBy(() -> throttle.checkAllowed(AttemptThrottle.LOGIN, "me@test.com"))
+                .isInstanceOf(TooManyAttemptsException.class);
+
+        // 윈도우 전체가 지나면 정리 대상
+        now.addAndGet(WINDOW_MILLIS);
+        assertThatCode(() -> throttle.checkAllowed(AttemptThrottle.LOGIN, "me@test.com")).doesNotThrowAnyException();
+        assertThat(throttle.evictIdle()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 버킷에 동시에 기록해도 실패 횟수가 사라지지 않음")
+    public void concurrentIncrementsAreNotLost() throws InterruptedException {
+        int threadCnt = 16;
+        int incrementsPerThread = 1_000;
+        AttemptThrottle.SlidingWindow window = new AttemptThrottle.SlidingWindow(BUCKET_COUNT);
+
+        runConcurrently(threadCnt, thread -> {
+            for (int i = 0; i < incrementsPerThread; i++) {
+                window.increment(100);
+            }
+        });
+
+        assertThat(window.sum(100, BUCKET_COUNT)).isEqualTo(threadCnt * incrementsPerThread);
+    }
+
+    @Test
+    @DisplayName("버킷이 바뀌는 순간 동시에 기록해도 새 버킷 실패 횟수는 줄지 않음 (fail closed)")
+    public void concurrentRolloverFailsClosed() throws InterruptedException {
+        int threadCnt = 16;
+        int incrementsPerThread = 1_000;
+        // 버킷 1개: 다음 번호가 들어오면 같은 칸을 0부터 다시 셈
+        AttemptThrottle.SlidingWindow window = new AttemptThrottle.SlidingWindow(1);
+        window.increment(100);
+
+        // 절반은 이전 버킷(100), 절반은 새 버킷(101)에 기록
+        runConcurrently(threadCnt, thread -> {
+            long epoch = thread % 2 == 0 ? 100 : 101;
+            for (int i = 0; i < incrementsPerThread; i++) {
+                window.increment(epoch);
+            }
+        });
+
+        assertThat(window.sum(101, 1)).isGreaterThanOrEqualTo(threadCnt / 2 * incrementsPerThread);
+        assertThat(window.sum(101, 1)).isLessThanOrEqualTo(threadCnt * incrementsPerThread + 1);
+    }
+
+    @Test
+    @DisplayName("IP 기준 한도는 실패에만 적용 - 같은 IP의 다른 사용자는 시도 가능")
+    public void ipLimitAppliesToFailuresOnly() {
+        AttemptThrottle throttle = throttle(MAX_PER_SUBJECT, MAX_PER_IP);
+        bindRequest("203.0.113.7", null);
+
+        for (int i = 0; i < MAX_PER_IP; i++) {
+            throttle.recordFailure(AttemptThrottle.LOGIN, "user" + i + "@test.com");
+        }
+        // 한도를 넘는 실패는 429
+        assertThatThrownBy(() -> throttle.recordFailure(AttemptThrottle.LOGIN, "next@test.com"))
+                .isInstanceOf(TooManyAttemptsException.class);
+        // 비밀번호 비교 전 확인은 대상 기준만
+        assertThatCode(() -> throttle.checkAllowed(AttemptThrottle.LOGIN, "someone@test.com")).doesNotThrowAnyException();
+
+        // 다른 IP는 영향 없음
+        bindRequest("203.0.113.8", null);
+        assertThatCode(() -> throttle.recordFailure(AttemptThrottle.LOGIN, "next@test.com")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("max-failures-per-ip가 0이면 IP 기준 제한 없음")
+    public void ipLimitCanBeDisabled() {
+        AttemptThrottle throttle = throttle(MAX_PER_SUBJECT, 0);
+        bindRequest("203.0.113.7", null);
+
+        assertThatCode(() -> {
+            for (int i = 0; i < 100; i++) {
+                throttle.recordFailure(AttemptThrottle.LOGIN, "user" + i + "@test.com");
+            }
+        }).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("신뢰하는 프록시에서 온 요청만 X-Forwarded-For 사용")
+    public void resolvesClientIpBehindTrustedProxy() {
+        AttemptThrottle throttle = throttle(MAX_PER_SUBJECT, MAX_PER_IP);
+
+        // 프록시가 아닌 곳에서 보낸 헤더는 무시 (위조 방지)
+        assertThat(throttle.clientIpOf(request("198.51.100.1", "203.0.113.7"))).isEqualTo("198.51.100.1");
+        // 프록시 뒤: 오른쪽부터 처음 나오는 신뢰하지 않는 주소
+        assertThat(throttle.clientIpOf(request(PROXY, "1.2.3.4, 203.0.113.7"))).isEqualTo("203.0.113.7");
+        assertThat(throttle.clientIpOf(request(PROXY, "203.0.113.7, " + PROXY))).isEqualTo("203.0.113.7");
+        // 헤더가 없으면 접속 주소
+        assertThat(throttle.clientIpOf(request(PROXY, null))).isEqualTo(PROXY);
+    }
+
+    @Test
+    @DisplayName("프록시 뒤의 서로 다른 클라이언트는 IP 기준 실패를 따로 셈")
+    public void ipLimitUsesForwardedClientIp() {
+        AttemptThrottle throttle = throttle(MAX_PER_SUBJECT, MAX_PER_IP);
+
+        bindRequest(PROXY, "203.0.113.7");
+        for (int i = 0; i < MAX_PER_IP; i++) {
+            throttle.recordFailure(AttemptThrottle.LOGIN, "user" + i + "@test.com");
+        }
+        assertThatThrownBy(() -> throttle.recordFailure(AttemptThrottle.LOGIN, "next@test.com"))
+                .isInstanceOf(TooManyAttemptsException.class);
+
+        bindRequest(PROXY, "203.0.113.8");
+        assertThatCode(() -> throttle.recordFailure(AttemptThrottle.LOGIN, "next@test.com")).doesNotThrowAnyException();
+    }
+
+    private AttemptThrottle throttle(int maxPerSubject, int maxPerIp) {
+        return new AttemptThrottle(new SimpleMeterRegistry(), WINDOW_MILLIS, BUCKET_COUNT,
+                maxPerSubject, maxPerIp, List.of(PROXY), now::get);
+    }
+
+    private void bindRequest(String remoteAddr, String forwardedFor) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request(remoteAddr, forwardedFor)));
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+
+    private static void runConcurrently(int threadCnt, ThreadTask task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCnt);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(threadCnt);
+        for (int i = 0; i < threadCnt; i++) {
+            int thread = i;
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    task.run(thread);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        doneLatch.await();
+        executorService.shutdown();
+    }
+
+    private interface ThreadTask {
+        void run(int thread);
+    }
+}
@@ -0,0 +1,70 @@
+package com.study.moneygo.util.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 비밀번호 해시 형식 / 설정 변경 시 재해시 대상 판단 단위 테스트
+ */
+public class PasswordEncoderFactoryTest {
+
+    private static final String RAW = "password1!";
+
+    @Test
+    @DisplayName("PBKDF2 반복 횟수가 바뀌면 예전 해시도 검증되고 재해시 대상")
+    public void pbkdf2IterationChangeTriggersUpgrade() {
+        PasswordEncoder before = PasswordEncoderFactory.create(PasswordEncoderFactory.PBKDF2, 4, 1000);
+        PasswordEncoder after = PasswordEncoderFactory.create(PasswordEncoderFactory.PBKDF2, 4, 2000);
+
+        String stored = before.encode(RAW);
+        assertThat(stored).startsWith("{pbkdf2@1000}");
+        assertThat(before.upgradeEncoding(stored)).isFalse();
+
+        assertThat(after.matches(RAW, stored)).isTrue();
+        assertThat(after.matches("wrong", stored)).isFalse();
+        assertThat(after.upgradeEncoding(stored)).isTrue();
+
+        String rehashed = after.encode(RAW);
+        assertThat(rehashed).startsWith("{pbkdf2@2000}");
+        assertThat(after.upgradeEncoding(rehashed)).isFalse();
+    }
+
+    @Test
+    @DisplayName("반복 횟수 없는 예전 {pbkdf2} 해시는 현재 반복 횟수로 검증하고 재해시 대상")
+    public void legacyPbkdf2IdStillMatches() {
+        PasswordEncoder encoder = PasswordEncoderFactory.create(PasswordEncoderFactory.PBKDF2, 4, 1000);
+        String stored = encoder.encode(RAW).replace("{pbkdf2@1000}", "{pbkdf2}");
+
+        assertThat(encoder.matches(RAW, stored)).isTrue();
+        assertThat(encoder.upgradeEncoding(stored)).isTrue();
+    }
+
+    @Test
+    @DisplayName("BCrypt strength가 오르거나 접두어 없는 해시면 재해시 대상")
+    public void bcryptStrengthAndUnprefixedHash() {
+        PasswordEncoder encoder = PasswordEncoderFactory.create(PasswordEncoderFactory.BCRYPT, 5, 1000);
+
+        String weaker = PasswordEncoderFactory.create(PasswordEncoderFactory.BCRYPT, 4, 1000).encode(RAW);
+        assertThat(encoder.matches(RAW, weaker)).isTrue();
+        assertThat(encoder.upgradeEncoding(weaker)).isTrue();
+        assertThat(encoder.upgradeEncoding(encoder.encode(RAW))).isFalse();
+
+        String unprefixed = new BCryptPasswordEncoder(5).encode(RAW);
+        assertThat(encoder.matches(RAW, unprefixed)).isTrue();
+        assertThat(encoder.upgradeEncoding(unprefixed)).isTrue();
+    }
+
+    @Test
+    @DisplayName("알고리즘을 바꿔도 예전 알고리즘 해시를 검증하고 재해시 대상")
+    public void algorithmChangeTriggersUpgrade() {
+        String bcryptHash = PasswordEncoderFactory.create(PasswordEncoderFactory.BCRYPT, 4, 1000).encode(RAW);
+        PasswordEncoder pbkdf2 = PasswordEncoderFactory.create(PasswordEncoderFactory.PBKDF2, 4, 1000);
+
+        assertThat(pbkdf2.matches(RAW, bcryptHash)).isTrue();
+        assertThat(pbkdf2.upgradeEncoding(bcryptHash)).isTrue();
+    }
+}
@@ -0,0 +1,69 @@
+package com.study.moneygo.util.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인증 사용자 캐시 (uid claim이 없는 예전 토큰용) 단위 테스트
+ */
+public class UserPrincipalCacheTest {
+
+    private static final String EMAIL = "me@test.com";
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Function<String, UserDetails> loader = email -> {
+        loads.incrementAndGet();
+        return new AuthenticatedUser(1L, null, email, "encoded", true, true,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    };
+
+    @Test
+    @DisplayName("두 번째 조회부터는 DB 조회 없이 캐시에서 반환하고 hit / miss를 집계")
+    public void cachesUntilInvalidated() {
+        UserPrincipalCache cache = new UserPrincipalCache(new SimpleMeterRegistry(), 100, 60_000);
+
+        cache.get(EMAIL, loader);
+        cache.get(EMAIL, loader);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+
+        // 잠금 / 비밀번호 변경 등으로 무효화되면 다시 조회
+        cache.invalidate(EMAIL);
+        cache.get(EMAIL, loader);
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 다시 조회")
+    public void expiresAfterTtl() {
+        UserPrincipalCache cache = new UserPrincipalCache(new SimpleMeterRegistry(), 100, 0);
+
+        cache.get(EMAIL, loader);
+        cache.get(EMAIL, loader);
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.getHitCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 안 쓴 항목부터 제거")
+    public void evictsLeastRecentlyUsed() {
+        UserPrincipalCache cache = new UserPrincipalCache(new SimpleMeterRegistry(), 1, 60_000);
+
+        cache.get(EMAIL, loader);
+        cache.get("other@test.com", loader);
+        cache.get(EMAIL, loader);
+        assertThat(loads.get()).isEqualTo(3);
+    }
+}